@@ -0,0 +1,76 @@
+// 뉴스 API 부하 테스트 (/play, /recommendations)
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform loadtest/k6/news-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const RATE = parseInt(__ENV.RATE || '100', 10);       // 시나리오별 초당 요청 수
+const DURATION = __ENV.DURATION || '2m';
+
+const playLatency = new Trend('play_latency', true);
+const recommendationLatency = new Trend('recommendation_latency', true);
+
+export const options = {
+  scenarios: {
+    play: {
+      executor: 'constant-arrival-rate',
+      exec: 'play',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: RATE * 5,
+      maxVUs: RATE * 20,
+    },
+    recommendations: {
+      executor: 'constant-arrival-rate',
+      exec: 'recommendations',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: RATE * 2,
+      maxVUs: RATE * 10,
+    },
+  },
+  tags: { mode: MODE },
+  thresholds: {
+    'http_req_failed{scenario:play}': ['rate<0.01'],
+    'http_req_failed{scenario:recommendations}': ['rate<0.01'],
+  },
+};
+
+export function play() {
+  const res = http.post(
+    `${BASE_URL}/api/v1/news/play`,
+    JSON.stringify({ topic: '경제', scriptLength: 'SHORT' }),
+    { headers: { 'Content-Type': 'application/json' }, timeout: '60s' },
+  );
+  playLatency.add(res.timings.duration);
+  check(res, { 'play 200': (r) => r.status === 200 });
+}
+
+export function recommendations() {
+  const id = Math.floor(Math.random() * 1000);
+  const res = http.post(
+    `${BASE_URL}/api/v1/news/recommendations`,
+    {
+      title: `부하 테스트 뉴스 ${id}`,
+      description: '부하 테스트용 뉴스 본문',
+      publisher: '뉴스',
+      link: `https://n.news.naver.com/loadtest/${id}`,
+    },
+    { timeout: '60s' },
+  );
+  recommendationLatency.add(res.timings.duration);
+  check(res, { 'recommendations 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+  return {
+    [`/results/summary-${MODE}.json`]: JSON.stringify(data, null, 2),
+    stdout: `\n[${MODE}] play p95=${data.metrics.play_latency.values['p(95)']}ms, `
+      + `recommendations p95=${data.metrics.recommendation_latency.values['p(95)']}ms, `
+      + `total req/s=${data.metrics.http_reqs.values.rate}\n`,
+  };
+}
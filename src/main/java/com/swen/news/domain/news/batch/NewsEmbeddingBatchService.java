@@ -4,103 +4,234 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.swen.news.domain.news.dto.NewsItem;
 import com.swen.news.domain.news.dto.NewsSearchRequest;
-import com.swen.news.domain.news.service.EmbeddingService;
+import com.swen.news.domain.news.entity.NewsCollectionWatermark;
+import com.swen.news.domain.news.repository.NewsCollectionWatermarkRepository;
 import com.swen.news.domain.news.service.NewsService;
-import lombok.RequiredArgsConstructor;
+import com.swen.news.global.lock.SchedulerLock;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 뉴스 임베딩 배치 작업 서비스
+ *
+ * <p>키워드별 워터마크(마지막으로 수집한 기사의 발행 시각/링크)를 저장해 두고,
+ * 매 실행마다 워터마크 이후 발행된 기사만 최신순으로 페이지를 넘기며 수집합니다.
+ *
+ * <p>워터마크는 실제로 저장됐거나 이미 저장돼 있던 기사까지만 옮깁니다. 파이프라인에서 실패한 기사가 있으면
+ * 그보다 오래된 기사까지만, 페이지 한도 안에서 기존 워터마크에 닿지 못한 키워드는 옮기지 않습니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NewsEmbeddingBatchService {
 
+    /**
+     * 네이버 뉴스 검색 API의 start 최댓값
+     */
+    private static final int MAX_SEARCH_START = 1000;
+
+    private static final String LOCK_NAME = "news-embedding-batch";
+
     private final NewsService newsService;
-    private final EmbeddingService embeddingService;
+    private final NewsEmbeddingPipeline newsEmbeddingPipeline;
+    private final NewsCollectionWatermarkRepository watermarkRepository;
+    private final SchedulerLock schedulerLock;
     private final ObjectMapper objectMapper;
 
+    private final int pageSize;
+    private final int maxPages;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+
+    public NewsEmbeddingBatchService(NewsService newsService,
+                                     NewsEmbeddingPipeline newsEmbeddingPipeline,
+                                     NewsCollectionWatermarkRepository watermarkRepository,
+                                     SchedulerLock schedulerLock,
+                                     ObjectMapper objectMapper,
+                                     @Value("${embedding-batch.collection.page-size:30}") int pageSize,
+                                     @Value("${embedding-batch.collection.max-pages:5}") int maxPages,
+                                     @Value("${scheduler.news-embedding.lock.at-most-for-minutes:60}") long lockAtMostForMinutes,
+                                     @Value("${scheduler.news-embedding.lock.at-least-for-minutes:5}") long lockAtLeastForMinutes) {
+        this.newsService = newsService;
+        this.newsEmbeddingPipeline = newsEmbeddingPipeline;
+        this.watermarkRepository = watermarkRepository;
+        this.schedulerLock = schedulerLock;
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.lockAtMostFor = Duration.ofMinutes(lockAtMostForMinutes);
+        this.lockAtLeastFor = Duration.ofMinutes(lockAtLeastForMinutes);
+    }
+
     /**
      * 최신 뉴스를 수집하여 임베딩 생성 (스케줄러용)
+     *
+     * <p>여러 레플리카에서 동시에 호출되어도 스케줄 락을 얻은 한 곳에서만 실행됩니다.
      */
     @Async("embeddingTaskExecutor")
     public void collectAndEmbedLatestNews() {
         try {
-            log.info("최신 뉴스 임베딩 배치 작업 시작");
-
-            // 인기 키워드들로 뉴스 수집
-            String[] keywords = {
-                "최신", "정부", "경제", "기술", "사회", "문화", "스포츠", 
-                "정치", "국제", "증시", "부동산", "교육", "과학", "환경"
-            };
-
-            int totalProcessed = 0;
-            int totalSuccess = 0;
-
-            for (String keyword : keywords) {
-                try {
-                    List<NewsItem> newsItems = collectNewsByKeyword(keyword, 10);
-                    
-                    for (NewsItem newsItem : newsItems) {
-                        try {
-                            embeddingService.saveNewsEmbedding(newsItem);
-                            totalSuccess++;
-                            
-                            // API 호출 제한을 위한 딜레이 (스케줄러에서는 더 긴 딜레이)
-                            Thread.sleep(2000);
-                            
-                        } catch (Exception e) {
-                            log.warn("뉴스 임베딩 저장 실패: {}", newsItem.getTitle(), e);
-                        }
-                        totalProcessed++;
+            schedulerLock.executeWithLock(LOCK_NAME, lockAtMostFor, lockAtLeastFor, this::runEmbeddingBatch);
+        } catch (Exception e) {
+            log.error("뉴스 임베딩 배치 작업 중 전체 오류 발생", e);
+        }
+    }
+
+    private void runEmbeddingBatch() {
+        log.info("최신 뉴스 임베딩 배치 작업 시작");
+
+        // 인기 키워드들로 뉴스 수집
+        String[] keywords = {
+            "최신", "정부", "경제", "기술", "사회", "문화", "스포츠", 
+            "정치", "국제", "증시", "부동산", "교육", "과학", "환경"
+        };
+
+        Map<String, NewsCollectionWatermark> watermarks = watermarkRepository.findAllById(List.of(keywords)).stream()
+            .collect(Collectors.toMap(NewsCollectionWatermark::getKeyword, Function.identity()));
+        Map<String, List<NewsItem>> completedByKeyword = new ConcurrentHashMap<>();
+        Set<String> undatedLinks = ConcurrentHashMap.newKeySet();
+
+        // 수집 → 중복 제거 → 임베딩 → 저장 단계를 큐로 연결하여 겹쳐서 실행
+        NewsEmbeddingPipeline.PipelineResult result = newsEmbeddingPipeline.run(
+            List.of(keywords),
+            keyword -> collectNewsSinceWatermark(keyword, watermarks.get(keyword), completedByKeyword, undatedLinks));
+
+        // 단계가 예외로 끝나면 run()이 예외를 던지므로 여기까지 오면 수집한 기사는 모두 저장/중복/실패 중 하나로 처리됨
+        int advanced = advanceWatermarks(watermarks, completedByKeyword, result.failedLinks(), undatedLinks);
+
+        log.info("최신 뉴스 임베딩 배치 작업 완료 - 수집: {}건, 신규: {}건, 임베딩: {}건, 저장: {}건, 실패: {}건, 워터마크 갱신: {}개",
+            result.fetched(), result.unsaved(), result.embedded(), result.saved(), result.failed(), advanced);
+    }
+
+    /**
+     * 워터마크 이후 발행된 뉴스를 최신순으로 페이지를 넘기며 수집
+     *
+     * <p>워터마크가 없는 키워드(첫 실행)는 첫 페이지만 수집합니다.
+     * 기존 워터마크(또는 마지막 페이지)까지 빠짐없이 조회한 경우에만 수집 목록을 completedByKeyword에 기록하고,
+     * pubDate를 해석하지 못한 기사의 링크는 undatedLinks에 모읍니다.
+     */
+    private List<NewsItem> collectNewsSinceWatermark(String keyword, NewsCollectionWatermark watermark,
+                                                     Map<String, List<NewsItem>> completedByKeyword,
+                                                     Set<String> undatedLinks) {
+        List<NewsItem> collected = new ArrayList<>();
+        int pages = watermark == null ? 1 : maxPages;
+        boolean complete = watermark == null;
+        try {
+            for (int page = 0; page < pages; page++) {
+                int start = page * pageSize + 1;
+                if (start > MAX_SEARCH_START) {
+                    break;
+                }
+                List<NewsItem> items = searchLatestNews(keyword, start, undatedLinks);
+
+                boolean reachedWatermark = false;
+                for (NewsItem item : items) {
+                    if (watermark != null && !watermark.isNewer(item.getPubDate(), item.getLink())) {
+                        reachedWatermark = true;
+                        break;
                     }
-                    
-                    log.info("키워드 '{}' 처리 완료: {}건", keyword, newsItems.size());
-                    
-                } catch (Exception e) {
-                    log.error("키워드 '{}' 처리 중 오류 발생", keyword, e);
+                    collected.add(item);
+                }
+                if (reachedWatermark || items.size() < pageSize) {
+                    complete = true;
+                    break;
                 }
             }
-
-            log.info("최신 뉴스 임베딩 배치 작업 완료 - 처리: {}건, 성공: {}건", totalProcessed, totalSuccess);
-
         } catch (Exception e) {
-            log.error("뉴스 임베딩 배치 작업 중 전체 오류 발생", e);
+            // 일부 페이지를 놓쳤으므로 수집한 기사는 처리하되 워터마크는 옮기지 않음
+            log.error("키워드 '{}' 뉴스 수집 실패 - {}건까지 수집", keyword, collected.size(), e);
+            return collected;
         }
+
+        if (complete) {
+            completedByKeyword.put(keyword, collected);
+        } else {
+            // 워터마크와 이번 수집분 사이에 놓친 기사가 있을 수 있으므로 워터마크를 그대로 둠
+            log.warn("키워드 '{}' 페이지 한도 안에서 기존 워터마크에 닿지 못함 - 워터마크 유지", keyword);
+        }
+        log.info("키워드 '{}' 신규 뉴스 수집 완료: {}건", keyword, collected.size());
+        return collected;
     }
 
     /**
-     * 특정 키워드로 뉴스 수집
+     * 키워드 최신순 검색 결과 한 페이지 조회
      */
-    private List<NewsItem> collectNewsByKeyword(String keyword, int count) {
-        try {
-            NewsSearchRequest request = NewsSearchRequest.builder()
-                .query(keyword)
-                .display(count)
-                .start(1)
-                .sort("date")
-                .build();
+    private List<NewsItem> searchLatestNews(String keyword, int start, Set<String> undatedLinks) {
+        NewsSearchRequest request = NewsSearchRequest.builder()
+            .query(keyword)
+            .display(pageSize)
+            .start(start)
+            .sort("date")
+            .build();
 
-            String newsJson = newsService.searchNews(request);
-            return parseNewsItems(newsJson);
+        String newsJson = newsService.searchNews(request);
+        return parseNewsItems(newsJson, undatedLinks);
+    }
 
-        } catch (Exception e) {
-            log.error("키워드 '{}' 뉴스 수집 실패", keyword, e);
-            return new ArrayList<>();
+    /**
+     * 키워드별 워터마크를 이번 실행에서 저장이 확인된 기사까지 이동
+     *
+     * @return 워터마크를 갱신한 키워드 수
+     */
+    private int advanceWatermarks(Map<String, NewsCollectionWatermark> watermarks,
+                                  Map<String, List<NewsItem>> completedByKeyword,
+                                  Set<String> failedLinks, Set<String> undatedLinks) {
+        List<NewsCollectionWatermark> updated = new ArrayList<>(completedByKeyword.size());
+        completedByKeyword.forEach((keyword, items) ->
+            watermarkTarget(items, failedLinks, undatedLinks).ifPresent(target -> {
+                NewsCollectionWatermark watermark = watermarks.get(keyword);
+                if (watermark == null) {
+                    watermark = new NewsCollectionWatermark(keyword, target.getPubDate(), target.getLink());
+                } else {
+                    watermark.advance(target.getPubDate(), target.getLink());
+                }
+                updated.add(watermark);
+            }));
+        if (!updated.isEmpty()) {
+            watermarkRepository.saveAll(updated);
         }
+        return updated.size();
+    }
+
+    /**
+     * 워터마크를 옮길 기사 선택
+     *
+     * <p>items는 최신순입니다. 실패한 기사는 다음 실행에서 다시 수집되어야 하므로 가장 오래된 실패 기사보다
+     * 뒤(더 오래된 쪽)에 있는 기사 중에서, 발행 시각을 알 수 있는 가장 최근 기사를 고릅니다.
+     *
+     * @param items 키워드 수집 목록 (최신순)
+     * @param failedLinks 파이프라인에서 저장하지 못한 링크
+     * @param undatedLinks pubDate를 해석하지 못한 링크 (발행 시각이 현재 시각으로 채워져 있음)
+     * @return 워터마크로 쓸 기사, 없으면 empty
+     */
+    static Optional<NewsItem> watermarkTarget(List<NewsItem> items, Set<String> failedLinks, Set<String> undatedLinks) {
+        int lastFailed = -1;
+        for (int i = 0; i < items.size(); i++) {
+            if (failedLinks.contains(items.get(i).getLink())) {
+                lastFailed = i;
+            }
+        }
+        return items.subList(lastFailed + 1, items.size()).stream()
+            .filter(item -> !undatedLinks.contains(item.getLink()))
+            .max(Comparator.comparing(NewsItem::getPubDate));
     }
 
     /**
      * 뉴스 JSON 데이터를 NewsItem 리스트로 파싱
      */
-    private List<NewsItem> parseNewsItems(String newsJson) {
+    private List<NewsItem> parseNewsItems(String newsJson, Set<String> undatedLinks) {
         try {
             JsonNode rootNode = objectMapper.readTree(newsJson);
             JsonNode itemsNode = rootNode.get("items");
@@ -108,13 +239,17 @@ public class NewsEmbeddingBatchService {
             List<NewsItem> newsItems = new ArrayList<>();
             if (itemsNode != null && itemsNode.isArray()) {
                 for (JsonNode itemNode : itemsNode) {
+                    String pubDate = itemNode.path("pubDate").asText(null);
+                    if (NewsItem.tryParsePubDate(pubDate).isEmpty()) {
+                        undatedLinks.add(itemNode.get("link").asText());
+                    }
                     NewsItem newsItem = NewsItem.builder()
                         .title(cleanHtmlTags(itemNode.get("title").asText()))
                         .link(itemNode.get("link").asText())
                         .originallink(itemNode.get("originallink") != null ? itemNode.get("originallink").asText() : "")
                         .description(cleanHtmlTags(itemNode.get("description").asText()))
                         .publisher(itemNode.get("publisher") != null ? itemNode.get("publisher").asText() : "")
-                        .pubDate(LocalDateTime.now())
+                        .pubDate(NewsItem.parsePubDate(pubDate))
                         .build();
                     newsItems.add(newsItem);
                 }
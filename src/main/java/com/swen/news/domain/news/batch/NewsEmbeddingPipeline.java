@@ -0,0 +1,306 @@
+package com.swen.news.domain.news.batch;
+
+import com.swen.news.domain.news.dto.NewsItem;
+import com.swen.news.domain.news.dto.embedding.EmbeddingResponse;
+import com.swen.news.domain.news.service.EmbeddingService;
+import com.swen.news.global.ratelimit.RequestPriority;
+import com.swen.news.global.ratelimit.RequestPriorityContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 뉴스 수집 → 중복 제거 → 임베딩 → 저장 단계형 배치 파이프라인
+ *
+ * <p>단계 사이는 크기가 제한된 큐로 연결되어 앞 단계가 뒤 단계보다 빠르면 자동으로 대기(backpressure)하고,
+ * 키워드 수집과 임베딩, 저장이 서로 겹쳐서 진행됩니다. 단계별 처리량/소요 시간/큐 길이를 메트릭으로 남깁니다.
+ *
+ * <p>개별 항목 실패(중복 확인/임베딩/저장)는 파이프라인을 멈추지 않고 건너뛰되, 실패한 링크를 결과로 돌려주어
+ * 호출 측이 워터마크 이동이나 재시도를 결정할 수 있게 합니다.
+ */
+@Slf4j
+@Component
+public class NewsEmbeddingPipeline {
+
+    private static final String STAGE_FETCH = "fetch";
+    private static final String STAGE_DEDUPE = "dedupe";
+    private static final String STAGE_EMBED = "embed";
+    private static final String STAGE_PERSIST = "persist";
+
+    /**
+     * 스트림 종료 표시 (identity 비교)
+     */
+    private static final List<?> END = new ArrayList<>(0);
+
+    private final EmbeddingService embeddingService;
+    private final MeterRegistry meterRegistry;
+
+    private final int fetchConcurrency;
+    private final int queueCapacity;
+    private final int persistBatchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicReference<BlockingQueue<?>> dedupeQueue = new AtomicReference<>();
+    private final AtomicReference<BlockingQueue<?>> embedQueue = new AtomicReference<>();
+    private final AtomicReference<BlockingQueue<?>> persistQueue = new AtomicReference<>();
+
+    public NewsEmbeddingPipeline(EmbeddingService embeddingService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${embedding-batch.pipeline.fetch-concurrency:3}") int fetchConcurrency,
+                                 @Value("${embedding-batch.pipeline.queue-capacity:16}") int queueCapacity,
+                                 @Value("${embedding-batch.pipeline.persist-batch-size:50}") int persistBatchSize) {
+        this.embeddingService = embeddingService;
+        this.meterRegistry = meterRegistry;
+        this.fetchConcurrency = fetchConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.persistBatchSize = persistBatchSize;
+
+        registerQueueGauge(STAGE_DEDUPE, dedupeQueue);
+        registerQueueGauge(STAGE_EMBED, embedQueue);
+        registerQueueGauge(STAGE_PERSIST, persistQueue);
+    }
+
+    /**
+     * 파이프라인 실행 (모든 단계가 끝날 때까지 대기)
+     *
+     * @param keywords 수집 키워드
+     * @param fetcher 키워드별 뉴스 수집 함수
+     * @return 단계별 처리 건수 (이미 실행 중이면 모두 0)
+     */
+    public PipelineResult run(List<String> keywords, Function<String, List<NewsItem>> fetcher) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("뉴스 임베딩 파이프라인이 이미 실행 중 - 이번 실행은 건너뜀");
+            return new PipelineResult(0, 0, 0, 0, Set.of());
+        }
+        BlockingQueue<List<NewsItem>> toDedupe = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<List<NewsItem>> toEmbed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<List<EmbeddedNews>> toPersist = new ArrayBlockingQueue<>(queueCapacity);
+        dedupeQueue.set(toDedupe);
+        embedQueue.set(toEmbed);
+        persistQueue.set(toPersist);
+
+        AtomicInteger fetched = new AtomicInteger();
+        AtomicInteger unsaved = new AtomicInteger();
+        AtomicInteger embedded = new AtomicInteger();
+        AtomicInteger saved = new AtomicInteger();
+        Set<String> failedLinks = ConcurrentHashMap.newKeySet();
+
+        Queue<String> pendingKeywords = new ConcurrentLinkedQueue<>(keywords);
+        ExecutorService workers = Executors.newFixedThreadPool(fetchConcurrency + 3, new CustomizableThreadFactory("NewsBatch-"));
+        try {
+            // 1. 키워드 수집 (동시 fetchConcurrency개, 마지막으로 끝난 수집기가 종료 표시를 넣음)
+            // 수집기가 실패하면 종료 표시 없이 전체 단계를 인터럽트하므로, 실패 경로에서 종료 표시를 넣으며 막히지 않음
+            AtomicInteger activeFetchers = new AtomicInteger(fetchConcurrency);
+            List<CompletableFuture<Void>> stages = new ArrayList<>();
+            for (int i = 0; i < fetchConcurrency; i++) {
+                stages.add(runStage(workers, () -> {
+                    String keyword;
+                    while ((keyword = pendingKeywords.poll()) != null) {
+                        String currentKeyword = keyword;
+                        List<NewsItem> items = timed(STAGE_FETCH, () -> fetcher.apply(currentKeyword));
+                        count(STAGE_FETCH, items.size());
+                        fetched.addAndGet(items.size());
+                        if (!items.isEmpty()) {
+                            toDedupe.put(items);
+                        }
+                    }
+                    if (activeFetchers.decrementAndGet() == 0) {
+                        toDedupe.put(end());
+                    }
+                }));
+            }
+
+            // 2. 실행 내 중복 + 이미 저장된 URL 제거 (묶음마다 IN 쿼리 1회)
+            stages.add(runStage(workers, () -> {
+                Set<String> seen = new HashSet<>();
+                List<NewsItem> items;
+                while ((items = toDedupe.take()) != END) {
+                    List<NewsItem> fresh = items.stream().filter(item -> seen.add(item.getLink())).toList();
+                    List<NewsItem> targets;
+                    try {
+                        targets = timed(STAGE_DEDUPE, () -> embeddingService.filterUnsavedNews(fresh));
+                    } catch (RuntimeException e) {
+                        log.warn("중복 제거 단계 실패 - {}건 건너뜀", fresh.size(), e);
+                        fresh.forEach(item -> failedLinks.add(item.getLink()));
+                        continue;
+                    }
+                    count(STAGE_DEDUPE, targets.size());
+                    unsaved.addAndGet(targets.size());
+                    if (!targets.isEmpty()) {
+                        toEmbed.put(targets);
+                    }
+                }
+                toEmbed.put(end());
+            }));
+
+            // 3. 임베딩 (묶음 단위로 embeddingApiExecutor에서 제한된 동시 호출)
+            stages.add(runStage(workers, () -> {
+                List<NewsItem> items;
+                while ((items = toEmbed.take()) != END) {
+                    List<NewsItem> targets = items;
+                    List<EmbeddingResponse> embeddings = timed(STAGE_EMBED, () -> embeddingService.generateEmbeddings(
+                        targets.stream().map(embeddingService::preprocessNewsText).toList()));
+
+                    List<EmbeddedNews> results = new ArrayList<>(targets.size());
+                    for (int i = 0; i < targets.size(); i++) {
+                        if (embeddings.get(i) != null) {
+                            results.add(new EmbeddedNews(targets.get(i), embeddings.get(i)));
+                        } else {
+                            failedLinks.add(targets.get(i).getLink());
+                        }
+                    }
+                    count(STAGE_EMBED, results.size());
+                    embedded.addAndGet(results.size());
+                    if (!results.isEmpty()) {
+                        toPersist.put(results);
+                    }
+                }
+                toPersist.put(end());
+            }));
+
+            // 4. 저장 (persistBatchSize 단위 JDBC 배치)
+            stages.add(runStage(workers, () -> {
+                List<EmbeddedNews> buffer = new ArrayList<>();
+                List<EmbeddedNews> items;
+                while ((items = toPersist.take()) != END) {
+                    buffer.addAll(items);
+                    if (buffer.size() >= persistBatchSize) {
+                        saved.addAndGet(persist(buffer, failedLinks));
+                        buffer = new ArrayList<>();
+                    }
+                }
+                saved.addAndGet(persist(buffer, failedLinks));
+            }));
+
+            // 한 단계라도 실패하면 나머지 단계가 큐에서 영원히 기다리지 않도록 인터럽트
+            // (단계 수 = 스레드 수이므로 모든 단계가 이미 실행 중이고, 인터럽트되면 예외로 끝남)
+            for (CompletableFuture<Void> stage : stages) {
+                stage.exceptionally(e -> {
+                    workers.shutdownNow();
+                    return null;
+                });
+            }
+            CompletableFuture.allOf(stages.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            workers.shutdownNow();
+            dedupeQueue.set(null);
+            embedQueue.set(null);
+            persistQueue.set(null);
+            running.set(false);
+        }
+
+        if (!failedLinks.isEmpty()) {
+            count("failed", failedLinks.size());
+        }
+        return new PipelineResult(fetched.get(), unsaved.get(), embedded.get(), saved.get(), Set.copyOf(failedLinks));
+    }
+
+    private int persist(List<EmbeddedNews> buffer, Set<String> failedLinks) {
+        if (buffer.isEmpty()) {
+            return 0;
+        }
+        List<NewsItem> items = buffer.stream().map(EmbeddedNews::newsItem).toList();
+        List<EmbeddingResponse> embeddings = buffer.stream().map(EmbeddedNews::embedding).toList();
+        try {
+            int saved = timed(STAGE_PERSIST, () -> embeddingService.persistNewsEmbeddings(items, embeddings));
+            count(STAGE_PERSIST, saved);
+            return saved;
+        } catch (RuntimeException e) {
+            log.warn("저장 단계 실패 - {}건 건너뜀", items.size(), e);
+            items.forEach(item -> failedLinks.add(item.getLink()));
+            return 0;
+        }
+    }
+
+    /**
+     * 단계 작업을 BATCH 우선순위로 실행 (외부 API 호출 한도에서 사용자 요청보다 뒤로 밀림)
+     */
+    private CompletableFuture<Void> runStage(ExecutorService workers, StageTask task) {
+        return CompletableFuture.runAsync(() -> RequestPriorityContext.runWith(RequestPriority.BATCH, () -> {
+            try {
+                task.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("배치 파이프라인 단계가 중단되었습니다", e);
+            }
+        }), workers);
+    }
+
+    private <T> T timed(String stage, Supplier<T> work) {
+        return Timer.builder("news.batch.stage.duration")
+            .tag("stage", stage)
+            .register(meterRegistry)
+            .record(work);
+    }
+
+    private void count(String stage, int items) {
+        Counter.builder("news.batch.stage.items")
+            .tag("stage", stage)
+            .register(meterRegistry)
+            .increment(items);
+    }
+
+    private void registerQueueGauge(String stage, AtomicReference<BlockingQueue<?>> queue) {
+        Gauge.builder("news.batch.queue.size", queue, ref -> {
+                BlockingQueue<?> current = ref.get();
+                return current != null ? current.size() : 0;
+            })
+            .tag("stage", stage)
+            .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> end() {
+        return (List<T>) END;
+    }
+
+    @FunctionalInterface
+    private interface StageTask {
+        void run() throws InterruptedException;
+    }
+
+    private record EmbeddedNews(NewsItem newsItem, EmbeddingResponse embedding) {
+    }
+
+    /**
+     * 파이프라인 실행 결과
+     *
+     * @param fetched 수집한 뉴스 수
+     * @param unsaved 중복 제거 후 새 뉴스 수
+     * @param embedded 임베딩 성공 수
+     * @param saved 저장 수
+     * @param failedLinks 중복 확인/임베딩/저장 중 실패해 저장되지 않은 뉴스 링크
+     */
+    public record PipelineResult(int fetched, int unsaved, int embedded, int saved, Set<String> failedLinks) {
+
+        /**
+         * 실패 건수
+         */
+        public int failed() {
+            return failedLinks.size();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.swen.news.domain.news.batch;
+
+import com.swen.news.domain.news.event.NewsEmbeddingSavedEvent;
+import com.swen.news.domain.news.repository.NewsNeighborRepository;
+import com.swen.news.domain.news.vector.NewsVectorIndex;
+import com.swen.news.domain.news.vector.VectorSearchResult;
+import com.swen.news.global.lock.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 뉴스별 유사 뉴스 목록 사전 계산 서비스
+ *
+ * <p>벡터 인덱스로 각 뉴스의 상위 N개 이웃을 계산해 news_neighbors에 저장합니다.
+ * 새로 저장된 뉴스는 자신의 목록과 함께 이웃들의 목록도 다시 계산하여(새 뉴스가 들어갈 수 있으므로) 증분 갱신하고,
+ * 계산되지 않았거나 오래된 목록은 주기적으로 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsNeighborBatchService {
+
+    private static final String LOCK_NAME = "news-neighbor-refresh";
+
+    private final NewsVectorIndex newsVectorIndex;
+    private final NewsNeighborRepository newsNeighborRepository;
+    private final SchedulerLock schedulerLock;
+
+    /**
+     * 이 인스턴스에서 저장되어 아직 이웃을 계산하지 않은 뉴스 ID
+     */
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${news-neighbors.size:10}")
+    private int neighborSize;
+
+    @Value("${news-neighbors.batch-size:200}")
+    private int batchSize;
+
+    @Value("${news-neighbors.stale-hours:24}")
+    private long staleHours;
+
+    /**
+     * 임베딩 저장 커밋 후 이웃 계산 대상에 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmbeddingSaved(NewsEmbeddingSavedEvent event) {
+        if (event.getId() != null) {
+            pendingIds.add(event.getId());
+        }
+    }
+
+    /**
+     * 이웃 목록 갱신 (스케줄러용, 레플리카 중 한 곳에서만 실행)
+     */
+    public void refresh() {
+        if (!newsVectorIndex.isReady()) {
+            log.debug("벡터 인덱스 준비 전 - 유사 뉴스 사전 계산 건너뜀");
+            return;
+        }
+        schedulerLock.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO, () -> {
+            try {
+                refreshNeighbors();
+            } catch (Exception e) {
+                log.error("유사 뉴스 사전 계산 중 오류 발생", e);
+            }
+        });
+    }
+
+    private void refreshNeighbors() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 새로 저장된 뉴스 + 계산되지 않은 뉴스 + 오래된 목록
+        List<Long> newIds = drainPending();
+        Set<Long> targets = new LinkedHashSet<>(newIds);
+        targets.addAll(newsNeighborRepository.findIdsWithoutNeighbors(batchSize));
+        targets.addAll(newsNeighborRepository.findStaleIds(now.minusHours(staleHours), batchSize));
+
+        // 이 인스턴스의 인덱스에 아직 없는 뉴스(다른 인스턴스가 저장해 동기화 전)는 빈 목록을 저장하지 않고
+        // 대기열로 되돌림 - 인덱스에 반영된 뒤 새 뉴스로 계산되어 이웃들의 목록도 함께 갱신됨
+        Map<Long, List<VectorSearchResult>> neighborsByNewsId = new LinkedHashMap<>();
+        Set<Long> notIndexed = new LinkedHashSet<>();
+        for (Long id : targets) {
+            if (!newsVectorIndex.contains(id)) {
+                notIndexed.add(id);
+                continue;
+            }
+            neighborsByNewsId.put(id, newsVectorIndex.searchNeighbors(id, neighborSize));
+        }
+        if (!notIndexed.isEmpty()) {
+            newIds.removeAll(notIndexed);
+            pendingIds.addAll(notIndexed);
+            log.debug("벡터 인덱스에 없는 뉴스 {}건 - 유사 뉴스 계산 보류", notIndexed.size());
+        }
+
+        // 2. 새 뉴스의 이웃들은 목록에 새 뉴스가 들어갈 수 있으므로 한 단계만 다시 계산
+        for (Long newId : newIds) {
+            for (VectorSearchResult neighbor : neighborsByNewsId.getOrDefault(newId, List.of())) {
+                neighborsByNewsId.computeIfAbsent(neighbor.getId(), id -> newsVectorIndex.searchNeighbors(id, neighborSize));
+            }
+        }
+
+        if (neighborsByNewsId.isEmpty()) {
+            return;
+        }
+        try {
+            newsNeighborRepository.replaceNeighbors(neighborsByNewsId, now);
+        } catch (Exception e) {
+            // 계산 도중 보관/삭제된 뉴스가 있으면 FK 위반 - 새 뉴스는 다음 주기에 다시 시도
+            pendingIds.addAll(newIds);
+            throw e;
+        }
+        log.info("유사 뉴스 사전 계산 완료 - 신규: {}건, 전체: {}건, {}ms",
+            newIds.size(), neighborsByNewsId.size(), System.currentTimeMillis() - start);
+    }
+
+    private List<Long> drainPending() {
+        List<Long> drained = new ArrayList<>();
+        Iterator<Long> iterator = pendingIds.iterator();
+        while (iterator.hasNext() && drained.size() < batchSize) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,183 @@
+package com.swen.news.domain.news.cache;
+
+import com.swen.news.domain.news.repository.NewsEmbeddingRepository;
+import com.swen.news.domain.news.vector.NewsVectorIndex;
+import com.swen.news.domain.news.vector.VectorCodec;
+import com.swen.news.global.cache.LruTtlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 임베딩 결과 캐시 (텍스트 내용 해시 기반)
+ *
+ * <p>1차: 인메모리 LRU/TTL 캐시, 2차: 뉴스 URL로 벡터 인덱스/news_embeddings 조회(URL을 아는 경우),
+ * 3차: news_embeddings.content_hash 조회. 모든 계층이 미적중일 때만 원격 임베딩 API를 호출하도록 합니다.
+ * 계층별 적중/미적중과 원격 호출 수를 embedding.cache.requests 메트릭으로 남깁니다.
+ */
+@Slf4j
+@Component
+public class EmbeddingCache {
+
+    private final NewsEmbeddingRepository newsEmbeddingRepository;
+    private final NewsVectorIndex newsVectorIndex;
+    private final LruTtlCache<String, float[]> memoryCache;
+    private final boolean databaseTierEnabled;
+
+    private final Counter vectorStoreHits;
+    private final Counter vectorStoreMisses;
+    private final Counter databaseHits;
+    private final Counter databaseMisses;
+    private final Counter remoteCalls;
+
+    public EmbeddingCache(NewsEmbeddingRepository newsEmbeddingRepository,
+                          NewsVectorIndex newsVectorIndex,
+                          MeterRegistry meterRegistry,
+                          @Value("${embedding-cache.max-size:10000}") int maxSize,
+                          @Value("${embedding-cache.ttl-minutes:360}") long ttlMinutes,
+                          @Value("${embedding-cache.database-tier-enabled:true}") boolean databaseTierEnabled) {
+        this.newsEmbeddingRepository = newsEmbeddingRepository;
+        this.newsVectorIndex = newsVectorIndex;
+        this.memoryCache = new LruTtlCache<>(maxSize, Duration.ofMinutes(ttlMinutes));
+        this.databaseTierEnabled = databaseTierEnabled;
+
+        FunctionCounter.builder("embedding.cache.requests", memoryCache, LruTtlCache::hitCount)
+            .tag("tier", "memory").tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("embedding.cache.requests", memoryCache, LruTtlCache::missCount)
+            .tag("tier", "memory").tag("result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("embedding.cache.evictions", memoryCache, LruTtlCache::evictionCount)
+            .tag("tier", "memory")
+            .register(meterRegistry);
+        Gauge.builder("embedding.cache.size", memoryCache, LruTtlCache::size)
+            .tag("tier", "memory")
+            .register(meterRegistry);
+
+        this.vectorStoreHits = Counter.builder("embedding.cache.requests")
+            .tag("tier", "vector-store").tag("result", "hit")
+            .register(meterRegistry);
+        this.vectorStoreMisses = Counter.builder("embedding.cache.requests")
+            .tag("tier", "vector-store").tag("result", "miss")
+            .register(meterRegistry);
+        this.databaseHits = Counter.builder("embedding.cache.requests")
+            .tag("tier", "database").tag("result", "hit")
+            .register(meterRegistry);
+        this.databaseMisses = Counter.builder("embedding.cache.requests")
+            .tag("tier", "database").tag("result", "miss")
+            .register(meterRegistry);
+        this.remoteCalls = Counter.builder("embedding.cache.requests")
+            .tag("tier", "remote").tag("result", "hit")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 임베딩 조회 (메모리 → DB 순서, DB 적중 시 메모리에 적재)
+     *
+     * @param text 임베딩 대상 텍스트
+     * @return 정규화된 벡터, 없으면 null
+     */
+    public float[] get(String text) {
+        return get(text, null);
+    }
+
+    /**
+     * 캐시된 임베딩 조회 (메모리 → 뉴스 URL로 벡터 인덱스/DB → 내용 해시로 DB 순서, 하위 계층 적중 시 메모리에 적재)
+     *
+     * @param text 임베딩 대상 텍스트
+     * @param newsUrl 이미 저장되었을 수 있는 뉴스 URL (null이면 URL 계층 생략)
+     * @return 정규화된 벡터, 없으면 null
+     */
+    public float[] get(String text, String newsUrl) {
+        String contentHash = contentHash(text);
+
+        float[] cached = memoryCache.get(contentHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (newsUrl != null) {
+            float[] stored = findByNewsUrl(newsUrl);
+            if (stored != null) {
+                vectorStoreHits.increment();
+                memoryCache.put(contentHash, stored);
+                return stored;
+            }
+            vectorStoreMisses.increment();
+        }
+
+        if (!databaseTierEnabled) {
+            return null;
+        }
+
+        try {
+            float[] stored = newsEmbeddingRepository.findFirstByContentHash(contentHash)
+                .map(embedding -> VectorCodec.decode(embedding.getEmbeddingVector()))
+                .orElse(null);
+            if (stored == null) {
+                databaseMisses.increment();
+                return null;
+            }
+            databaseHits.increment();
+            memoryCache.put(contentHash, stored);
+            return stored;
+        } catch (Exception e) {
+            log.warn("임베딩 캐시 DB 조회 실패 - 원격 API로 진행", e);
+            return null;
+        }
+    }
+
+    /**
+     * 모든 계층 미적중으로 원격 API를 호출했음을 기록
+     */
+    public void recordRemoteCall() {
+        remoteCalls.increment();
+    }
+
+    /**
+     * 뉴스 URL로 저장된 벡터 조회 (인메모리 벡터 인덱스 → news_embeddings 순서)
+     */
+    private float[] findByNewsUrl(String newsUrl) {
+        float[] indexed = newsVectorIndex.findVectorByUrl(newsUrl);
+        if (indexed != null || !databaseTierEnabled) {
+            return indexed;
+        }
+        try {
+            return newsEmbeddingRepository.findVectorByNewsUrl(newsUrl)
+                .map(embedding -> VectorCodec.decode(embedding.getEmbeddingVector()))
+                .orElse(null);
+        } catch (Exception e) {
+            log.warn("URL 기반 임베딩 조회 실패 - 다음 계층으로 진행", e);
+            return null;
+        }
+    }
+
+    /**
+     * 임베딩 결과를 메모리 캐시에 저장
+     */
+    public void put(String text, float[] vector) {
+        memoryCache.put(contentHash(text), vector);
+    }
+
+    /**
+     * 텍스트 내용 해시 (SHA-256, 16진수 64자)
+     */
+    public static String contentHash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
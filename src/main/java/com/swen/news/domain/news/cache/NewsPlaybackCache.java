@@ -0,0 +1,108 @@
+package com.swen.news.domain.news.cache;
+
+import com.swen.news.global.cache.SingleFlightCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 뉴스 플레이 결과(스크립트 + 음성 URL) 캐시
+ *
+ * <p>(기사 링크, 스크립트 길이, 프롬프트 버전) 단위로 스크립트 생성과 TTS 결과를 재사용합니다.
+ * 같은 기사에 대한 동시 요청은 진행 중인 생성 하나를 함께 기다립니다.
+ * 음성 없이 만든 결과(외부 API 장애 시 대체 응답)는 다음 요청이 다시 생성하도록 캐시에 남기지 않습니다.
+ */
+@Component
+public class NewsPlaybackCache {
+
+    private static final List<String> SCRIPT_LENGTHS = List.of("SHORT", "MEDIUM", "LONG");
+
+    private final SingleFlightCache<PlaybackKey, Playback> cache;
+    private final boolean enabled;
+
+    public NewsPlaybackCache(MeterRegistry meterRegistry,
+                             @Value("${news-playback-cache.enabled:true}") boolean enabled,
+                             @Value("${news-playback-cache.max-size:1000}") int maxSize,
+                             @Value("${news-playback-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.cache = new SingleFlightCache<>(maxSize, Duration.ofMinutes(ttlMinutes), playback -> !playback.isDegraded());
+        this.enabled = enabled;
+
+        FunctionCounter.builder("news.playback.cache.requests", cache, SingleFlightCache::hitCount)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("news.playback.cache.requests", cache, SingleFlightCache::joinCount)
+            .tag("result", "in_flight")
+            .register(meterRegistry);
+        FunctionCounter.builder("news.playback.cache.requests", cache, SingleFlightCache::loadCount)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("news.playback.cache.evictions", cache, SingleFlightCache::evictionCount)
+            .register(meterRegistry);
+        Gauge.builder("news.playback.cache.size", cache, SingleFlightCache::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 플레이 결과 조회, 없으면 generator로 생성
+     *
+     * @param link 기사 링크
+     * @param scriptLength 스크립트 길이
+     * @param promptVersion 프롬프트/음성 설정 버전 (바뀌면 기존 결과를 쓰지 않음)
+     * @param generator 스크립트 생성 → TTS 변환 작업
+     * @return 플레이 결과 future
+     */
+    public CompletableFuture<Playback> getOrGenerate(String link, String scriptLength, String promptVersion,
+                                                     Supplier<CompletableFuture<Playback>> generator) {
+        if (!enabled || link == null || link.isBlank()) {
+            return generator.get();
+        }
+        return cache.getAsync(new PlaybackKey(link, scriptLength, promptVersion), generator);
+    }
+
+    /**
+     * 같은 기사의 다른 길이로 이미 만든 플레이 결과 조회 (스크립트 생성 불가 시 대체 응답용)
+     *
+     * @return 캐시된 결과, 없으면 null
+     */
+    public Playback findOtherLength(String link, String scriptLength, String promptVersion) {
+        if (!enabled || link == null || link.isBlank()) {
+            return null;
+        }
+        for (String otherLength : SCRIPT_LENGTHS) {
+            if (otherLength.equals(scriptLength)) {
+                continue;
+            }
+            Playback playback = cache.peek(new PlaybackKey(link, otherLength, promptVersion));
+            if (playback != null) {
+                return playback;
+            }
+        }
+        return null;
+    }
+
+    private record PlaybackKey(String link, String scriptLength, String promptVersion) {
+    }
+
+    /**
+     * 생성된 스크립트와 Object Storage 음성 URL (음성 생략 시 null)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Playback {
+        private final String script;
+        private final String audioUrl;
+
+        public boolean isDegraded() {
+            return audioUrl == null;
+        }
+    }
+}
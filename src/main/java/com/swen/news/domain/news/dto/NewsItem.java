@@ -6,6 +6,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
 
 /**
  * 네이버 뉴스 API 응답 항목을 나타내는 DTO 클래스입니다.
@@ -15,6 +20,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class NewsItem {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
     
     /**
      * 뉴스 제목
@@ -45,4 +52,33 @@ public class NewsItem {
      * 발행일자
      */
     private LocalDateTime pubDate;
+
+    /**
+     * 네이버 뉴스 API pubDate(RFC 1123, 예: "Mon, 19 Oct 2026 09:30:00 +0900")를 서울 시각으로 변환
+     *
+     * @param pubDate API 응답의 pubDate 문자열
+     * @return 발행일자, 비어 있거나 형식이 다르면 현재 시각
+     */
+    public static LocalDateTime parsePubDate(String pubDate) {
+        return tryParsePubDate(pubDate).orElseGet(() -> LocalDateTime.now(SEOUL));
+    }
+
+    /**
+     * pubDate 변환 (현재 시각으로 대체하지 않음)
+     *
+     * @param pubDate API 응답의 pubDate 문자열
+     * @return 발행일자, 비어 있거나 형식이 다르면 empty
+     */
+    public static Optional<LocalDateTime> tryParsePubDate(String pubDate) {
+        if (pubDate == null || pubDate.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ZonedDateTime.parse(pubDate.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                .withZoneSameInstant(SEOUL)
+                .toLocalDateTime());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
 }
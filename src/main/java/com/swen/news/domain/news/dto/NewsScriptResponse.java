@@ -32,12 +32,13 @@ public class NewsScriptResponse {
     private List<NewsItem> sourceNews;
     
     /**
-     * 오디오 파일 URL (TTS 완료 후)
+     * 오디오 파일 URL (TTS 완료 후, DEGRADED면 null일 수 있음)
      */
     private String audioUrl;
     
     /**
-     * 처리 상태 (PROCESSING, COMPLETED, FAILED)
+     * 처리 상태 (PROCESSING, COMPLETED, DEGRADED, FAILED)
+     * DEGRADED: 외부 API 장애로 음성 없이 스크립트만 제공
      */
     private String status;
     
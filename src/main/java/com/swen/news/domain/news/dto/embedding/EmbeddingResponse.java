@@ -3,15 +3,14 @@ package com.swen.news.domain.news.dto.embedding;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.List;
-
 /**
  * HyperCLOVA Embedding API 응답 DTO
+ * embedding은 단위 벡터로 정규화된 값입니다.
  */
 @Getter
 @Builder
 public class EmbeddingResponse {
-    private final List<Double> embedding;
+    private final float[] embedding;
     private final String text;
     private final int dimension;
 }
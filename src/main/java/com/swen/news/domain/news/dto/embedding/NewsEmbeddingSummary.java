@@ -0,0 +1,20 @@
+package com.swen.news.domain.news.dto.embedding;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 결과 표시용 뉴스 정보 프로젝션 (벡터 컬럼 제외, 최종 상위 k개만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class NewsEmbeddingSummary {
+    private final Long id;
+    private final String newsUrl;
+    private final String title;
+    private final String description;
+    private final String publisher;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.swen.news.domain.news.dto.embedding;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유사도 계산/인덱스 적재용 임베딩 프로젝션 (제목/설명 등 본문 컬럼 제외, 영속성 컨텍스트에 올리지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class NewsEmbeddingVector {
+    private final Long id;
+    private final String newsUrl;
+    private final LocalDateTime createdAt;
+    private final byte[] embeddingVector;
+    private final LocalDateTime updatedAt;
+
+    /**
+     * 수정 시각이 필요 없는 조회용 (유사도 계산, 임베딩 조회 체인)
+     */
+    public NewsEmbeddingVector(Long id, String newsUrl, LocalDateTime createdAt, byte[] embeddingVector) {
+        this(id, newsUrl, createdAt, embeddingVector, null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.swen.news.domain.news.dto.embedding;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미리 계산된 유사 뉴스 항목 (뉴스 정보 + 기준 뉴스와의 유사도)
+ */
+@Getter
+@AllArgsConstructor
+public class NewsNeighbor {
+    private final NewsEmbeddingSummary summary;
+    private final float similarity;
+}
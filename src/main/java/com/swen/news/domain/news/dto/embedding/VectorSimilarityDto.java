@@ -12,5 +12,6 @@ import lombok.Getter;
 public class VectorSimilarityDto {
     private final NewsItem newsItem;
     private final double similarity;
+    private final float[] embedding;
     private final String matchReason;
 }
@@ -0,0 +1,53 @@
+package com.swen.news.domain.news.entity;
+
+import com.swen.news.global.model.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키워드별 뉴스 수집 워터마크 (이 시점 이후 발행된 기사만 다음 수집 대상)
+ */
+@Entity
+@Table(name = "news_collection_watermarks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NewsCollectionWatermark extends BaseTimeEntity {
+
+    @Id
+    @Column(length = 100)
+    private String keyword;
+
+    @Column(nullable = false)
+    private LocalDateTime lastPubDate;
+
+    @Column(nullable = false, length = 500)
+    private String lastLink;
+
+    public NewsCollectionWatermark(String keyword, LocalDateTime lastPubDate, String lastLink) {
+        this.keyword = keyword;
+        this.lastPubDate = lastPubDate;
+        this.lastLink = lastLink;
+    }
+
+    /**
+     * 더 최근 기사로 워터마크 이동 (과거 시각으로는 되돌리지 않음)
+     */
+    public void advance(LocalDateTime pubDate, String link) {
+        if (pubDate.isBefore(lastPubDate)) {
+            return;
+        }
+        this.lastPubDate = pubDate;
+        this.lastLink = link;
+    }
+
+    /**
+     * 워터마크 이후(같은 시각이면 마지막 링크가 아닌) 기사인지 여부
+     */
+    public boolean isNewer(LocalDateTime pubDate, String link) {
+        return pubDate.isAfter(lastPubDate) || (pubDate.isEqual(lastPubDate) && !link.equals(lastLink));
+    }
+}
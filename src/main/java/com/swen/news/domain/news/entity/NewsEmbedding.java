@@ -32,20 +32,25 @@ public class NewsEmbedding extends BaseTimeEntity {
     @Column(nullable = false, length = 100)
     private String publisher;
 
-    @Column(nullable = false, columnDefinition = "LONGTEXT")
-    private String embeddingVector; // JSON 형태로 저장
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] embeddingVector; // little-endian float32 배열 (VectorCodec)
 
     @Column(nullable = false)
     private Integer vectorDimension;
 
+    @Column(length = 64)
+    private String contentHash; // 임베딩 대상 텍스트의 SHA-256 (임베딩 캐시 2차 계층용)
+
     @Builder
     public NewsEmbedding(String newsUrl, String title, String description, 
-                        String publisher, String embeddingVector, Integer vectorDimension) {
+                        String publisher, byte[] embeddingVector, Integer vectorDimension,
+                        String contentHash) {
         this.newsUrl = newsUrl;
         this.title = title;
         this.description = description;
         this.publisher = publisher;
         this.embeddingVector = embeddingVector;
         this.vectorDimension = vectorDimension;
+        this.contentHash = contentHash;
     }
 }
@@ -0,0 +1,18 @@
+package com.swen.news.domain.news.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 임베딩 저장 이벤트 (트랜잭션 커밋 후 벡터 인덱스 갱신용)
+ */
+@Getter
+@AllArgsConstructor
+public class NewsEmbeddingSavedEvent {
+    private final Long id;
+    private final String newsUrl;
+    private final LocalDateTime createdAt;
+    private final float[] vector;
+}
@@ -0,0 +1,12 @@
+package com.swen.news.domain.news.repository;
+
+import com.swen.news.domain.news.entity.NewsCollectionWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 뉴스 수집 워터마크 리포지토리
+ */
+@Repository
+public interface NewsCollectionWatermarkRepository extends JpaRepository<NewsCollectionWatermark, String> {
+}
@@ -0,0 +1,89 @@
+package com.swen.news.domain.news.repository;
+
+import com.swen.news.domain.news.vector.VectorCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 뉴스 임베딩 보관(archive) 리포지토리
+ *
+ * <p>보존 기간이 지난 행을 news_embeddings에서 news_embeddings_archive로 옮기면서
+ * 본문 설명은 버리고 벡터는 int8로 양자화합니다. 추천 조회는 news_embeddings(최근 데이터)만 대상으로 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NewsEmbeddingArchiveRepository {
+
+    private static final String SELECT_EXPIRED_SQL =
+        "SELECT id, news_url, title, publisher, embedding_vector, vector_dimension, content_hash, created_at " +
+        "FROM news_embeddings WHERE created_at < ? ORDER BY created_at LIMIT ?";
+
+    private static final String ARCHIVE_SQL =
+        "INSERT INTO news_embeddings_archive " +
+        "(id, news_url, title, publisher, embedding_vector_int8, vector_dimension, content_hash, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?) AS new " +
+        "ON DUPLICATE KEY UPDATE " +
+        "title = new.title, publisher = new.publisher, " +
+        "embedding_vector_int8 = new.embedding_vector_int8, vector_dimension = new.vector_dimension, " +
+        "content_hash = new.content_hash, created_at = new.created_at";
+
+    private static final String DELETE_HOT_SQL =
+        "DELETE FROM news_embeddings WHERE id IN (:ids)";
+
+    private static final String PURGE_ARCHIVE_SQL =
+        "DELETE FROM news_embeddings_archive WHERE created_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * cutoff 이전 생성된 임베딩을 최대 limit건 보관 테이블로 이동
+     *
+     * @return 이동한 행의 id (비어 있으면 더 이상 대상 없음)
+     */
+    @Transactional
+    public List<Long> archiveOlderThan(LocalDateTime cutoff, int limit) {
+        List<Object[]> archived = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        jdbcTemplate.query(SELECT_EXPIRED_SQL, rs -> {
+            long id = rs.getLong("id");
+            ids.add(id);
+            archived.add(new Object[]{
+                id,
+                rs.getString("news_url"),
+                rs.getString("title"),
+                rs.getString("publisher"),
+                VectorCodec.encodeInt8(VectorCodec.decode(rs.getBytes("embedding_vector"))),
+                rs.getInt("vector_dimension"),
+                rs.getString("content_hash"),
+                rs.getTimestamp("created_at")
+            });
+        }, Timestamp.valueOf(cutoff), limit);
+
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.batchUpdate(ARCHIVE_SQL, archived);
+        namedParameterJdbcTemplate.update(DELETE_HOT_SQL, new MapSqlParameterSource("ids", ids));
+        return ids;
+    }
+
+    /**
+     * 보관 기간도 지난 행을 최대 limit건 삭제
+     *
+     * @return 삭제한 건수
+     */
+    @Transactional
+    public int purgeOlderThan(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(PURGE_ARCHIVE_SQL, Timestamp.valueOf(cutoff), limit);
+    }
+}
@@ -0,0 +1,31 @@
+package com.swen.news.domain.news.repository;
+
+import com.swen.news.domain.news.entity.NewsEmbedding;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 뉴스 임베딩 일괄 저장 (JDBC 배치 upsert)
+ * IDENTITY 전략에서는 Hibernate 배치 insert가 비활성화되므로 JdbcTemplate으로 직접 처리합니다.
+ */
+public interface NewsEmbeddingBatchRepository {
+
+    /**
+     * 뉴스 임베딩 일괄 upsert (INSERT ... ON DUPLICATE KEY UPDATE)
+     *
+     * <p>같은 news_url이 이미 있으면 예외 없이 내용/벡터만 갱신하므로 동시 저장에도 충돌하지 않습니다.
+     *
+     * @param embeddings 저장할 엔티티 (id/생성일은 무시)
+     * @param savedAt 새 행의 생성일, 모든 행의 수정일로 기록할 시각
+     * @return 저장된 행의 news_url → id/생성일 (기존 행은 원래 생성일 유지)
+     */
+    Map<String, SavedEmbedding> batchUpsert(List<NewsEmbedding> embeddings, LocalDateTime savedAt);
+
+    /**
+     * upsert 결과 행
+     */
+    record SavedEmbedding(Long id, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.swen.news.domain.news.repository;
+
+import com.swen.news.domain.news.entity.NewsEmbedding;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link NewsEmbeddingBatchRepository} JDBC 구현 (Spring Data 커스텀 리포지토리 조각)
+ *
+ * <p>rewriteBatchedStatements가 켜져 있으면 배치 전체가 다중 VALUES upsert 한 문장으로 전송되고,
+ * 생성된 id는 news_url IN 조회 한 번으로 가져옵니다. 갱신 값은 행 별칭(MySQL 8.0.19+)으로 참조합니다.
+ */
+@RequiredArgsConstructor
+public class NewsEmbeddingBatchRepositoryImpl implements NewsEmbeddingBatchRepository {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO news_embeddings " +
+        "(news_url, title, description, publisher, embedding_vector, vector_dimension, content_hash, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) AS new " +
+        "ON DUPLICATE KEY UPDATE " +
+        "title = new.title, description = new.description, publisher = new.publisher, " +
+        "embedding_vector = new.embedding_vector, vector_dimension = new.vector_dimension, " +
+        "content_hash = new.content_hash, updated_at = new.updated_at";
+
+    private static final String SELECT_IDS_SQL =
+        "SELECT id, news_url, created_at FROM news_embeddings WHERE news_url IN (:urls)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    @Transactional
+    public Map<String, SavedEmbedding> batchUpsert(List<NewsEmbedding> embeddings, LocalDateTime savedAt) {
+        if (embeddings.isEmpty()) {
+            return Map.of();
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(savedAt);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NewsEmbedding embedding = embeddings.get(i);
+                ps.setString(1, embedding.getNewsUrl());
+                ps.setString(2, embedding.getTitle());
+                ps.setString(3, embedding.getDescription());
+                ps.setString(4, embedding.getPublisher());
+                ps.setBytes(5, embedding.getEmbeddingVector());
+                ps.setInt(6, embedding.getVectorDimension());
+                ps.setString(7, embedding.getContentHash());
+                ps.setTimestamp(8, timestamp);
+                ps.setTimestamp(9, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return embeddings.size();
+            }
+        });
+
+        // 배치 결과 건수는 드라이버 설정(rewriteBatchedStatements, useAffectedRows)마다 의미가 달라 id 조회로 확인
+        Set<String> urls = new LinkedHashSet<>();
+        embeddings.forEach(embedding -> urls.add(embedding.getNewsUrl()));
+
+        Map<String, SavedEmbedding> saved = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_IDS_SQL, new MapSqlParameterSource("urls", urls),
+            rs -> {
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                saved.put(rs.getString("news_url"), new SavedEmbedding(
+                    rs.getLong("id"),
+                    createdAt != null ? createdAt.toLocalDateTime() : savedAt
+                ));
+            });
+        return saved;
+    }
+}
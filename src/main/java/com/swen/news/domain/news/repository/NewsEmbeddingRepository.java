@@ -1,5 +1,7 @@
 package com.swen.news.domain.news.repository;
 
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingSummary;
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector;
 import com.swen.news.domain.news.entity.NewsEmbedding;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,13 +17,24 @@ import java.util.Optional;
  * 뉴스 임베딩 리포지토리
  */
 @Repository
-public interface NewsEmbeddingRepository extends JpaRepository<NewsEmbedding, Long> {
+public interface NewsEmbeddingRepository extends JpaRepository<NewsEmbedding, Long>, NewsEmbeddingBatchRepository {
 
     /**
      * URL로 뉴스 임베딩 조회
      */
     Optional<NewsEmbedding> findByNewsUrl(String newsUrl);
 
+    /**
+     * 주어진 URL 중 이미 저장된 URL 조회 (일괄 저장 전 중복 제거용)
+     */
+    @Query("SELECT ne.newsUrl FROM NewsEmbedding ne WHERE ne.newsUrl IN :newsUrls")
+    List<String> findExistingNewsUrls(@Param("newsUrls") Collection<String> newsUrls);
+
+    /**
+     * 텍스트 내용 해시로 뉴스 임베딩 조회 (임베딩 캐시용)
+     */
+    Optional<NewsEmbedding> findFirstByContentHash(String contentHash);
+
     /**
      * 최근 생성된 뉴스 임베딩 조회 (벡터 검색용)
      */
@@ -45,4 +59,47 @@ public interface NewsEmbeddingRepository extends JpaRepository<NewsEmbedding, Lo
            "ne.title LIKE %:keyword% OR ne.description LIKE %:keyword% " +
            "ORDER BY ne.createdAt DESC")
     List<NewsEmbedding> findByKeyword(@Param("keyword") String keyword);
+
+    /**
+     * 최근 생성된 뉴스 중 특정 URL을 제외한 벡터만 조회 (DB 전수 비교 추천용)
+     */
+    @Query("SELECT new com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector(ne.id, ne.newsUrl, ne.createdAt, ne.embeddingVector) " +
+           "FROM NewsEmbedding ne WHERE ne.createdAt >= :since AND ne.newsUrl <> :excludeUrl")
+    List<NewsEmbeddingVector> findRecentVectorsExcludingUrl(@Param("since") LocalDateTime since,
+                                                           @Param("excludeUrl") String excludeUrl);
+
+    /**
+     * 특정 URL을 제외한 전체 벡터만 조회 (DB 전수 비교 추천용)
+     */
+    @Query("SELECT new com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector(ne.id, ne.newsUrl, ne.createdAt, ne.embeddingVector) " +
+           "FROM NewsEmbedding ne WHERE ne.newsUrl <> :excludeUrl")
+    List<NewsEmbeddingVector> findVectorsExcludingUrl(@Param("excludeUrl") String excludeUrl);
+
+    /**
+     * URL로 벡터만 조회 (임베딩 조회 체인용)
+     */
+    @Query("SELECT new com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector(ne.id, ne.newsUrl, ne.createdAt, ne.embeddingVector) " +
+           "FROM NewsEmbedding ne WHERE ne.newsUrl = :newsUrl")
+    Optional<NewsEmbeddingVector> findVectorByNewsUrl(@Param("newsUrl") String newsUrl);
+
+    /**
+     * 전체 벡터만 조회 (벡터 인덱스 적재용)
+     */
+    @Query("SELECT new com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector(ne.id, ne.newsUrl, ne.createdAt, ne.embeddingVector, ne.updatedAt) " +
+           "FROM NewsEmbedding ne")
+    List<NewsEmbeddingVector> findAllVectors();
+
+    /**
+     * 특정 시각 이후 저장/갱신된 벡터만 조회 (다른 인스턴스가 저장한 임베딩을 벡터 인덱스에 반영)
+     */
+    @Query("SELECT new com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector(ne.id, ne.newsUrl, ne.createdAt, ne.embeddingVector, ne.updatedAt) " +
+           "FROM NewsEmbedding ne WHERE ne.updatedAt >= :since")
+    List<NewsEmbeddingVector> findVectorsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 상위 추천 결과 표시용 뉴스 정보 일괄 조회 (벡터 제외)
+     */
+    @Query("SELECT new com.swen.news.domain.news.dto.embedding.NewsEmbeddingSummary(ne.id, ne.newsUrl, ne.title, ne.description, ne.publisher, ne.createdAt) " +
+           "FROM NewsEmbedding ne WHERE ne.id IN :ids")
+    List<NewsEmbeddingSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,117 @@
+package com.swen.news.domain.news.repository;
+
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingSummary;
+import com.swen.news.domain.news.dto.embedding.NewsNeighbor;
+import com.swen.news.domain.news.vector.VectorSearchResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 뉴스별 미리 계산한 유사 뉴스 목록 리포지토리 (news_neighbor_lists, news_neighbors)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NewsNeighborRepository {
+
+    private static final String FIND_BY_URL_SQL =
+        "SELECT e.id, e.news_url, e.title, e.description, e.publisher, e.created_at, n.similarity " +
+        "FROM news_embeddings src " +
+        "JOIN news_neighbors n ON n.news_id = src.id " +
+        "JOIN news_embeddings e ON e.id = n.neighbor_id " +
+        "WHERE src.news_url = ? ORDER BY n.rank_no LIMIT ?";
+
+    private static final String FIND_MISSING_SQL =
+        "SELECT e.id FROM news_embeddings e LEFT JOIN news_neighbor_lists l ON l.news_id = e.id " +
+        "WHERE l.news_id IS NULL ORDER BY e.id DESC LIMIT ?";
+
+    private static final String FIND_STALE_SQL =
+        "SELECT news_id FROM news_neighbor_lists WHERE computed_at < ? ORDER BY computed_at LIMIT ?";
+
+    private static final String DELETE_NEIGHBORS_SQL =
+        "DELETE FROM news_neighbors WHERE news_id IN (:ids)";
+
+    private static final String UPSERT_LIST_SQL =
+        "INSERT INTO news_neighbor_lists (news_id, computed_at) VALUES (?, ?) AS new " +
+        "ON DUPLICATE KEY UPDATE computed_at = new.computed_at";
+
+    private static final String INSERT_NEIGHBOR_SQL =
+        "INSERT INTO news_neighbors (news_id, rank_no, neighbor_id, similarity) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 뉴스 URL의 미리 계산된 유사 뉴스 조회 (인덱스 조회 한 번)
+     *
+     * @return 유사도 내림차순 목록, 계산 전이거나 저장되지 않은 URL이면 빈 목록
+     */
+    public List<NewsNeighbor> findByNewsUrl(String newsUrl, int limit) {
+        return jdbcTemplate.query(FIND_BY_URL_SQL, (rs, rowNum) -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            return new NewsNeighbor(
+                new NewsEmbeddingSummary(
+                    rs.getLong("id"),
+                    rs.getString("news_url"),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    rs.getString("publisher"),
+                    createdAt != null ? createdAt.toLocalDateTime() : null
+                ),
+                rs.getFloat("similarity")
+            );
+        }, newsUrl, limit);
+    }
+
+    /**
+     * 아직 이웃 목록이 계산되지 않은 뉴스 ID (최신순)
+     */
+    public List<Long> findIdsWithoutNeighbors(int limit) {
+        return jdbcTemplate.queryForList(FIND_MISSING_SQL, Long.class, limit);
+    }
+
+    /**
+     * 계산 후 오래된 이웃 목록의 뉴스 ID (오래된 순)
+     */
+    public List<Long> findStaleIds(LocalDateTime computedBefore, int limit) {
+        return jdbcTemplate.queryForList(FIND_STALE_SQL, Long.class, Timestamp.valueOf(computedBefore), limit);
+    }
+
+    /**
+     * 뉴스별 이웃 목록 교체 (기존 목록 삭제 후 일괄 저장)
+     *
+     * @param neighborsByNewsId 뉴스 ID → 유사도 내림차순 이웃
+     */
+    @Transactional
+    public void replaceNeighbors(Map<Long, List<VectorSearchResult>> neighborsByNewsId, LocalDateTime computedAt) {
+        if (neighborsByNewsId.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(computedAt);
+
+        List<Object[]> lists = new ArrayList<>(neighborsByNewsId.size());
+        List<Object[]> neighbors = new ArrayList<>();
+        neighborsByNewsId.forEach((newsId, results) -> {
+            lists.add(new Object[]{newsId, timestamp});
+            for (int rank = 0; rank < results.size(); rank++) {
+                VectorSearchResult result = results.get(rank);
+                neighbors.add(new Object[]{newsId, rank + 1, result.getId(), result.getSimilarity()});
+            }
+        });
+
+        namedParameterJdbcTemplate.update(DELETE_NEIGHBORS_SQL, new MapSqlParameterSource("ids", neighborsByNewsId.keySet()));
+        jdbcTemplate.batchUpdate(UPSERT_LIST_SQL, lists);
+        if (!neighbors.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_NEIGHBOR_SQL, neighbors);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.swen.news.domain.news.scheduler;
+
+import com.swen.news.domain.news.repository.NewsEmbeddingArchiveRepository;
+import com.swen.news.domain.news.vector.NewsVectorIndex;
+import com.swen.news.global.lock.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 뉴스 임베딩 보존 기간 관리 스케줄러
+ *
+ * <p>hot-days가 지난 임베딩은 양자화하여 보관 테이블로 옮기고, archive-days가 지난 보관 데이터는 삭제합니다.
+ * 추천 조회 대상(news_embeddings)이 최근 기간으로 제한되어 데이터가 쌓여도 조회 비용이 일정하게 유지됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.news-embedding-retention.enabled", havingValue = "true", matchIfMissing = true)
+public class NewsEmbeddingRetentionScheduler {
+
+    private static final String LOCK_NAME = "news-embedding-retention";
+
+    private final NewsEmbeddingArchiveRepository archiveRepository;
+    private final NewsVectorIndex newsVectorIndex;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${embedding-retention.hot-days:30}")
+    private int hotDays;
+
+    @Value("${embedding-retention.archive-days:365}")
+    private int archiveDays;
+
+    @Value("${embedding-retention.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 매일 새벽 3시 30분에 보관/삭제 (임베딩 배치와 겹치지 않는 시간)
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void applyRetention() {
+        schedulerLock.executeWithLock(LOCK_NAME, Duration.ofHours(1), Duration.ofMinutes(5), () -> {
+            try {
+                archiveExpiredEmbeddings();
+                purgeExpiredArchive();
+            } catch (Exception e) {
+                log.error("뉴스 임베딩 보존 기간 작업 중 오류 발생", e);
+            }
+        });
+    }
+
+    private void archiveExpiredEmbeddings() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(hotDays);
+        int total = 0;
+        List<Long> archived;
+        // 청크 단위 트랜잭션으로 나눠 잠금 시간을 짧게 유지
+        do {
+            archived = archiveRepository.archiveOlderThan(cutoff, chunkSize);
+            newsVectorIndex.removeAll(archived);
+            total += archived.size();
+        } while (archived.size() == chunkSize);
+        log.info("뉴스 임베딩 보관 완료 - {}일 이전 {}건", hotDays, total);
+    }
+
+    private void purgeExpiredArchive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveDays);
+        int total = 0;
+        int purged;
+        do {
+            purged = archiveRepository.purgeOlderThan(cutoff, chunkSize);
+            total += purged;
+        } while (purged == chunkSize);
+        log.info("보관 임베딩 삭제 완료 - {}일 이전 {}건", archiveDays, total);
+    }
+}
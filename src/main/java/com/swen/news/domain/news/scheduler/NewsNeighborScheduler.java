@@ -0,0 +1,26 @@
+package com.swen.news.domain.news.scheduler;
+
+import com.swen.news.domain.news.batch.NewsNeighborBatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유사 뉴스 사전 계산 스케줄러
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.news-neighbors.enabled", havingValue = "true", matchIfMissing = true)
+public class NewsNeighborScheduler {
+
+    private final NewsNeighborBatchService newsNeighborBatchService;
+
+    /**
+     * 이전 실행 종료 후 refresh-interval-ms마다 신규/미계산/오래된 목록 갱신
+     */
+    @Scheduled(fixedDelayString = "${news-neighbors.refresh-interval-ms:60000}", initialDelay = 120000)
+    public void refreshNeighbors() {
+        newsNeighborBatchService.refresh();
+    }
+}
@@ -0,0 +1,27 @@
+package com.swen.news.domain.news.scheduler;
+
+import com.swen.news.domain.news.vector.NewsVectorIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 벡터 인덱스 동기화 스케줄러
+ *
+ * <p>배치는 락을 잡은 인스턴스에서만 실행되므로 모든 인스턴스에서 실행합니다 (분산 락 없음).
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsVectorIndexScheduler {
+
+    private final NewsVectorIndex newsVectorIndex;
+
+    /**
+     * 이전 실행 종료 후 sync-interval-ms마다 다른 인스턴스가 저장한 임베딩 반영
+     */
+    @Scheduled(fixedDelayString = "${vector-db.index.sync-interval-ms:60000}",
+               initialDelayString = "${vector-db.index.sync-interval-ms:60000}")
+    public void syncIndex() {
+        newsVectorIndex.syncFromDatabase();
+    }
+}
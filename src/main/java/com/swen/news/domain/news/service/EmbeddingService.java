@@ -14,16 +14,52 @@ public interface EmbeddingService {
      * 텍스트를 벡터로 변환
      */
     EmbeddingResponse generateEmbedding(String text);
+
+    /**
+     * 뉴스 아이템을 벡터로 변환 (메모리 캐시 → URL로 저장된 벡터 → 원격 API 순서로 조회)
+     */
+    EmbeddingResponse generateNewsEmbedding(NewsItem newsItem);
+
+    /**
+     * 여러 텍스트를 제한된 동시 호출로 일괄 벡터 변환
+     *
+     * @return 입력 순서와 같은 결과 (실패한 항목은 null)
+     */
+    List<EmbeddingResponse> generateEmbeddings(List<String> texts);
     
     /**
      * 뉴스 아이템을 임베딩으로 변환하여 저장
      */
     void saveNewsEmbedding(NewsItem newsItem);
+
+    /**
+     * 뉴스 아이템들을 일괄 임베딩하여 JDBC 배치로 저장 (이미 저장된 URL은 건너뜀)
+     *
+     * @return 저장(신규 또는 동시 저장과 겹쳐 갱신)된 건수
+     */
+    int saveNewsEmbeddings(List<NewsItem> newsItems);
+
+    /**
+     * 요청 내 중복 URL과 이미 저장된 URL(일괄 IN 조회)을 제외한 뉴스 아이템 반환
+     */
+    List<NewsItem> filterUnsavedNews(List<NewsItem> newsItems);
+
+    /**
+     * 생성된 임베딩을 JDBC 배치 upsert로 저장 (embeddings는 newsItems와 같은 순서, null 항목은 건너뜀)
+     *
+     * @return 저장(신규 또는 갱신)된 건수
+     */
+    int persistNewsEmbeddings(List<NewsItem> newsItems, List<EmbeddingResponse> embeddings);
     
     /**
-     * 두 벡터 간의 코사인 유사도 계산
+     * 두 정규화 벡터 간의 코사인 유사도 계산 (= 내적)
+     */
+    double calculateCosineSimilarity(float[] vector1, float[] vector2);
+
+    /**
+     * 질의 벡터와 후보 벡터들 간의 코사인 유사도 일괄 계산
      */
-    double calculateCosineSimilarity(List<Double> vector1, List<Double> vector2);
+    float[] calculateCosineSimilarities(float[] query, float[][] candidates);
     
     /**
      * 뉴스 텍스트를 임베딩용 텍스트로 전처리
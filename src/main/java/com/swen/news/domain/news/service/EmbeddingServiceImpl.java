@@ -1,23 +1,34 @@
 package com.swen.news.domain.news.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swen.news.domain.news.cache.EmbeddingCache;
 import com.swen.news.domain.news.code.NewsErrorCode;
 import com.swen.news.domain.news.dto.NewsItem;
 import com.swen.news.domain.news.dto.embedding.EmbeddingResponse;
 import com.swen.news.domain.news.entity.NewsEmbedding;
+import com.swen.news.domain.news.event.NewsEmbeddingSavedEvent;
 import com.swen.news.domain.news.exception.NewsException;
+import com.swen.news.domain.news.repository.NewsEmbeddingBatchRepository.SavedEmbedding;
 import com.swen.news.domain.news.repository.NewsEmbeddingRepository;
+import com.swen.news.domain.news.vector.VectorCodec;
+import com.swen.news.domain.news.vector.VectorMath;
 import com.swen.news.global.client.HyperClovaEmbeddingClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * 임베딩 서비스 구현체
@@ -30,6 +41,11 @@ public class EmbeddingServiceImpl implements EmbeddingService {
     private final HyperClovaEmbeddingClient embeddingClient;
     private final NewsEmbeddingRepository newsEmbeddingRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmbeddingCache embeddingCache;
+
+    @Qualifier("embeddingApiExecutor")
+    private final Executor embeddingApiExecutor;
 
     @Value("${external-api.naver.hyperclova.embedding-api-key}")
     private String embeddingApiKey;
@@ -39,8 +55,29 @@ public class EmbeddingServiceImpl implements EmbeddingService {
 
     @Override
     public EmbeddingResponse generateEmbedding(String text) {
+        return generateEmbedding(text, null);
+    }
+
+    @Override
+    public EmbeddingResponse generateNewsEmbedding(NewsItem newsItem) {
+        // 이미 저장된 뉴스면 URL로 저장된 벡터를 재사용하여 원격 호출 생략
+        return generateEmbedding(preprocessNewsText(newsItem), newsItem.getLink());
+    }
+
+    private EmbeddingResponse generateEmbedding(String text, String newsUrl) {
+        float[] cached = embeddingCache.get(text, newsUrl);
+        if (cached != null) {
+            log.debug("임베딩 캐시 적중 - 텍스트 길이: {}", text.length());
+            return EmbeddingResponse.builder()
+                .embedding(cached)
+                .text(text)
+                .dimension(cached.length)
+                .build();
+        }
+
         try {
             log.info("HyperCLOVA 임베딩 생성 시작 - 텍스트 길이: {}", text.length());
+            embeddingCache.recordRemoteCall();
 
             String requestBody = buildEmbeddingRequest(text);
             String response = embeddingClient.generateEmbedding(
@@ -50,7 +87,9 @@ public class EmbeddingServiceImpl implements EmbeddingService {
                 requestBody
             );
 
-            return parseEmbeddingResponse(response, text);
+            EmbeddingResponse embeddingResponse = parseEmbeddingResponse(response, text);
+            embeddingCache.put(text, embeddingResponse.getEmbedding());
+            return embeddingResponse;
 
         } catch (Exception e) {
             log.error("HyperCLOVA 임베딩 생성 중 오류 발생", e);
@@ -59,37 +98,117 @@ public class EmbeddingServiceImpl implements EmbeddingService {
     }
 
     @Override
-    @Transactional
-    public void saveNewsEmbedding(NewsItem newsItem) {
-        try {
-            // 이미 저장된 뉴스인지 확인
-            if (newsEmbeddingRepository.findByNewsUrl(newsItem.getLink()).isPresent()) {
-                log.debug("이미 저장된 뉴스 스킵: {}", newsItem.getLink());
-                return;
+    public List<EmbeddingResponse> generateEmbeddings(List<String> texts) {
+        // 같은 텍스트는 한 번만 호출
+        Map<String, CompletableFuture<EmbeddingResponse>> futures = new LinkedHashMap<>();
+        for (String text : texts) {
+            futures.computeIfAbsent(text, t -> CompletableFuture
+                .supplyAsync(() -> generateEmbedding(t), embeddingApiExecutor)
+                .exceptionally(e -> {
+                    log.warn("일괄 임베딩 중 개별 항목 실패 - 텍스트 길이: {}", t.length());
+                    return null;
+                }));
+        }
+
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+
+        List<EmbeddingResponse> results = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            results.add(futures.get(text).join());
+        }
+        return results;
+    }
+
+    @Override
+    public int saveNewsEmbeddings(List<NewsItem> newsItems) {
+        // 1. 이미 저장된 URL 제외
+        List<NewsItem> targets = filterUnsavedNews(newsItems);
+        if (targets.isEmpty()) {
+            log.debug("일괄 저장 대상 없음 - 모두 이미 저장된 뉴스");
+            return 0;
+        }
+
+        // 2. 임베딩 일괄 생성 (트랜잭션 밖에서 원격 호출)
+        List<EmbeddingResponse> embeddings = generateEmbeddings(targets.stream().map(this::preprocessNewsText).toList());
+
+        // 3. JDBC 배치 저장
+        int saved = persistNewsEmbeddings(targets, embeddings);
+        log.info("뉴스 임베딩 일괄 저장 완료 - 요청: {}건, 대상: {}건, 저장: {}건", newsItems.size(), targets.size(), saved);
+        return saved;
+    }
+
+    @Override
+    public List<NewsItem> filterUnsavedNews(List<NewsItem> newsItems) {
+        // 요청 내 중복 URL 제거 후 이미 저장된 URL을 한 번의 IN 쿼리로 제외
+        Map<String, NewsItem> itemsByUrl = new LinkedHashMap<>();
+        for (NewsItem newsItem : newsItems) {
+            if (newsItem.getLink() != null) {
+                itemsByUrl.putIfAbsent(newsItem.getLink(), newsItem);
             }
+        }
+        if (itemsByUrl.isEmpty()) {
+            return List.of();
+        }
+        newsEmbeddingRepository.findExistingNewsUrls(itemsByUrl.keySet()).forEach(itemsByUrl::remove);
+        return new ArrayList<>(itemsByUrl.values());
+    }
 
-            // 뉴스 텍스트 전처리
-            String preprocessedText = preprocessNewsText(newsItem);
-            
-            // 임베딩 생성
-            EmbeddingResponse embeddingResponse = generateEmbedding(preprocessedText);
-            
-            // 벡터를 JSON 문자열로 변환
-            String vectorJson = objectMapper.writeValueAsString(embeddingResponse.getEmbedding());
-            
-            // 엔티티 생성 및 저장
-            NewsEmbedding newsEmbedding = NewsEmbedding.builder()
+    @Override
+    public int persistNewsEmbeddings(List<NewsItem> newsItems, List<EmbeddingResponse> embeddings) {
+        List<NewsEmbedding> entities = new ArrayList<>(newsItems.size());
+        List<float[]> vectors = new ArrayList<>(newsItems.size());
+        for (int i = 0; i < newsItems.size(); i++) {
+            EmbeddingResponse embeddingResponse = embeddings.get(i);
+            if (embeddingResponse == null) {
+                continue;
+            }
+            NewsItem newsItem = newsItems.get(i);
+            entities.add(NewsEmbedding.builder()
                 .newsUrl(newsItem.getLink())
                 .title(newsItem.getTitle())
                 .description(newsItem.getDescription())
                 .publisher(newsItem.getPublisher())
-                .embeddingVector(vectorJson)
+                .embeddingVector(VectorCodec.encode(embeddingResponse.getEmbedding()))
                 .vectorDimension(embeddingResponse.getDimension())
-                .build();
+                .contentHash(EmbeddingCache.contentHash(embeddingResponse.getText()))
+                .build());
+            vectors.add(embeddingResponse.getEmbedding());
+        }
+        if (entities.isEmpty()) {
+            return 0;
+        }
 
-            newsEmbeddingRepository.save(newsEmbedding);
-            log.info("뉴스 임베딩 저장 완료: {}", newsItem.getTitle());
+        // upsert된 행을 벡터 인덱스에 반영 (기존 행은 인덱스에서 새 벡터로 교체됨)
+        Map<String, SavedEmbedding> saved = newsEmbeddingRepository.batchUpsert(entities, LocalDateTime.now());
+        for (int i = 0; i < entities.size(); i++) {
+            SavedEmbedding row = saved.get(entities.get(i).getNewsUrl());
+            if (row != null) {
+                eventPublisher.publishEvent(new NewsEmbeddingSavedEvent(
+                    row.id(),
+                    entities.get(i).getNewsUrl(),
+                    row.createdAt(),
+                    vectors.get(i)
+                ));
+            }
+        }
+        return saved.size();
+    }
 
+    @Override
+    public void saveNewsEmbedding(NewsItem newsItem) {
+        try {
+            // 이미 저장된 뉴스면 임베딩 API 호출 자체를 생략 (정합성은 아래 upsert가 보장)
+            if (!filterUnsavedNews(List.of(newsItem)).isEmpty()) {
+                // 뉴스 텍스트 전처리 후 임베딩 생성 (트랜잭션 밖에서 원격 호출)
+                EmbeddingResponse embeddingResponse = generateEmbedding(preprocessNewsText(newsItem));
+
+                // 배치 경로와 같은 upsert로 저장하여 동시 저장 시에도 unique 제약 충돌이 없음
+                if (persistNewsEmbeddings(List.of(newsItem), List.of(embeddingResponse)) > 0) {
+                    log.info("뉴스 임베딩 저장 완료: {}", newsItem.getTitle());
+                }
+            } else {
+                log.debug("이미 저장된 뉴스 스킵: {}", newsItem.getLink());
+            }
         } catch (Exception e) {
             log.error("뉴스 임베딩 저장 중 오류 발생: {}", newsItem.getTitle(), e);
             // 임베딩 저장 실패가 전체 플로우를 막지 않도록 예외를 던지지 않음
@@ -97,26 +216,14 @@ public class EmbeddingServiceImpl implements EmbeddingService {
     }
 
     @Override
-    public double calculateCosineSimilarity(List<Double> vector1, List<Double> vector2) {
-        if (vector1.size() != vector2.size()) {
-            throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다");
-        }
-
-        double dotProduct = 0.0;
-        double norm1 = 0.0;
-        double norm2 = 0.0;
-
-        for (int i = 0; i < vector1.size(); i++) {
-            dotProduct += vector1.get(i) * vector2.get(i);
-            norm1 += vector1.get(i) * vector1.get(i);
-            norm2 += vector2.get(i) * vector2.get(i);
-        }
-
-        if (norm1 == 0.0 || norm2 == 0.0) {
-            return 0.0;
-        }
+    public double calculateCosineSimilarity(float[] vector1, float[] vector2) {
+        // 저장/생성 시 모두 단위 벡터로 정규화되므로 내적이 곧 코사인 유사도
+        return VectorMath.dot(vector1, vector2);
+    }
 
-        return dotProduct / (Math.sqrt(norm1) * Math.sqrt(norm2));
+    @Override
+    public float[] calculateCosineSimilarities(float[] query, float[][] candidates) {
+        return VectorMath.dot(query, candidates);
     }
 
     @Override
@@ -168,14 +275,15 @@ public class EmbeddingServiceImpl implements EmbeddingService {
             if (resultNode != null) {
                 JsonNode embeddingNode = resultNode.get("embedding");
                 if (embeddingNode != null && embeddingNode.isArray()) {
-                    List<Double> embedding = objectMapper.convertValue(
-                        embeddingNode, new TypeReference<List<Double>>() {}
-                    );
-                    
+                    float[] embedding = new float[embeddingNode.size()];
+                    for (int i = 0; i < embedding.length; i++) {
+                        embedding[i] = (float) embeddingNode.get(i).asDouble();
+                    }
+
                     return EmbeddingResponse.builder()
-                        .embedding(embedding)
+                        .embedding(VectorMath.normalize(embedding))
                         .text(originalText)
-                        .dimension(embedding.size())
+                        .dimension(embedding.length)
                         .build();
                 }
             }
@@ -4,13 +4,10 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.swen.news.domain.news.dto.NewsItem;
 import com.swen.news.domain.news.dto.NewsSearchRequest;
-import com.swen.news.global.client.NaverNewsClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -24,16 +21,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FallbackRecommendationService {
 
-    private final NaverNewsClient naverNewsClient;
+    private final NaverNewsSearchService naverNewsSearchService;
     private final ObjectMapper objectMapper;
     private final EmbeddingService embeddingService;
 
-    @Value("${external-api.naver.news.client-id}")
-    private String naverClientId;
-
-    @Value("${external-api.naver.news.client-secret}")
-    private String naverClientSecret;
-
     /**
      * 간단한 키워드 기반 Fallback 추천
      */
@@ -121,9 +112,7 @@ public class FallbackRecommendationService {
      */
     private List<NewsItem> searchByKeyword(String keyword, int count) {
         try {
-            String response = naverNewsClient.searchNews(
-                naverClientId,
-                naverClientSecret,
+            String response = naverNewsSearchService.search(
                 keyword,
                 count,
                 1,
@@ -170,7 +159,7 @@ public class FallbackRecommendationService {
                         .description(cleanHtmlTags(itemNode.get("description").asText()))
                         .publisher(itemNode.get("publisher") != null ? 
                             itemNode.get("publisher").asText() : "")
-                        .pubDate(LocalDateTime.now())
+                        .pubDate(NewsItem.parsePubDate(itemNode.path("pubDate").asText(null)))
                         .build();
                     newsItems.add(newsItem);
                 }
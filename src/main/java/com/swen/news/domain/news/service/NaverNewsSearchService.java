@@ -0,0 +1,114 @@
+package com.swen.news.domain.news.service;
+
+import com.swen.news.global.cache.SingleFlightCache;
+import com.swen.news.global.client.NaverNewsClient;
+import com.swen.news.global.client.async.AsyncExternalApiClient;
+import com.swen.news.global.client.async.HedgingPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 네이버 뉴스 검색 API 호출 병합 서비스
+ *
+ * <p>같은 (검색어, display, start, sort) 요청이 동시에 들어오면 한 번만 호출하고,
+ * 결과는 짧은 TTL 동안 캐시하여 반복 키워드 검색의 API 할당량과 지연을 줄입니다.
+ *
+ * <p>naver-news-search.hedge.enabled=true이면 비동기 클라이언트로 호출하고, 응답이 최근 p95보다 늦어지면
+ * 같은 요청을 한 번 더 보내 먼저 온 응답을 사용합니다 ({@link HedgingPolicy}).
+ */
+@Slf4j
+@Service
+public class NaverNewsSearchService {
+
+    private final NaverNewsClient naverNewsClient;
+    private final AsyncExternalApiClient asyncExternalApiClient;
+    private final SingleFlightCache<SearchKey, String> searchCache;
+    private final HedgingPolicy hedgingPolicy;
+
+    @Value("${external-api.naver.news.client-id}")
+    private String naverClientId;
+
+    @Value("${external-api.naver.news.client-secret}")
+    private String naverClientSecret;
+
+    public NaverNewsSearchService(NaverNewsClient naverNewsClient,
+                                  AsyncExternalApiClient asyncExternalApiClient,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${naver-news-search.cache.max-size:500}") int maxSize,
+                                  @Value("${naver-news-search.cache.ttl-seconds:30}") long ttlSeconds,
+                                  @Value("${naver-news-search.hedge.enabled:false}") boolean hedgeEnabled,
+                                  @Value("${naver-news-search.hedge.percentile:0.95}") double hedgePercentile,
+                                  @Value("${naver-news-search.hedge.min-samples:50}") int hedgeMinSamples,
+                                  @Value("${naver-news-search.hedge.min-delay-ms:50}") long hedgeMinDelayMs,
+                                  @Value("${naver-news-search.hedge.max-delay-ms:2000}") long hedgeMaxDelayMs,
+                                  @Value("${naver-news-search.hedge.budget-ratio:0.05}") double hedgeBudgetRatio,
+                                  @Value("${naver-news-search.hedge.max-burst:5}") int hedgeMaxBurst,
+                                  @Value("${naver-news-search.hedge.reservoir-size:512}") int hedgeReservoirSize) {
+        this.naverNewsClient = naverNewsClient;
+        this.asyncExternalApiClient = asyncExternalApiClient;
+        this.searchCache = new SingleFlightCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+        this.hedgingPolicy = hedgeEnabled
+            ? new HedgingPolicy("naver-news-search", hedgePercentile, hedgeMinSamples,
+                Duration.ofMillis(hedgeMinDelayMs), Duration.ofMillis(hedgeMaxDelayMs),
+                hedgeBudgetRatio, hedgeMaxBurst, hedgeReservoirSize, meterRegistry)
+            : null;
+
+        FunctionCounter.builder("naver.news.search.requests", searchCache, SingleFlightCache::hitCount)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("naver.news.search.requests", searchCache, SingleFlightCache::joinCount)
+            .tag("result", "in_flight")
+            .register(meterRegistry);
+        FunctionCounter.builder("naver.news.search.requests", searchCache, SingleFlightCache::loadCount)
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 뉴스 검색 (캐시 적중 또는 진행 중인 동일 요청이 있으면 그 결과를 사용)
+     *
+     * @param query 검색어
+     * @param display 검색 결과 개수
+     * @param start 검색 시작 위치
+     * @param sort 정렬 방식
+     * @return 검색 결과 JSON
+     */
+    public String search(String query, Integer display, Integer start, String sort) {
+        SearchKey key = new SearchKey(query, display, start, sort);
+        if (hedgingPolicy != null) {
+            return searchHedged(key);
+        }
+        return searchCache.get(key, () -> {
+            log.debug("네이버 뉴스 검색 API 호출 - 검색어: {}, display: {}, start: {}", query, display, start);
+            return naverNewsClient.searchNews(naverClientId, naverClientSecret, query, display, start, sort);
+        });
+    }
+
+    /**
+     * 헤지 정책으로 검색 (대기 중인 헤지 요청은 스레드를 점유하지 않음)
+     */
+    private String searchHedged(SearchKey key) {
+        try {
+            return searchCache.getAsync(key, () -> hedgingPolicy.execute(() -> {
+                log.debug("네이버 뉴스 검색 API 호출(헤지) - 검색어: {}, display: {}, start: {}",
+                    key.query(), key.display(), key.start());
+                return asyncExternalApiClient.searchNews(naverClientId, naverClientSecret,
+                    key.query(), key.display(), key.start(), key.sort());
+            })).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record SearchKey(String query, Integer display, Integer start, String sort) {
+    }
+}
@@ -1,21 +1,38 @@
 package com.swen.news.domain.news.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.swen.news.domain.news.dto.NewsItem;
 import com.swen.news.domain.news.dto.embedding.EmbeddingResponse;
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingSummary;
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector;
 import com.swen.news.domain.news.dto.embedding.VectorSimilarityDto;
-import com.swen.news.domain.news.entity.NewsEmbedding;
 import com.swen.news.domain.news.repository.NewsEmbeddingRepository;
+import com.swen.news.domain.news.repository.NewsNeighborRepository;
+import com.swen.news.domain.news.vector.NewsVectorIndex;
+import com.swen.news.domain.news.vector.TopKSelector;
+import com.swen.news.domain.news.vector.VectorCodec;
+import com.swen.news.domain.news.vector.VectorSearchResult;
+import com.swen.news.global.ratelimit.RequestPriority;
+import com.swen.news.global.ratelimit.RequestPriorityContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -28,8 +45,12 @@ public class NewsRecommendationServiceImpl implements NewsRecommendationService
 
     private final EmbeddingService embeddingService;
     private final NewsEmbeddingRepository newsEmbeddingRepository;
+    private final NewsNeighborRepository newsNeighborRepository;
     private final FallbackRecommendationService fallbackRecommendationService;
-    private final ObjectMapper objectMapper;
+    private final NewsVectorIndex newsVectorIndex;
+
+    @Qualifier("rankingExecutor")
+    private final Executor rankingExecutor;
 
     @Value("${vector-db.similarity-threshold:0.7}")
     private double similarityThreshold;
@@ -37,6 +58,12 @@ public class NewsRecommendationServiceImpl implements NewsRecommendationService
     @Value("${vector-db.max-recommendations:5}")
     private int maxRecommendations;
 
+    @Value("${vector-db.ranking.concurrency:8}")
+    private int rankingConcurrency;
+
+    @Value("${vector-db.ranking.embedding-timeout-ms:3000}")
+    private long rankingTimeoutMillis;
+
     @Override
     public List<NewsItem> findSimilarNewsByScript(String script, NewsItem currentNews) {
         try {
@@ -45,34 +72,28 @@ public class NewsRecommendationServiceImpl implements NewsRecommendationService
             // 1. 스크립트를 임베딩으로 변환
             EmbeddingResponse scriptEmbedding = embeddingService.generateEmbedding(script);
 
-            // 2. 최근 뉴스 임베딩들 조회 (최근 7일)
+            // 2. 최근 7일 뉴스 중 현재 뉴스를 제외하고 임계값 이상 상위 뉴스 선택
             LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-            List<NewsEmbedding> recentEmbeddings = newsEmbeddingRepository.findRecentEmbeddings(weekAgo);
-
-            // 3. 현재 뉴스 제외
-            List<NewsEmbedding> candidateEmbeddings = recentEmbeddings.stream()
-                .filter(embedding -> !embedding.getNewsUrl().equals(currentNews.getLink()))
-                .collect(Collectors.toList());
+            List<VectorSimilarityDto> similarities;
+            if (newsVectorIndex.isReady()) {
+                similarities = searchVectorIndex(scriptEmbedding.getEmbedding(), currentNews.getLink(), weekAgo);
+            } else {
+                List<NewsEmbeddingVector> candidateEmbeddings =
+                    newsEmbeddingRepository.findRecentVectorsExcludingUrl(weekAgo, currentNews.getLink());
+                similarities = calculateSimilarities(scriptEmbedding.getEmbedding(), candidateEmbeddings);
+            }
 
-            // 4. 벡터DB가 비어있으면 Fallback 전략 사용
-            if (candidateEmbeddings.isEmpty()) {
-                log.info("벡터DB가 비어있음 - Fallback 전략으로 실시간 뉴스 검색");
+            // 3. 벡터DB가 비어있거나 유사한 뉴스가 없으면 Fallback 전략 사용
+            if (similarities.isEmpty()) {
+                log.info("벡터DB에 유사한 뉴스 없음 - Fallback 전략으로 실시간 뉴스 검색");
                 return fallbackRecommendationService.getFallbackRecommendations(currentNews, maxRecommendations);
             }
 
-            // 5. 유사도 계산 및 정렬
-            List<VectorSimilarityDto> similarities = calculateSimilarities(
-                scriptEmbedding.getEmbedding(), candidateEmbeddings
-            );
-
-            // 6. 임계값 이상의 유사도를 가진 뉴스들만 필터링
             List<NewsItem> recommendations = similarities.stream()
-                .filter(sim -> sim.getSimilarity() >= similarityThreshold)
-                .limit(maxRecommendations)
                 .map(VectorSimilarityDto::getNewsItem)
                 .collect(Collectors.toList());
 
-            // 7. 추천 결과가 부족하면 Fallback으로 보완
+            // 4. 추천 결과가 부족하면 Fallback으로 보완
             if (recommendations.size() < 3) {
                 log.info("추천 결과 부족 ({}/5) - Fallback으로 보완", recommendations.size());
                 List<NewsItem> fallbackNews = fallbackRecommendationService.getFallbackRecommendations(
@@ -100,22 +121,30 @@ public class NewsRecommendationServiceImpl implements NewsRecommendationService
         try {
             log.info("콘텐츠 기반 관련 뉴스 검색 시작: {}", currentNews.getTitle());
 
-            // 1. 현재 뉴스를 임베딩으로 변환
-            String preprocessedText = embeddingService.preprocessNewsText(currentNews);
-            EmbeddingResponse currentEmbedding = embeddingService.generateEmbedding(preprocessedText);
+            // 0. 이미 저장된 뉴스면 미리 계산된 이웃 목록 사용 (인덱스 조회 한 번, 임베딩 생성 없음)
+            //    임계값을 넘는 이웃이 없으면 이후 저장된 뉴스가 있을 수 있으므로 실시간 검색으로 진행
+            List<NewsItem> precomputed = newsNeighborRepository.findByNewsUrl(currentNews.getLink(), maxRecommendations).stream()
+                .filter(neighbor -> neighbor.getSimilarity() >= similarityThreshold)
+                .map(neighbor -> toNewsItem(neighbor.getSummary()))
+                .collect(Collectors.toList());
+            if (!precomputed.isEmpty()) {
+                return precomputed;
+            }
 
-            // 2. 현재 뉴스를 제외한 모든 뉴스 임베딩 조회
-            List<NewsEmbedding> candidateEmbeddings = newsEmbeddingRepository.findAllExcludingUrl(currentNews.getLink());
+            // 1. 현재 뉴스를 임베딩으로 변환 (저장된 뉴스면 원격 호출 없이 기존 벡터 사용)
+            EmbeddingResponse currentEmbedding = embeddingService.generateNewsEmbedding(currentNews);
 
-            // 3. 유사도 계산 및 정렬
-            List<VectorSimilarityDto> similarities = calculateSimilarities(
-                currentEmbedding.getEmbedding(), candidateEmbeddings
-            );
+            // 2. 현재 뉴스를 제외하고 임계값 이상 상위 뉴스 선택
+            List<VectorSimilarityDto> similarities;
+            if (newsVectorIndex.isReady()) {
+                similarities = searchVectorIndex(currentEmbedding.getEmbedding(), currentNews.getLink(), null);
+            } else {
+                List<NewsEmbeddingVector> candidateEmbeddings = newsEmbeddingRepository.findVectorsExcludingUrl(currentNews.getLink());
+                similarities = calculateSimilarities(currentEmbedding.getEmbedding(), candidateEmbeddings);
+            }
 
-            // 4. 상위 추천 뉴스 반환
+            // 3. 상위 추천 뉴스 반환
             return similarities.stream()
-                .filter(sim -> sim.getSimilarity() >= similarityThreshold)
-                .limit(maxRecommendations)
                 .map(VectorSimilarityDto::getNewsItem)
                 .collect(Collectors.toList());
 
@@ -128,39 +157,41 @@ public class NewsRecommendationServiceImpl implements NewsRecommendationService
     @Override
     public List<VectorSimilarityDto> calculateSimilarityRanking(NewsItem targetNews, List<NewsItem> candidateNews) {
         try {
-            // 타겟 뉴스 임베딩 생성
-            String preprocessedText = embeddingService.preprocessNewsText(targetNews);
-            EmbeddingResponse targetEmbedding = embeddingService.generateEmbedding(preprocessedText);
-
-            List<VectorSimilarityDto> similarities = new ArrayList<>();
+            // 실행기/지연 스레드로 넘어가도 호출자 우선순위로 외부 API 호출 (시간 초과 후 다음 후보는 지연 스레드에서 시작됨)
+            RequestPriority priority = RequestPriorityContext.current();
 
-            for (NewsItem candidate : candidateNews) {
-                try {
-                    String candidateText = embeddingService.preprocessNewsText(candidate);
-                    EmbeddingResponse candidateEmbedding = embeddingService.generateEmbedding(candidateText);
+            // 타겟과 후보 임베딩을 동시에 생성 (캐시/저장된 벡터 우선, 실패/시간 초과 후보는 null → NaN으로 제외)
+            CompletableFuture<EmbeddingResponse> targetFuture =
+                embedWithTimeout(() -> embeddingService.generateNewsEmbedding(targetNews), priority);
+            float[][] candidateVectors = embedCandidates(candidateNews, priority);
 
-                    double similarity = embeddingService.calculateCosineSimilarity(
-                        targetEmbedding.getEmbedding(),
-                        candidateEmbedding.getEmbedding()
-                    );
+            EmbeddingResponse targetEmbedding;
+            try {
+                targetEmbedding = targetFuture.join();
+            } catch (CompletionException e) {
+                // 유사도를 계산할 수 없으므로 순위 없는 후보를 내보내지 않음
+                log.warn("타겟 뉴스 임베딩 실패 - 유사도 랭킹 생략: {}", targetNews.getTitle());
+                return new ArrayList<>();
+            }
 
-                    String matchReason = generateMatchReason(targetNews, candidate, similarity);
+            // 임계값 이상 상위 후보만 선택 후 DTO 생성
+            float[] scores = embeddingService.calculateCosineSimilarities(targetEmbedding.getEmbedding(), candidateVectors);
+            TopKSelector selector = new TopKSelector(maxRecommendations, (float) similarityThreshold).offerAll(scores);
 
-                    similarities.add(VectorSimilarityDto.builder()
-                        .newsItem(candidate)
-                        .similarity(similarity)
-                        .matchReason(matchReason)
-                        .build());
+            List<VectorSimilarityDto> similarities = new ArrayList<>(selector.size());
+            for (int rank = 0; rank < selector.size(); rank++) {
+                int index = selector.indexAt(rank);
+                NewsItem candidate = candidateNews.get(index);
+                double similarity = selector.scoreAt(rank);
 
-                } catch (Exception e) {
-                    log.warn("개별 뉴스 유사도 계산 실패: {}", candidate.getTitle());
-                }
+                similarities.add(VectorSimilarityDto.builder()
+                    .newsItem(candidate)
+                    .similarity(similarity)
+                    .embedding(candidateVectors[index])
+                    .matchReason(generateMatchReason(targetNews, candidate, similarity))
+                    .build());
             }
-
-            // 유사도 기준 내림차순 정렬
-            return similarities.stream()
-                .sorted(Comparator.comparingDouble(VectorSimilarityDto::getSimilarity).reversed())
-                .collect(Collectors.toList());
+            return similarities;
 
         } catch (Exception e) {
             log.error("유사도 랭킹 계산 중 오류 발생", e);
@@ -169,47 +200,163 @@ public class NewsRecommendationServiceImpl implements NewsRecommendationService
     }
 
     /**
-     * 뉴스 임베딩들과 주어진 벡터 간의 유사도 계산
+     * 후보 임베딩을 최대 rankingConcurrency개씩 동시에 생성 (하나가 끝나면 다음 후보 시작)
+     *
+     * <p>호출마다 rankingTimeoutMillis를 넘기면 해당 후보만 제외하고 나머지로 부분 랭킹을 만듭니다.
      */
-    private List<VectorSimilarityDto> calculateSimilarities(List<Double> targetVector, List<NewsEmbedding> embeddings) {
-        List<VectorSimilarityDto> similarities = new ArrayList<>();
+    private float[][] embedCandidates(List<NewsItem> candidates, RequestPriority priority) {
+        float[][] vectors = new float[candidates.size()][];
+        AtomicInteger nextIndex = new AtomicInteger();
+
+        int workers = Math.min(rankingConcurrency, candidates.size());
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            lanes[i] = embedNextCandidate(candidates, vectors, nextIndex, priority);
+        }
+        CompletableFuture.allOf(lanes).join();
+        return vectors;
+    }
 
-        for (NewsEmbedding embedding : embeddings) {
+    private CompletableFuture<Void> embedNextCandidate(List<NewsItem> candidates, float[][] vectors,
+                                                       AtomicInteger nextIndex, RequestPriority priority) {
+        int index = nextIndex.getAndIncrement();
+        if (index >= candidates.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        NewsItem candidate = candidates.get(index);
+        return embedWithTimeout(() -> embeddingService.generateNewsEmbedding(candidate).getEmbedding(), priority)
+            .handle((vector, e) -> {
+                if (e != null) {
+                    log.warn("개별 뉴스 유사도 계산 실패: {}", candidate.getTitle());
+                } else {
+                    vectors[index] = vector;
+                }
+                return null;
+            })
+            .thenCompose(ignored -> embedNextCandidate(candidates, vectors, nextIndex, priority));
+    }
+
+    /**
+     * 주어진 우선순위로 임베딩 작업을 실행하고 rankingTimeoutMillis를 넘기면 취소
+     *
+     * <p>아직 시작하지 않은 작업은 실행되지 않고, 실행 중인 작업은 인터럽트되어 호출 한도 대기에서 빠집니다.
+     * 이미 전송된 HTTP 요청은 임베딩 클라이언트의 read-timeout까지만 진행됩니다.
+     */
+    private <T> CompletableFuture<T> embedWithTimeout(Supplier<T> work, RequestPriority priority) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
             try {
-                // JSON 문자열을 벡터로 변환
-                List<Double> embeddingVector = objectMapper.readValue(
-                    embedding.getEmbeddingVector(), new TypeReference<List<Double>>() {}
-                );
+                result.complete(RequestPriorityContext.callWith(priority, work));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, null);
+        try {
+            rankingExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return result
+            .orTimeout(rankingTimeoutMillis, TimeUnit.MILLISECONDS)
+            .whenComplete((value, e) -> {
+                if (e instanceof TimeoutException) {
+                    task.cancel(true);
+                }
+            });
+    }
 
-                // 유사도 계산
-                double similarity = embeddingService.calculateCosineSimilarity(targetVector, embeddingVector);
+    /**
+     * 뉴스 임베딩들과 주어진 벡터 간의 유사도 계산 후 임계값 이상 상위 뉴스 선택
+     *
+     * <p>후보는 (id, 벡터) 프로젝션으로만 비교하고, 제목/설명은 최종 상위 k개만 IN 쿼리 한 번으로 조회합니다.
+     */
+    private List<VectorSimilarityDto> calculateSimilarities(float[] targetVector, List<NewsEmbeddingVector> embeddings) {
+        // float32 바이너리를 벡터로 변환
+        float[][] vectors = new float[embeddings.size()][];
+        for (int i = 0; i < vectors.length; i++) {
+            try {
+                vectors[i] = VectorCodec.decode(embeddings.get(i).getEmbeddingVector());
+            } catch (Exception e) {
+                log.warn("임베딩 벡터 디코딩 실패: {}", embeddings.get(i).getNewsUrl());
+            }
+        }
 
-                // NewsItem 객체 생성
-                NewsItem newsItem = NewsItem.builder()
-                    .title(embedding.getTitle())
-                    .link(embedding.getNewsUrl())
-                    .description(embedding.getDescription())
-                    .publisher(embedding.getPublisher())
-                    .pubDate(embedding.getCreatedAt())
-                    .build();
+        // 유사도 일괄 계산 (디코딩 실패/차원 불일치 후보는 NaN)
+        float[] scores = embeddingService.calculateCosineSimilarities(targetVector, vectors);
 
-                String matchReason = String.format("유사도: %.2f", similarity);
+        // 임계값 이상 상위 후보만 선택
+        TopKSelector selector = new TopKSelector(maxRecommendations, (float) similarityThreshold).offerAll(scores);
 
-                similarities.add(VectorSimilarityDto.builder()
-                    .newsItem(newsItem)
-                    .similarity(similarity)
-                    .matchReason(matchReason)
-                    .build());
+        List<Long> ids = new ArrayList<>(selector.size());
+        for (int rank = 0; rank < selector.size(); rank++) {
+            ids.add(embeddings.get(selector.indexAt(rank)).getId());
+        }
+        Map<Long, NewsEmbeddingSummary> summariesById = findSummaries(ids);
+
+        List<VectorSimilarityDto> similarities = new ArrayList<>(selector.size());
+        for (int rank = 0; rank < selector.size(); rank++) {
+            int index = selector.indexAt(rank);
+            NewsEmbeddingSummary summary = summariesById.get(embeddings.get(index).getId());
+            if (summary != null) {
+                similarities.add(toSimilarityDto(summary, vectors[index], selector.scoreAt(rank)));
+            }
+        }
+        return similarities;
+    }
 
-            } catch (Exception e) {
-                log.warn("임베딩 벡터 파싱 실패: {}", embedding.getNewsUrl());
+    /**
+     * 벡터 인덱스로 임계값 이상 상위 유사 뉴스 검색 후 해당 뉴스 정보만 조회
+     */
+    private List<VectorSimilarityDto> searchVectorIndex(float[] targetVector, String excludeUrl, LocalDateTime since) {
+        List<VectorSearchResult> results = newsVectorIndex.search(targetVector, maxRecommendations, excludeUrl, since);
+
+        List<Long> ids = results.stream().map(VectorSearchResult::getId).collect(Collectors.toList());
+        Map<Long, NewsEmbeddingSummary> summariesById = findSummaries(ids);
+
+        List<VectorSimilarityDto> similarities = new ArrayList<>();
+        for (VectorSearchResult result : results) {
+            NewsEmbeddingSummary summary = summariesById.get(result.getId());
+            if (summary != null && result.getSimilarity() >= similarityThreshold) {
+                similarities.add(toSimilarityDto(summary, result.getVector(), result.getSimilarity()));
             }
         }
+        return similarities;
+    }
 
-        // 유사도 기준 내림차순 정렬
-        return similarities.stream()
-            .sorted(Comparator.comparingDouble(VectorSimilarityDto::getSimilarity).reversed())
-            .collect(Collectors.toList());
+    /**
+     * 상위 결과의 뉴스 정보 일괄 조회 (벡터 컬럼 제외)
+     */
+    private Map<Long, NewsEmbeddingSummary> findSummaries(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return newsEmbeddingRepository.findSummariesByIdIn(ids).stream()
+            .collect(Collectors.toMap(NewsEmbeddingSummary::getId, Function.identity()));
+    }
+
+    /**
+     * 뉴스 정보 프로젝션을 유사도 결과 DTO로 변환
+     */
+    private VectorSimilarityDto toSimilarityDto(NewsEmbeddingSummary summary, float[] vector, double similarity) {
+        return VectorSimilarityDto.builder()
+            .newsItem(toNewsItem(summary))
+            .similarity(similarity)
+            .embedding(vector)
+            .matchReason(String.format("유사도: %.2f", similarity))
+            .build();
+    }
+
+    /**
+     * 뉴스 정보 프로젝션을 NewsItem으로 변환
+     */
+    private NewsItem toNewsItem(NewsEmbeddingSummary summary) {
+        return NewsItem.builder()
+            .title(summary.getTitle())
+            .link(summary.getNewsUrl())
+            .description(summary.getDescription())
+            .publisher(summary.getPublisher())
+            .pubDate(summary.getCreatedAt())
+            .build();
     }
 
     /**
@@ -3,23 +3,32 @@ package com.swen.news.domain.news.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swen.news.domain.news.cache.NewsPlaybackCache;
 import com.swen.news.domain.news.code.NewsErrorCode;
 import com.swen.news.domain.news.dto.*;
 import com.swen.news.domain.news.exception.NewsException;
 import com.swen.news.global.client.ClovaVoiceClient;
 import com.swen.news.global.client.HyperClovaClient;
-import com.swen.news.global.client.NaverNewsClient;
+import com.swen.news.global.resilience.ExternalApiRejectedException;
 import com.swen.news.global.service.ObjectStorageService;
+import feign.Response;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 /**
  * 뉴스 서비스 구현 클래스입니다.
@@ -30,22 +39,26 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class NewsServiceImpl implements NewsService {
 
-    private final NaverNewsClient naverNewsClient;
+    private final NaverNewsSearchService naverNewsSearchService;
     private final HyperClovaClient hyperClovaClient;
     private final ClovaVoiceClient clovaVoiceClient;
     private final ObjectStorageService objectStorageService;
     private final EmbeddingService embeddingService;
     private final NewsRecommendationService newsRecommendationService;
     private final ObjectMapper objectMapper;
+    private final NewsPlaybackCache newsPlaybackCache;
+
+    @Qualifier("newsPipelineExecutor")
+    private final Executor newsPipelineExecutor;
+
+    @Qualifier("embeddingTaskExecutor")
+    private final Executor embeddingTaskExecutor;
 
     // 고정 음성 설정 - 신뢰가는 차분한 톤 (수진)
     private static final String TTS_SPEAKER = "nsujin";
 
-    @Value("${external-api.naver.news.client-id}")
-    private String naverClientId;
-
-    @Value("${external-api.naver.news.client-secret}")
-    private String naverClientSecret;
+    // 스크립트 프롬프트/음성 설정 버전 - 변경 시 올려서 플레이 결과 캐시를 무효화
+    private static final String SCRIPT_PROMPT_VERSION = "v1";
 
     @Value("${external-api.naver.hyperclova.api-key}")
     private String hyperClovaApiKey;
@@ -67,7 +80,7 @@ public class NewsServiceImpl implements NewsService {
             // 1. 검색어 결정
             String searchQuery = determineSearchQuery(request.getTopic());
 
-            // 2. 뉴스 검색 (1개만)
+            // 2. 뉴스 검색 (1개만) - 이후 모든 단계의 선행 작업
             NewsSearchRequest searchRequest = NewsSearchRequest.builder()
                     .query(searchQuery)
                     .display(1)
@@ -80,46 +93,63 @@ public class NewsServiceImpl implements NewsService {
             if (newsItems.isEmpty()) {
                 throw new NewsException(NewsErrorCode.NEWS_SEARCH_FAILED);
             }
+            NewsItem currentNews = newsItems.get(0);
 
-            // 3. 스크립트 생성
-            String script = generateScript(newsItems, request.getScriptLength());
-
-            // 4. TTS 변환
-            String audioUrl = generateSpeech(script);
-
-            // 5. 현재 뉴스를 임베딩 DB에 저장 (비동기적으로)
+            // 3. 현재 뉴스를 임베딩 DB에 저장 (응답 경로와 무관하게 백그라운드 진행)
+            //    실행기 큐가 가득 차 거절되면 저장만 건너뜀
             try {
-                embeddingService.saveNewsEmbedding(newsItems.get(0));
-            } catch (Exception e) {
-                log.warn("뉴스 임베딩 저장 실패, 서비스 계속 진행: {}", e.getMessage());
+                CompletableFuture.runAsync(() -> embeddingService.saveNewsEmbedding(currentNews), embeddingTaskExecutor)
+                        .exceptionally(e -> {
+                            log.warn("뉴스 임베딩 저장 실패, 서비스 계속 진행: {}", e.getMessage());
+                            return null;
+                        });
+            } catch (RejectedExecutionException e) {
+                log.warn("임베딩 실행기 포화로 뉴스 임베딩 저장 건너뜀: {}", currentNews.getLink());
             }
 
-            // 6. 관련 뉴스 추천
-            List<NewsItem> recommendedNews = newsRecommendationService.findSimilarNewsByScript(script, newsItems.get(0));
+            // 4. 스크립트 생성 후 TTS 변환과 관련 뉴스 추천을 동시에 진행
+            //    같은 기사/길이의 결과가 캐시에 있거나 생성 중이면 재사용
+            CompletableFuture<String> generatedScript = new CompletableFuture<>();
+            //    스크립트 생성이 서킷/벌크헤드에 막히면 같은 기사의 다른 길이 결과로 대체
+            CompletableFuture<NewsPlaybackCache.Playback> playbackFuture = newsPlaybackCache.getOrGenerate(
+                    currentNews.getLink(), request.getScriptLength(), SCRIPT_PROMPT_VERSION,
+                    () -> generatePlayback(newsItems, request.getScriptLength(), generatedScript))
+                    .exceptionally(e -> cachedPlaybackOrThrow(currentNews.getLink(), request.getScriptLength(), e));
 
-            // 🚀 7. 추천된 뉴스들도 벡터DB에 저장 (학습 효과)
-            if (!recommendedNews.isEmpty()) {
-                try {
-                    for (NewsItem recommended : recommendedNews) {
-                        embeddingService.saveNewsEmbedding(recommended);
-                    }
-                    log.info("추천 뉴스 {}건 벡터DB 저장 요청 완료", recommendedNews.size());
-                } catch (Exception e) {
-                    log.warn("추천 뉴스 벡터DB 저장 실패: {}", e.getMessage());
-                }
-            }
+            // 직접 생성하는 경우 스크립트가 나오는 즉시 추천을 시작 (캐시 적중/합류 시에는 결과의 스크립트 사용)
+            CompletableFuture<String> scriptFuture = generatedScript.applyToEither(
+                    playbackFuture.thenApply(NewsPlaybackCache.Playback::getScript), Function.identity());
+
+            CompletableFuture<List<NewsItem>> recommendationFuture = scriptFuture.thenApplyAsync(
+                    script -> newsRecommendationService.findSimilarNewsByScript(script, currentNews), newsPipelineExecutor);
+
+            CompletableFuture.allOf(playbackFuture, recommendationFuture).join();
+
+            NewsPlaybackCache.Playback playback = playbackFuture.join();
+            String script = playback.getScript();
+            String audioUrl = playback.getAudioUrl();
+            List<NewsItem> recommendedNews = recommendationFuture.join();
 
-            // 8. 응답 생성
+            // 🚀 5. 추천된 뉴스들도 벡터DB에 저장 (학습 효과) - 응답 이후 백그라운드 진행
+            saveRecommendedNewsInBackground(recommendedNews);
+
+            // 6. 응답 생성
             return NewsScriptResponse.builder()
                     .scriptId(UUID.randomUUID().toString())
                     .script(script)
                     .sourceNews(newsItems)
                     .audioUrl(audioUrl)
                     .recommendedNews(recommendedNews)
-                    .status("COMPLETED")
+                    .status(playback.isDegraded() ? "DEGRADED" : "COMPLETED")
                     .createdAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                     .build();
 
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof NewsException newsException) {
+                throw newsException; // 파이프라인 단계에서 발생한 NewsException은 그대로 재던짐
+            }
+            log.error("뉴스 플레이 처리 중 예상치 못한 오류 발생", e.getCause());
+            throw new NewsException(NewsErrorCode.EXTERNAL_API_UNAVAILABLE);
         } catch (NewsException e) {
             throw e; // 이미 NewsException인 경우 그대로 재던짐
         } catch (Exception e) {
@@ -128,6 +158,47 @@ public class NewsServiceImpl implements NewsService {
         }
     }
 
+    /**
+     * 스크립트 생성 → TTS 변환 (생성된 스크립트는 scriptSink로도 전달, 실패는 반환 future로만 전달)
+     */
+    private CompletableFuture<NewsPlaybackCache.Playback> generatePlayback(List<NewsItem> newsItems, String scriptLength,
+                                                                          CompletableFuture<String> scriptSink) {
+        CompletableFuture<String> scriptFuture = CompletableFuture.supplyAsync(
+                () -> generateScript(newsItems, scriptLength), newsPipelineExecutor);
+        scriptFuture.thenAccept(scriptSink::complete);
+        return scriptFuture.thenApplyAsync(
+                script -> new NewsPlaybackCache.Playback(script, generateSpeechOrSkip(script)), newsPipelineExecutor);
+    }
+
+    /**
+     * TTS 변환, CLOVA Voice 호출이 서킷/벌크헤드에 막히면 기다리지 않고 음성 없이 진행 (null 반환)
+     */
+    private String generateSpeechOrSkip(String script) {
+        try {
+            return generateSpeech(script);
+        } catch (ExternalApiRejectedException e) {
+            log.warn("CLOVA Voice 호출 차단 - 음성 없이 스크립트만 응답");
+            return null;
+        }
+    }
+
+    /**
+     * 스크립트 생성이 차단된 경우 같은 기사의 캐시된 다른 길이 결과로 대체, 그 외 실패는 그대로 전달
+     */
+    private NewsPlaybackCache.Playback cachedPlaybackOrThrow(String link, String scriptLength, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ExternalApiRejectedException) {
+            NewsPlaybackCache.Playback cached = newsPlaybackCache.findOtherLength(link, scriptLength, SCRIPT_PROMPT_VERSION);
+            if (cached != null) {
+                log.warn("CLOVA Studio 호출 차단 - 같은 기사의 캐시된 스크립트로 응답");
+                return cached;
+            }
+        }
+        throw error instanceof CompletionException completionException
+                ? completionException
+                : new CompletionException(error);
+    }
+
     @Override
     public String searchNews(NewsSearchRequest request) {
         try {
@@ -135,9 +206,7 @@ public class NewsServiceImpl implements NewsService {
             String finalQuery = determineSearchQuery(request.getQuery());
             log.info("네이버 뉴스 검색 시작 - 검색어: {} (원본: {})", finalQuery, request.getQuery());
 
-            return naverNewsClient.searchNews(
-                    naverClientId,
-                    naverClientSecret,
+            return naverNewsSearchService.search(
                     finalQuery,  // 결정된 검색어 사용
                     request.getDisplay(),
                     request.getStart(),
@@ -166,6 +235,8 @@ public class NewsServiceImpl implements NewsService {
 
             return extractScriptFromResponse(response);
 
+        } catch (ExternalApiRejectedException e) {
+            throw e; // 서킷/벌크헤드 거절은 호출 측에서 대체 응답으로 전환
         } catch (Exception e) {
             log.error("CLOVA Studio 스크립트 생성 중 오류 발생", e);
             throw new NewsException(NewsErrorCode.SCRIPT_GENERATION_FAILED);
@@ -179,27 +250,60 @@ public class NewsServiceImpl implements NewsService {
 
             String requestBody = buildTtsRequest(script);
 
-            byte[] audioData = clovaVoiceClient.generateSpeech(
+            // 음성 응답을 메모리에 모으지 않고 Object Storage로 바로 흘려보냄
+            try (Response ttsResponse = clovaVoiceClient.generateSpeech(
                     clovaVoiceClientId,
                     clovaVoiceClientSecret,
                     "application/x-www-form-urlencoded",
                     requestBody
-            );
+            )) {
+                if (ttsResponse.status() != 200 || ttsResponse.body() == null) {
+                    log.error("CLOVA Voice TTS 응답 오류 - 상태 코드: {}", ttsResponse.status());
+                    throw new NewsException(NewsErrorCode.TTS_CONVERSION_FAILED);
+                }
 
-            log.info("TTS 변환 완료 - 음성 데이터 크기: {} bytes", audioData.length);
+                Integer contentLength = ttsResponse.body().length();
+                log.info("TTS 변환 응답 수신 - 음성 데이터 크기: {} bytes", contentLength != null ? contentLength : "알 수 없음");
 
-            // Object Storage에 업로드하고 URL 반환
-            String audioUrl = objectStorageService.uploadAudioFile(audioData);
+                String audioUrl;
+                try (InputStream audioStream = ttsResponse.body().asInputStream()) {
+                    audioUrl = objectStorageService.uploadAudioStream(
+                            audioStream, contentLength != null ? contentLength.longValue() : null);
+                }
 
-            log.info("음성 파일 업로드 완료 - URL: {}", audioUrl);
-            return audioUrl;
+                log.info("음성 파일 업로드 완료 - URL: {}", audioUrl);
+                return audioUrl;
+            }
 
+        } catch (NewsException | ExternalApiRejectedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("CLOVA Voice TTS 변환 중 오류 발생", e);
             throw new NewsException(NewsErrorCode.TTS_CONVERSION_FAILED);
         }
     }
 
+    /**
+     * 추천된 뉴스들을 백그라운드에서 벡터DB에 저장
+     */
+    private void saveRecommendedNewsInBackground(List<NewsItem> recommendedNews) {
+        if (recommendedNews.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.runAsync(() -> {
+                int saved = embeddingService.saveNewsEmbeddings(recommendedNews);
+                log.info("추천 뉴스 {}건 중 {}건 벡터DB 저장", recommendedNews.size(), saved);
+            }, embeddingTaskExecutor).exceptionally(e -> {
+                log.warn("추천 뉴스 벡터DB 저장 실패: {}", e.getMessage());
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            // 백그라운드 저장은 부가 작업이므로 실행기가 포화되면 응답에 영향 없이 건너뜀
+            log.warn("임베딩 실행기 포화로 추천 뉴스 {}건 벡터DB 저장 건너뜀", recommendedNews.size());
+        }
+    }
+
     /**
      * 검색어 결정 - 주제가 없으면 랜덤 키워드 사용
      */
@@ -236,7 +340,7 @@ public class NewsServiceImpl implements NewsService {
                             .originallink(itemNode.get("originallink") != null ? itemNode.get("originallink").asText() : "")
                             .description(cleanHtmlTags(itemNode.get("description").asText()))
                             .publisher(itemNode.get("publisher") != null ? itemNode.get("publisher").asText() : "")
-                            .pubDate(LocalDateTime.now()) // 실제로는 pubDate 파싱 필요
+                            .pubDate(NewsItem.parsePubDate(itemNode.path("pubDate").asText(null)))
                             .build();
                     newsItems.add(newsItem);
                 }
@@ -0,0 +1,9 @@
+package com.swen.news.domain.news.vector;
+
+/**
+ * 내적 연산 커널 (JDK Vector API 사용 가능 여부에 따라 구현 선택)
+ */
+interface DotProductKernel {
+
+    float dot(float[] a, float[] b);
+}
@@ -0,0 +1,378 @@
+package com.swen.news.domain.news.vector;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ *
+ * <p>정규화된 float 벡터를 대상으로 내적(= 코사인 유사도)이 큰 순서로 검색합니다.
+ * 삽입은 쓰기 락, 검색은 읽기 락으로 보호되며 삭제는 소프트 삭제로 처리합니다.
+ * 삭제된 노드는 그래프에 남아 탐색 비용을 차지하므로, 비율이 커지면 {@link #liveEntries()}로 새 인덱스를 만들어 교체합니다.
+ */
+public class HnswIndex {
+
+    private final int m;
+    private final int maxConnectionsLayer0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Long, Integer> nodeIndexById = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int liveCount = 0;
+
+    public HnswIndex(int m, int efConstruction) {
+        this.m = m;
+        this.maxConnectionsLayer0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1.0 / Math.log(m);
+    }
+
+    /**
+     * 벡터 추가 (같은 ID가 이미 있으면 기존 노드를 삭제 처리하고 새로 추가)
+     *
+     * @param id 외부 식별자 (news_embeddings.id)
+     * @param vector 정규화된 벡터
+     */
+    public void add(long id, float[] vector) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = nodeIndexById.get(id);
+            if (existing != null) {
+                markDeleted(existing);
+            }
+
+            int level = randomLevel();
+            int nodeIndex = nodes.size();
+            Node node = new Node(id, vector, level, m, maxConnectionsLayer0);
+            nodes.add(node);
+            nodeIndexById.put(id, nodeIndex);
+            liveCount++;
+
+            if (entryPoint < 0) {
+                entryPoint = nodeIndex;
+                maxLevel = level;
+                return;
+            }
+
+            int current = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                current = greedySearch(vector, current, l);
+            }
+
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                PriorityQueue<Candidate> found = searchLayer(vector, current, efConstruction, l);
+                List<Candidate> selected = closest(found, l == 0 ? maxConnectionsLayer0 : m);
+                for (Candidate neighbor : selected) {
+                    connect(nodeIndex, neighbor.node, l);
+                    connect(neighbor.node, nodeIndex, l);
+                }
+                if (!selected.isEmpty()) {
+                    current = selected.get(0).node;
+                }
+            }
+
+            if (level > maxLevel) {
+                entryPoint = nodeIndex;
+                maxLevel = level;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터 삭제 (소프트 삭제 - 그래프 연결은 유지하고 검색 결과에서만 제외)
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = nodeIndexById.remove(id);
+            if (existing != null) {
+                markDeleted(existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 k개 유사 벡터 검색
+     *
+     * <p>필터로 걸러지는 결과가 많으면 ef를 두 배씩 늘려 다시 탐색하되 maxEf를 넘기지 않습니다.
+     * 필터가 매우 선택적이면 k개보다 적게 반환될 수 있습니다.
+     *
+     * @param query 정규화된 질의 벡터
+     * @param k 반환할 최대 개수
+     * @param ef 탐색 후보 크기 (클수록 정확하지만 느림)
+     * @param maxEf 재탐색 시 ef 상한
+     * @param filter 결과에 포함할 ID 조건 (null이면 전체 허용)
+     * @return 유사도 내림차순 결과
+     */
+    public List<VectorSearchResult> search(float[] query, int k, int ef, int maxEf, LongPredicate filter) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return new ArrayList<>();
+            }
+
+            int current = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                current = greedySearch(query, current, l);
+            }
+
+            // 필터로 걸러지는 결과가 많으면 탐색 범위를 넓혀 재시도 (상한까지)
+            int efLimit = Math.min(Math.max(maxEf, Math.max(ef, k)), nodes.size());
+            int searchEf = Math.max(ef, k);
+            while (true) {
+                PriorityQueue<Candidate> found = searchLayer(query, current, searchEf, 0);
+                List<VectorSearchResult> results = new ArrayList<>();
+                for (Candidate candidate : closest(found, found.size())) {
+                    Node node = nodes.get(candidate.node);
+                    if (node.deleted || (filter != null && !filter.test(node.id))) {
+                        continue;
+                    }
+                    results.add(new VectorSearchResult(node.id, candidate.similarity, node.vector));
+                    if (results.size() >= k) {
+                        break;
+                    }
+                }
+                if (results.size() >= k || searchEf >= efLimit) {
+                    return results;
+                }
+                searchEf = Math.min(searchEf * 2, efLimit);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 포함된 (삭제되지 않은) 벡터 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 그래프에 남아 있는 삭제 노드 비율 (0~1)
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return nodes.isEmpty() ? 0.0 : (double) (nodes.size() - liveCount) / nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제되지 않은 (ID, 벡터) 스냅샷 (재구성용, 벡터 배열은 수정하지 말 것)
+     */
+    public Map<Long, float[]> liveEntries() {
+        lock.readLock().lock();
+        try {
+            Map<Long, float[]> entries = new LinkedHashMap<>(liveCount * 2);
+            for (Node node : nodes) {
+                if (!node.deleted) {
+                    entries.put(node.id, node.vector);
+                }
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해당 ID가 인덱스에 포함되어 있는지 확인
+     */
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return nodeIndexById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해당 ID의 정규화 벡터 (없으면 null, 반환 배열은 수정하지 말 것)
+     */
+    public float[] vectorOf(long id) {
+        lock.readLock().lock();
+        try {
+            Integer nodeIndex = nodeIndexById.get(id);
+            return nodeIndex != null ? nodes.get(nodeIndex).vector : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markDeleted(int nodeIndex) {
+        Node node = nodes.get(nodeIndex);
+        if (!node.deleted) {
+            node.deleted = true;
+            liveCount--;
+        }
+    }
+
+    private int randomLevel() {
+        double r = ThreadLocalRandom.current().nextDouble();
+        return (int) Math.floor(-Math.log(Math.max(r, Double.MIN_VALUE)) * levelMultiplier);
+    }
+
+    /**
+     * 상위 레이어에서 가장 가까운 노드 하나를 찾는 탐욕 탐색
+     */
+    private int greedySearch(float[] query, int start, int level) {
+        int current = start;
+        float best = VectorMath.dot(query, nodes.get(current).vector);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            Node node = nodes.get(current);
+            int[] neighbors = node.neighbors[level];
+            for (int i = 0; i < node.neighborCounts[level]; i++) {
+                float similarity = VectorMath.dot(query, nodes.get(neighbors[i]).vector);
+                if (similarity > best) {
+                    best = similarity;
+                    current = neighbors[i];
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 레이어에서 ef개의 후보를 찾는 빔 탐색 (결과 큐는 가장 먼 후보가 head)
+     */
+    private PriorityQueue<Candidate> searchLayer(float[] query, int start, int ef, int level) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingDouble((Candidate c) -> c.similarity).reversed());
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble((Candidate c) -> c.similarity));
+
+        Candidate first = new Candidate(start, VectorMath.dot(query, nodes.get(start).vector));
+        visited.set(start);
+        candidates.add(first);
+        results.add(first);
+
+        while (!candidates.isEmpty()) {
+            Candidate current = candidates.poll();
+            if (results.size() >= ef && current.similarity < results.peek().similarity) {
+                break;
+            }
+
+            Node node = nodes.get(current.node);
+            if (level > node.level) {
+                continue;
+            }
+            int[] neighbors = node.neighbors[level];
+            for (int i = 0; i < node.neighborCounts[level]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float similarity = VectorMath.dot(query, nodes.get(neighbor).vector);
+                if (results.size() < ef || similarity > results.peek().similarity) {
+                    Candidate candidate = new Candidate(neighbor, similarity);
+                    candidates.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 후보 큐에서 유사도가 높은 순으로 최대 limit개 선택
+     */
+    private List<Candidate> closest(PriorityQueue<Candidate> found, int limit) {
+        List<Candidate> sorted = new ArrayList<>(found);
+        sorted.sort(Comparator.comparingDouble((Candidate c) -> c.similarity).reversed());
+        return sorted.size() > limit ? sorted.subList(0, limit) : sorted;
+    }
+
+    /**
+     * from → to 단방향 연결 (최대 연결 수 초과 시 가장 먼 이웃 제거)
+     */
+    private void connect(int from, int to, int level) {
+        Node node = nodes.get(from);
+        int max = level == 0 ? maxConnectionsLayer0 : m;
+        int count = node.neighborCounts[level];
+        int[] neighbors = node.neighbors[level];
+
+        if (count < max) {
+            neighbors[count] = to;
+            node.neighborCounts[level] = count + 1;
+            return;
+        }
+
+        // 가장 유사도가 낮은 이웃보다 가까우면 교체
+        int worstIndex = -1;
+        float worstSimilarity = VectorMath.dot(node.vector, nodes.get(to).vector);
+        for (int i = 0; i < count; i++) {
+            float similarity = VectorMath.dot(node.vector, nodes.get(neighbors[i]).vector);
+            if (similarity < worstSimilarity) {
+                worstSimilarity = similarity;
+                worstIndex = i;
+            }
+        }
+        if (worstIndex >= 0) {
+            neighbors[worstIndex] = to;
+        }
+    }
+
+    private static final class Node {
+        private final long id;
+        private final float[] vector;
+        private final int level;
+        private final int[][] neighbors;
+        private final int[] neighborCounts;
+        private boolean deleted;
+
+        private Node(long id, float[] vector, int level, int m, int maxConnectionsLayer0) {
+            this.id = id;
+            this.vector = vector;
+            this.level = level;
+            this.neighbors = new int[level + 1][];
+            this.neighborCounts = new int[level + 1];
+            for (int l = 0; l <= level; l++) {
+                this.neighbors[l] = new int[l == 0 ? maxConnectionsLayer0 : m];
+            }
+        }
+    }
+
+    private static final class Candidate {
+        private final int node;
+        private final float similarity;
+
+        private Candidate(int node, float similarity) {
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.swen.news.domain.news.vector;
+
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector;
+import com.swen.news.domain.news.event.NewsEmbeddingSavedEvent;
+import com.swen.news.domain.news.repository.NewsEmbeddingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * news_embeddings 테이블에 대한 인메모리 ANN 벡터 인덱스
+ *
+ * <p>애플리케이션 시작 시 전체 임베딩을 HNSW 인덱스로 적재하고,
+ * 임베딩 저장 트랜잭션이 커밋될 때마다 증분으로 갱신합니다.
+ * 다른 인스턴스가 저장한 임베딩은 이벤트가 오지 않으므로 {@link #syncFromDatabase()}가 updated_at 기준으로 주기적으로 따라잡습니다.
+ * 적재가 끝나기 전에는 {@link #isReady()}가 false이며, 호출 측은 DB 전수 비교로 대체합니다.
+ * 보관 처리로 삭제된 노드 비율이 rebuild-deleted-ratio를 넘으면 살아 있는 벡터로 인덱스를 다시 만들어 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsVectorIndex {
+
+    private final NewsEmbeddingRepository newsEmbeddingRepository;
+
+    @Value("${vector-db.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${vector-db.index.m:16}")
+    private int m;
+
+    @Value("${vector-db.index.ef-construction:64}")
+    private int efConstruction;
+
+    @Value("${vector-db.index.ef-search:64}")
+    private int efSearch;
+
+    @Value("${vector-db.index.max-ef-search:512}")
+    private int maxEfSearch;
+
+    @Value("${vector-db.index.rebuild-deleted-ratio:0.3}")
+    private double rebuildDeletedRatio;
+
+    @Value("${vector-db.index.sync-lookback-seconds:300}")
+    private long syncLookbackSeconds;
+
+    private final Map<Long, IndexedNews> metadata = new ConcurrentHashMap<>();
+    private final Map<String, Long> idsByUrl = new ConcurrentHashMap<>();
+    private final Object mutationLock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile HnswIndex index;
+    private volatile boolean ready = false;
+    private volatile LocalDateTime syncedUntil;
+
+    /**
+     * 애플리케이션 시작 후 전체 임베딩을 인덱스에 적재
+     */
+    @Async("embeddingTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("벡터 인덱스 비활성화 - DB 전수 비교로 추천");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        index = new HnswIndex(m, efConstruction);
+
+        try {
+            // 벡터 프로젝션만 조회 (제목/설명 컬럼과 엔티티 관리 비용 없이 적재)
+            List<NewsEmbeddingVector> embeddings = newsEmbeddingRepository.findAllVectors();
+            for (NewsEmbeddingVector embedding : embeddings) {
+                advanceSyncedUntil(embedding.getUpdatedAt());
+                if (index.contains(embedding.getId())) {
+                    continue; // 적재 중 커밋된 이벤트로 이미 추가됨
+                }
+                try {
+                    float[] vector = VectorCodec.decode(embedding.getEmbeddingVector());
+                    add(embedding.getId(), embedding.getNewsUrl(), embedding.getCreatedAt(), vector);
+                } catch (Exception e) {
+                    log.warn("벡터 인덱스 적재 실패: {}", embedding.getNewsUrl());
+                }
+            }
+            if (syncedUntil == null) {
+                syncedUntil = LocalDateTime.now();
+            }
+
+            ready = true;
+            log.info("벡터 인덱스 적재 완료 - {}건, {}ms", index.size(), System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            log.error("벡터 인덱스 적재 중 오류 발생 - DB 전수 비교로 추천", e);
+        }
+    }
+
+    /**
+     * 임베딩 저장 트랜잭션 커밋 후 인덱스 증분 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmbeddingSaved(NewsEmbeddingSavedEvent event) {
+        if (index == null || event.getId() == null) {
+            return; // 적재 전에는 시작 시 전체 적재에서 반영됨
+        }
+        add(event.getId(), event.getNewsUrl(), event.getCreatedAt(), event.getVector());
+        log.debug("벡터 인덱스 갱신: {}", event.getNewsUrl());
+    }
+
+    /**
+     * 마지막 동기화 이후 저장/갱신된 임베딩을 인덱스에 반영 (다른 인스턴스의 배치가 저장한 뉴스 포함)
+     *
+     * <p>늦게 커밋된 트랜잭션과 인스턴스 간 시계 차이를 고려해 sync-lookback-seconds만큼 겹쳐 조회하며,
+     * 이미 같은 벡터로 들어 있는 뉴스는 다시 추가하지 않습니다 (재추가는 삭제 노드를 남기므로).
+     *
+     * @return 새로 반영한 건수
+     */
+    public int syncFromDatabase() {
+        LocalDateTime from = syncedUntil;
+        if (!isReady() || from == null) {
+            return 0;
+        }
+
+        int applied = 0;
+        List<NewsEmbeddingVector> embeddings =
+            newsEmbeddingRepository.findVectorsUpdatedSince(from.minusSeconds(syncLookbackSeconds));
+        for (NewsEmbeddingVector embedding : embeddings) {
+            try {
+                float[] vector = VectorCodec.decode(embedding.getEmbeddingVector());
+                if (!Arrays.equals(index.vectorOf(embedding.getId()), VectorMath.normalize(vector.clone()))) {
+                    add(embedding.getId(), embedding.getNewsUrl(), embedding.getCreatedAt(), vector);
+                    applied++;
+                }
+                advanceSyncedUntil(embedding.getUpdatedAt());
+            } catch (Exception e) {
+                log.warn("벡터 인덱스 동기화 실패: {}", embedding.getNewsUrl());
+            }
+        }
+        if (applied > 0) {
+            log.info("벡터 인덱스 동기화 - {}건 반영", applied);
+        }
+        return applied;
+    }
+
+    /**
+     * 보관 처리되어 news_embeddings에서 빠진 뉴스를 인덱스에서 제외 (삭제 노드가 많아지면 인덱스 재구성)
+     */
+    public void removeAll(Collection<Long> ids) {
+        synchronized (mutationLock) {
+            HnswIndex current = index;
+            for (Long id : ids) {
+                IndexedNews removed = metadata.remove(id);
+                if (removed != null) {
+                    idsByUrl.remove(removed.newsUrl, id);
+                }
+                if (current != null) {
+                    current.remove(id);
+                }
+            }
+        }
+        rebuildIfNeeded();
+    }
+
+    /**
+     * 삭제 노드 비율이 임계값 이상이면 살아 있는 벡터로 새 인덱스를 만들어 교체
+     *
+     * <p>새 그래프는 락 밖에서 만들고, 그 사이 반영된 추가/삭제만 맞춘 뒤 교체하므로 검색과 증분 갱신은 계속 진행됩니다.
+     */
+    private void rebuildIfNeeded() {
+        HnswIndex current = index;
+        if (!isReady() || current == null || current.deletedRatio() < rebuildDeletedRatio
+            || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            double deletedRatio = current.deletedRatio();
+            HnswIndex rebuilt = new HnswIndex(m, efConstruction);
+            current.liveEntries().forEach(rebuilt::add);
+
+            synchronized (mutationLock) {
+                Map<Long, float[]> live = current.liveEntries();
+                live.forEach((id, vector) -> {
+                    if (rebuilt.vectorOf(id) != vector) {
+                        rebuilt.add(id, vector);
+                    }
+                });
+                for (Long id : rebuilt.liveEntries().keySet()) {
+                    if (!live.containsKey(id)) {
+                        rebuilt.remove(id);
+                    }
+                }
+                index = rebuilt;
+            }
+            log.info("벡터 인덱스 재구성 완료 - 삭제 비율 {}%, {}건, {}ms",
+                Math.round(deletedRatio * 100), rebuilt.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("벡터 인덱스 재구성 실패 - 기존 인덱스 유지", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 유사 뉴스 검색
+     *
+     * @param query 질의 벡터 (정규화되지 않았어도 됨)
+     * @param k 반환할 최대 개수
+     * @param excludeUrl 제외할 뉴스 URL (null 허용)
+     * @param since 이 시각 이후 생성된 뉴스만 (null이면 전체)
+     * @return 유사도 내림차순 결과
+     */
+    public List<VectorSearchResult> search(float[] query, int k, String excludeUrl, LocalDateTime since) {
+        float[] normalized = VectorMath.normalize(query.clone());
+        long sinceMillis = since != null ? toEpochMillis(since) : Long.MIN_VALUE;
+
+        return index.search(normalized, k, efSearch, maxEfSearch, id -> {
+            IndexedNews news = metadata.get(id);
+            return news != null
+                && (excludeUrl == null || !excludeUrl.equals(news.newsUrl))
+                && news.createdAtMillis >= sinceMillis;
+        });
+    }
+
+    /**
+     * 인덱스에 저장된 뉴스의 이웃 검색 (자기 자신 제외)
+     *
+     * @param id 기준 뉴스 ID (news_embeddings.id)
+     * @param k 반환할 최대 개수
+     * @return 유사도 내림차순 결과, 인덱스에 없으면 빈 목록
+     */
+    public List<VectorSearchResult> searchNeighbors(long id, int k) {
+        HnswIndex current = index;
+        if (!isReady() || current == null) {
+            return List.of();
+        }
+        float[] vector = current.vectorOf(id);
+        if (vector == null) {
+            return List.of();
+        }
+        return current.search(vector, k, efSearch, maxEfSearch, candidate -> candidate != id && metadata.containsKey(candidate));
+    }
+
+    /**
+     * 뉴스 URL로 인덱스에 저장된 정규화 벡터 조회 (임베딩 조회 체인용)
+     *
+     * @return 벡터 복사본, 인덱스에 없으면 null
+     */
+    public float[] findVectorByUrl(String newsUrl) {
+        HnswIndex current = index;
+        Long id = newsUrl != null ? idsByUrl.get(newsUrl) : null;
+        if (current == null || id == null) {
+            return null;
+        }
+        float[] vector = current.vectorOf(id);
+        return vector != null ? vector.clone() : null;
+    }
+
+    /**
+     * 해당 뉴스가 인덱스에 포함되어 있는지 확인
+     *
+     * @param id 뉴스 ID (news_embeddings.id)
+     */
+    public boolean contains(long id) {
+        HnswIndex current = index;
+        return current != null && current.contains(id);
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    private void add(Long id, String newsUrl, LocalDateTime createdAt, float[] vector) {
+        synchronized (mutationLock) {
+            metadata.put(id, new IndexedNews(newsUrl, createdAt != null ? toEpochMillis(createdAt) : System.currentTimeMillis()));
+            idsByUrl.put(newsUrl, id);
+            index.add(id, VectorMath.normalize(vector.clone()));
+        }
+    }
+
+    private void advanceSyncedUntil(LocalDateTime updatedAt) {
+        if (updatedAt != null && (syncedUntil == null || updatedAt.isAfter(syncedUntil))) {
+            syncedUntil = updatedAt;
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static final class IndexedNews {
+        private final String newsUrl;
+        private final long createdAtMillis;
+
+        private IndexedNews(String newsUrl, long createdAtMillis) {
+            this.newsUrl = newsUrl;
+            this.createdAtMillis = createdAtMillis;
+        }
+    }
+}
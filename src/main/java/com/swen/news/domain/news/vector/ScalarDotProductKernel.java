@@ -0,0 +1,16 @@
+package com.swen.news.domain.news.vector;
+
+/**
+ * 단순 루프 기반 내적 커널 (JDK Vector API를 사용할 수 없을 때의 기본 구현)
+ */
+final class ScalarDotProductKernel implements DotProductKernel {
+
+    @Override
+    public float dot(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
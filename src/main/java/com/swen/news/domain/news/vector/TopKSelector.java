@@ -0,0 +1,140 @@
+package com.swen.news.domain.news.vector;
+
+/**
+ * 유사도 상위 k개 후보를 고르는 스트리밍 선택기
+ *
+ * <p>크기가 k로 제한된 최소 힙을 primitive 배열로 유지하므로 후보 수 n에 대해 O(n log k)이며,
+ * 임계값 미만 후보는 즉시 버립니다. 결과 DTO는 최종 선택된 후보에 대해서만 만들면 됩니다.
+ */
+public final class TopKSelector {
+
+    private final int k;
+    private final float threshold;
+    private final int[] indices;
+    private final float[] scores;
+    private int size = 0;
+    private boolean sorted = false;
+
+    /**
+     * @param k 선택할 최대 개수
+     * @param threshold 이 값 미만의 유사도는 무시
+     */
+    public TopKSelector(int k, float threshold) {
+        this.k = Math.max(k, 0);
+        this.threshold = threshold;
+        this.indices = new int[this.k];
+        this.scores = new float[this.k];
+    }
+
+    /**
+     * 후보 추가
+     *
+     * @param index 후보 위치 (호출 측 리스트의 인덱스)
+     * @param score 유사도 (NaN은 무시)
+     * @return 현재 상위 k개에 포함되었는지 여부
+     */
+    public boolean offer(int index, float score) {
+        if (sorted) {
+            throw new IllegalStateException("이미 정렬된 선택기에는 후보를 추가할 수 없습니다");
+        }
+        if (k == 0 || Float.isNaN(score) || score < threshold) {
+            return false;
+        }
+        if (size < k) {
+            indices[size] = index;
+            scores[size] = score;
+            siftUp(size++);
+            return true;
+        }
+        if (score <= scores[0]) {
+            return false;
+        }
+        indices[0] = index;
+        scores[0] = score;
+        siftDown(0, size);
+        return true;
+    }
+
+    /**
+     * 점수 배열 전체를 후보로 추가
+     */
+    public TopKSelector offerAll(float[] candidateScores) {
+        for (int i = 0; i < candidateScores.length; i++) {
+            offer(i, candidateScores[i]);
+        }
+        return this;
+    }
+
+    /**
+     * 선택된 후보 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 유사도 내림차순 rank번째 후보의 위치
+     */
+    public int indexAt(int rank) {
+        sortDescending();
+        return indices[rank];
+    }
+
+    /**
+     * 유사도 내림차순 rank번째 후보의 유사도
+     */
+    public float scoreAt(int rank) {
+        sortDescending();
+        return scores[rank];
+    }
+
+    /**
+     * 힙 정렬로 내림차순 정렬 (최소 힙에서 최솟값을 뒤로 보내면 내림차순이 됨)
+     */
+    private void sortDescending() {
+        if (sorted) {
+            return;
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        sorted = true;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[i] >= scores[parent]) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int heapSize) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= heapSize) {
+                break;
+            }
+            int right = left + 1;
+            int smallest = right < heapSize && scores[right] < scores[left] ? right : left;
+            if (scores[i] <= scores[smallest]) {
+                break;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int index = indices[a];
+        indices[a] = indices[b];
+        indices[b] = index;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
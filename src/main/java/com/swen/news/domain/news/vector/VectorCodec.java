@@ -0,0 +1,71 @@
+package com.swen.news.domain.news.vector;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 임베딩 벡터 바이너리 인코딩 유틸리티
+ * news_embeddings.embedding_vector 컬럼에 little-endian float32 배열로 저장합니다.
+ * 보관(archive) 테이블에는 float32 스케일 + int8 배열로 양자화하여 1/4 크기로 저장합니다.
+ */
+public final class VectorCodec {
+
+    private VectorCodec() {
+    }
+
+    /**
+     * float 배열을 little-endian float32 바이트 배열로 인코딩
+     */
+    public static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    /**
+     * little-endian float32 바이트 배열을 float 배열로 디코딩 (박싱 없음)
+     */
+    public static float[] decode(byte[] bytes) {
+        if (bytes.length % Float.BYTES != 0) {
+            throw new IllegalArgumentException("잘못된 벡터 바이트 길이입니다: " + bytes.length);
+        }
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    /**
+     * float 배열을 int8로 대칭 양자화 (앞 4바이트: little-endian float32 스케일, 이후 차원당 1바이트)
+     */
+    public static byte[] encodeInt8(float[] vector) {
+        float maxAbs = 0f;
+        for (float value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        float scale = maxAbs / Byte.MAX_VALUE;
+
+        ByteBuffer buffer = ByteBuffer.allocate(Float.BYTES + vector.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putFloat(scale);
+        for (float value : vector) {
+            int quantized = scale == 0f ? 0 : Math.round(value / scale);
+            buffer.put((byte) Math.max(-Byte.MAX_VALUE, Math.min(Byte.MAX_VALUE, quantized)));
+        }
+        return buffer.array();
+    }
+
+    /**
+     * int8 양자화 바이트 배열을 float 배열로 복원
+     */
+    public static float[] decodeInt8(byte[] bytes) {
+        if (bytes.length < Float.BYTES) {
+            throw new IllegalArgumentException("잘못된 양자화 벡터 바이트 길이입니다: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        float scale = buffer.getFloat();
+        float[] vector = new float[bytes.length - Float.BYTES];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = buffer.get() * scale;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,83 @@
+package com.swen.news.domain.news.vector;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 임베딩 벡터 연산 유틸리티
+ * 모든 벡터는 저장 시 단위 벡터로 정규화되므로 코사인 유사도는 내적과 같습니다.
+ *
+ * <p>JVM에 jdk.incubator.vector 모듈이 추가되어 있으면(--add-modules jdk.incubator.vector)
+ * SIMD 커널을, 아니면 단순 루프 커널을 사용합니다.
+ */
+@Slf4j
+public final class VectorMath {
+
+    private static final String SIMD_KERNEL_CLASS = "com.swen.news.domain.news.vector.SimdDotProductKernel";
+
+    private static final DotProductKernel KERNEL = selectKernel();
+
+    private VectorMath() {
+    }
+
+    /**
+     * 벡터를 단위 벡터로 정규화 (입력 배열을 그대로 수정하여 반환)
+     */
+    public static float[] normalize(float[] vector) {
+        double norm = 0.0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm == 0.0) {
+            return vector;
+        }
+        float inv = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inv;
+        }
+        return vector;
+    }
+
+    /**
+     * 두 벡터의 내적 (정규화된 벡터라면 코사인 유사도)
+     */
+    public static float dot(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다");
+        }
+        return KERNEL.dot(a, b);
+    }
+
+    /**
+     * 질의 벡터와 후보 벡터들의 내적을 한 번에 계산
+     *
+     * @param query 질의 벡터
+     * @param candidates 후보 벡터 배열 (차원이 다른 후보는 NaN)
+     * @return 후보 순서대로의 내적 값
+     */
+    public static float[] dot(float[] query, float[][] candidates) {
+        float[] scores = new float[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            float[] candidate = candidates[i];
+            scores[i] = candidate != null && candidate.length == query.length
+                ? KERNEL.dot(query, candidate)
+                : Float.NaN;
+        }
+        return scores;
+    }
+
+    private static DotProductKernel selectKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                DotProductKernel kernel = (DotProductKernel) Class.forName(SIMD_KERNEL_CLASS)
+                    .getDeclaredConstructor()
+                    .newInstance();
+                log.info("벡터 연산 커널: JDK Vector API (SIMD)");
+                return kernel;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("JDK Vector API 커널 로드 실패 - 단순 루프 커널 사용", e);
+            }
+        }
+        log.info("벡터 연산 커널: 단순 루프");
+        return new ScalarDotProductKernel();
+    }
+}
@@ -0,0 +1,15 @@
+package com.swen.news.domain.news.vector;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 벡터 인덱스 검색 결과 (news_embeddings.id, 유사도, 인덱스에 저장된 정규화 벡터)
+ */
+@Getter
+@AllArgsConstructor
+public class VectorSearchResult {
+    private final long id;
+    private final float similarity;
+    private final float[] vector; // 인덱스 내부 배열이므로 수정하지 말 것
+}
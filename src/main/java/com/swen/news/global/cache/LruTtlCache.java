@@ -0,0 +1,117 @@
+package com.swen.news.global.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기(LRU)와 TTL 기반으로 만료되는 인메모리 캐시
+ *
+ * <p>LinkedHashMap의 순서를 최근 사용 순으로 유지하며(조회 시 맨 뒤로 이동) 모든 변경은 동기화됩니다.
+ * 적중/미적중/만료 횟수를 집계하여 메트릭으로 노출할 수 있습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LruTtlCache<K, V> {
+
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LruTtlCache(int maxSize, Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+        // 접근 순서 모드는 모든 get이 순서를 바꾸므로 삽입 순서로 두고 get에서 직접 옮김 (peek은 순서 유지)
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 값 조회 (없거나 만료되었으면 null)
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        entries.remove(key);
+        entries.put(key, entry);
+        return entry.value;
+    }
+
+    /**
+     * 값 확인 (적중/미적중 집계와 LRU 순서에 영향 없음, 없거나 만료되었으면 null)
+     */
+    public synchronized V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * 값 저장 (기존 값은 덮어쓰고 TTL을 갱신)
+     */
+    public synchronized void put(K key, V value) {
+        entries.remove(key);
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * 값 제거
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
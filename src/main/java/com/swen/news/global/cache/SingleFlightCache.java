@@ -0,0 +1,153 @@
+package com.swen.news.global.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 진행 중 요청 병합(single-flight)을 지원하는 TTL 캐시
+ *
+ * <p>같은 키로 동시에 미적중이 나면 첫 요청만 loader를 실행하고 나머지는 그 결과를 함께 기다립니다.
+ * 성공한 결과만 {@link LruTtlCache}에 저장하며, 실패는 캐시하지 않고 대기 중인 요청에 그대로 전달합니다.
+ * cacheable 조건을 만족하지 않는 결과(장애 시 대체 응답 등)도 대기 중인 요청에는 전달하되 캐시하지 않습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class SingleFlightCache<K, V> {
+
+    private final LruTtlCache<K, V> completed;
+    private final Predicate<V> cacheable;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder joins = new LongAdder();
+
+    public SingleFlightCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, value -> true);
+    }
+
+    /**
+     * @param cacheable 캐시에 저장할 결과인지 판단 (false면 이번 요청들에만 전달)
+     */
+    public SingleFlightCache(int maxSize, Duration ttl, Predicate<V> cacheable) {
+        this.completed = new LruTtlCache<>(maxSize, ttl);
+        this.cacheable = cacheable;
+    }
+
+    /**
+     * 캐시 조회, 없으면 비동기 loader로 생성 (진행 중인 같은 키 요청이 있으면 합류)
+     *
+     * @param key 캐시 키
+     * @param loader 미적중 시 값을 생성하는 비동기 작업
+     * @return 값 future
+     */
+    public CompletableFuture<V> getAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        V cached = completed.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<V> promise = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            joins.increment();
+            return existing;
+        }
+
+        loads.increment();
+        try {
+            loader.get().whenComplete((value, error) -> {
+                // 캐시에 먼저 넣고 진행 중 목록에서 빼야 그 사이 요청이 중복 생성하지 않음
+                if (error == null && value != null && cacheable.test(value)) {
+                    completed.put(key, value);
+                }
+                inFlight.remove(key, promise);
+                if (error != null) {
+                    promise.completeExceptionally(error);
+                } else {
+                    promise.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, promise);
+            promise.completeExceptionally(e);
+        }
+        return promise;
+    }
+
+    /**
+     * 캐시 조회, 없으면 호출 스레드에서 loader를 실행 (진행 중인 같은 키 요청이 있으면 결과를 기다림)
+     *
+     * @param key 캐시 키
+     * @param loader 미적중 시 값을 생성하는 작업
+     * @return 값
+     */
+    public V get(K key, Supplier<V> loader) {
+        try {
+            return getAsync(key, () -> {
+                try {
+                    return CompletableFuture.completedFuture(loader.get());
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 완료된 캐시 값만 확인 (생성하지 않고, 적중 집계와 LRU 순서에도 영향 없음)
+     *
+     * @return 캐시된 값, 없으면 null
+     */
+    public V peek(K key) {
+        return completed.peek(key);
+    }
+
+    /**
+     * 캐시된 값 제거 (진행 중인 생성에는 영향 없음)
+     */
+    public void invalidate(K key) {
+        completed.invalidate(key);
+    }
+
+    public int size() {
+        return completed.size();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    public long hitCount() {
+        return completed.hitCount();
+    }
+
+    /**
+     * loader를 실제로 실행한 횟수
+     */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * 진행 중인 요청에 합류한 횟수
+     */
+    public long joinCount() {
+        return joins.sum();
+    }
+
+    public long evictionCount() {
+        return completed.evictionCount();
+    }
+}
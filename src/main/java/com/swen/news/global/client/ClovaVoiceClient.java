@@ -1,5 +1,7 @@
 package com.swen.news.global.client;
 
+import com.swen.news.global.config.ClovaVoiceFeignConfig;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -11,21 +13,24 @@ import org.springframework.web.bind.annotation.RequestHeader;
  */
 @FeignClient(
     name = "clova-voice-client",
-    url = "${external-api.naver.clova-voice.url}"
+    url = "${external-api.naver.clova-voice.url}",
+    configuration = ClovaVoiceFeignConfig.class
 )
 public interface ClovaVoiceClient {
     
     /**
      * CLOVA Voice TTS API 호출
+     * 응답 본문(MP3)을 메모리에 모으지 않고 스트림으로 받기 위해 feign.Response를 그대로 반환합니다.
+     * 상태 코드 확인과 Response close는 호출 측 책임입니다.
      *
      * @param clientId X-NCP-APIGW-API-KEY-ID (Client ID)
      * @param clientSecret X-NCP-APIGW-API-KEY (Client Secret)
      * @param contentType application/x-www-form-urlencoded
      * @param requestBody form-encoded 요청 본문
-     * @return TTS 응답 (MP3 바이너리 데이터)
+     * @return TTS 응답 (본문은 MP3 바이너리 스트림)
      */
     @PostMapping(value = "/tts", consumes = "application/x-www-form-urlencoded")
-    byte[] generateSpeech(
+    Response generateSpeech(
         @RequestHeader("X-NCP-APIGW-API-KEY-ID") String clientId,
         @RequestHeader("X-NCP-APIGW-API-KEY") String clientSecret,
         @RequestHeader("Content-Type") String contentType,
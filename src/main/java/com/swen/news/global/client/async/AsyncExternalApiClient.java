@@ -0,0 +1,324 @@
+package com.swen.news.global.client.async;
+
+import com.swen.news.global.exception.CommonException;
+import com.swen.news.global.exception.errorcode.CommonErrorCode;
+import com.swen.news.global.ratelimit.RateLimitRequestInterceptor;
+import com.swen.news.global.ratelimit.RequestPriority;
+import com.swen.news.global.ratelimit.RequestPriorityContext;
+import com.swen.news.global.resilience.ExternalApiGuard;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 외부 API 비동기 클라이언트 (Feign 클라이언트 4종의 CompletableFuture 버전)
+ *
+ * <p>JDK HttpClient의 sendAsync를 사용하므로 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+ * 하나의 HttpClient가 호스트별 연결을 재사용하고, 서버가 지원하면 HTTP/2로 한 연결에서 여러 요청을 다중화합니다.
+ * 호스트별 동시 요청 수는 async-http.*로, 호출 한도는 Feign과 같은 rate-limit.clients.* 버킷으로 제한하고
+ * 서킷 브레이커/벌크헤드({@link ExternalApiGuard})도 Feign 호출과 함께 집계합니다.
+ *
+ * <p>반환된 future의 후속 작업은 HttpClient 스레드에서 실행되므로 무거운 작업은 별도 실행기로 넘겨야 합니다.
+ */
+@Slf4j
+@Component
+public class AsyncExternalApiClient {
+
+    private static final String NAVER_NEWS_CLIENT = "naver-news-client";
+    private static final String CLOVA_STUDIO_CLIENT = "clova-studio-client";
+    private static final String EMBEDDING_CLIENT = "hyperclova-embedding-client";
+    private static final String CLOVA_VOICE_CLIENT = "clova-voice-client";
+
+    private static final int ERROR_BODY_LOG_LIMIT = 500;
+
+    private final AsyncHttpProperties properties;
+    private final RateLimitRequestInterceptor rateLimiter;
+    private final ExternalApiGuard externalApiGuard;
+    private final MeterRegistry meterRegistry;
+    private final HttpClient httpClient;
+    private final Map<String, HostConcurrencyLimiter> hostLimiters = new ConcurrentHashMap<>();
+
+    private final String naverNewsBaseUrl;
+    private final String hyperClovaUrl;
+    private final String embeddingUrl;
+    private final String clovaVoiceUrl;
+
+    public AsyncExternalApiClient(AsyncHttpProperties properties,
+                                  RateLimitRequestInterceptor rateLimiter,
+                                  ExternalApiGuard externalApiGuard,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${external-api.naver.news.base-url}") String naverNewsBaseUrl,
+                                  @Value("${external-api.naver.hyperclova.api-gateway-url}") String hyperClovaUrl,
+                                  @Value("${external-api.naver.hyperclova.embedding-url}") String embeddingUrl,
+                                  @Value("${external-api.naver.clova-voice.url}") String clovaVoiceUrl) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.externalApiGuard = externalApiGuard;
+        this.meterRegistry = meterRegistry;
+        this.naverNewsBaseUrl = naverNewsBaseUrl;
+        this.hyperClovaUrl = hyperClovaUrl;
+        this.embeddingUrl = embeddingUrl;
+        this.clovaVoiceUrl = clovaVoiceUrl;
+        this.httpClient = HttpClient.newBuilder()
+            .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    /**
+     * 뉴스 검색 API 비동기 호출 ({@link com.swen.news.global.client.NaverNewsClient#searchNews}와 동일)
+     *
+     * @return 검색 결과 JSON
+     */
+    public CompletableFuture<String> searchNews(String clientId, String clientSecret,
+                                                String query, Integer display, Integer start, String sort) {
+        URI uri = URI.create(naverNewsBaseUrl + "/v1/search/news.json"
+            + "?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8)
+            + "&display=" + display
+            + "&start=" + start
+            + "&sort=" + URLEncoder.encode(sort, StandardCharsets.UTF_8));
+        HttpRequest request = requestBuilder(uri)
+            .header("X-Naver-Client-Id", clientId)
+            .header("X-Naver-Client-Secret", clientSecret)
+            .GET()
+            .build();
+        return sendForString(NAVER_NEWS_CLIENT, request);
+    }
+
+    /**
+     * CLOVA Studio Chat Completions API 비동기 호출 ({@link com.swen.news.global.client.HyperClovaClient#generateScript}와 동일)
+     *
+     * @return AI 응답 JSON
+     */
+    public CompletableFuture<String> generateScript(String authorization, String requestId,
+                                                    String contentType, String body) {
+        return sendForString(CLOVA_STUDIO_CLIENT, clovaStudioRequest(hyperClovaUrl, authorization, requestId, contentType, body));
+    }
+
+    /**
+     * HyperCLOVA Embedding API 비동기 호출 ({@link com.swen.news.global.client.HyperClovaEmbeddingClient#generateEmbedding}와 동일)
+     *
+     * @return 임베딩 응답 JSON
+     */
+    public CompletableFuture<String> generateEmbedding(String authorization, String requestId,
+                                                       String contentType, String body) {
+        return sendForString(EMBEDDING_CLIENT, clovaStudioRequest(embeddingUrl, authorization, requestId, contentType, body));
+    }
+
+    /**
+     * CLOVA Voice TTS API 비동기 호출 ({@link com.swen.news.global.client.ClovaVoiceClient#generateSpeech}와 동일)
+     *
+     * <p>응답 헤더를 받으면 완료되고 본문(MP3)은 스트림으로 읽습니다. 본문 스트림 close는 호출 측 책임이며,
+     * 호스트 슬롯과 서킷 브레이커/벌크헤드 허가는 스트림을 닫을 때 반환됩니다.
+     *
+     * @return 2xx 응답 (본문은 MP3 바이너리 스트림)
+     */
+    public CompletableFuture<HttpResponse<InputStream>> generateSpeech(String clientId, String clientSecret,
+                                                                        String contentType, String formBody) {
+        HttpRequest request = requestBuilder(URI.create(clovaVoiceUrl + "/tts"))
+            .header("X-NCP-APIGW-API-KEY-ID", clientId)
+            .header("X-NCP-APIGW-API-KEY", clientSecret)
+            .header("Content-Type", contentType)
+            .POST(HttpRequest.BodyPublishers.ofString(formBody, StandardCharsets.UTF_8))
+            .build();
+        return sendStreaming(CLOVA_VOICE_CLIENT, request)
+            .thenApply(response -> {
+                if (!isSuccess(response.statusCode())) {
+                    closeQuietly(response.body());
+                    throw failure(CLOVA_VOICE_CLIENT, response.statusCode(), null);
+                }
+                return response;
+            });
+    }
+
+    private HttpRequest clovaStudioRequest(String url, String authorization, String requestId,
+                                           String contentType, String body) {
+        return requestBuilder(URI.create(url))
+            .header("Authorization", authorization)
+            .header("X-NCP-CLOVASTUDIO-REQUEST-ID", requestId)
+            .header("Content-Type", contentType)
+            .header("Accept", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+            .build();
+    }
+
+    private HttpRequest.Builder requestBuilder(URI uri) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(Duration.ofMillis(properties.getRequestTimeoutMs()));
+    }
+
+    private CompletableFuture<String> sendForString(String clientName, HttpRequest request) {
+        return send(clientName, request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+            .thenApply(response -> {
+                if (!isSuccess(response.statusCode())) {
+                    throw failure(clientName, response.statusCode(), response.body());
+                }
+                return response.body();
+            });
+    }
+
+    /**
+     * 본문을 모두 받은 뒤 호스트 슬롯과 허가를 반환하는 전송
+     */
+    private <T> CompletableFuture<HttpResponse<T>> send(String clientName, HttpRequest request,
+                                                        HttpResponse.BodyHandler<T> bodyHandler) {
+        return send(clientName, request, call -> bodyHandler, true);
+    }
+
+    /**
+     * 본문을 스트림으로 받는 전송 (호스트 슬롯과 허가는 호출 측이 본문 스트림을 닫을 때 반환)
+     */
+    private CompletableFuture<HttpResponse<InputStream>> sendStreaming(String clientName, HttpRequest request) {
+        return send(clientName, request, call -> responseInfo -> HttpResponse.BodySubscribers.mapping(
+            HttpResponse.BodySubscribers.ofInputStream(),
+            body -> new ReleasingInputStream(body, () -> call.finish(responseInfo.statusCode()))), false);
+    }
+
+    /**
+     * 호출 한도 토큰 → 호스트 슬롯 → 서킷 브레이커/벌크헤드 허가 순서로 확보한 뒤 전송 (기다리는 동안 스레드를 점유하지 않음)
+     *
+     * @param releaseOnResponse false면 응답을 받아도 반환하지 않음 (본문 처리기가 {@link InFlightCall#finish} 호출)
+     */
+    private <T> CompletableFuture<HttpResponse<T>> send(String clientName, HttpRequest request,
+                                                        Function<InFlightCall, HttpResponse.BodyHandler<T>> bodyHandler,
+                                                        boolean releaseOnResponse) {
+        RequestPriority priority = RequestPriorityContext.current();
+        HostConcurrencyLimiter hostLimiter = hostLimiter(request.uri().getHost());
+        return rateLimiter.acquireAsync(clientName, priority)
+            .thenCompose(ignored -> hostLimiter.submitHolding(releaseSlot -> {
+                InFlightCall call = new InFlightCall(clientName, externalApiGuard.acquire(clientName), releaseSlot);
+                return httpClient.sendAsync(request, bodyHandler.apply(call))
+                    .whenComplete((response, error) -> {
+                        if (response == null) {
+                            call.fail(error);
+                        } else if (releaseOnResponse) {
+                            call.finish(response.statusCode());
+                        }
+                    });
+            }));
+    }
+
+    private HostConcurrencyLimiter hostLimiter(String host) {
+        return hostLimiters.computeIfAbsent(host, key -> {
+            int maxConcurrent = properties.maxConcurrentFor(key);
+            HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(maxConcurrent);
+            Gauge.builder("http.client.async.in.flight", limiter, HostConcurrencyLimiter::inFlight)
+                .tag("host", key)
+                .register(meterRegistry);
+            Gauge.builder("http.client.async.pending", limiter, HostConcurrencyLimiter::pending)
+                .tag("host", key)
+                .register(meterRegistry);
+            log.info("비동기 외부 API 호스트 등록 - 호스트: {}, 동시 요청 한도: {}", key, maxConcurrent);
+            return limiter;
+        });
+    }
+
+    private boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    private CommonException failure(String clientName, int status, String body) {
+        String bodySnippet = body != null && body.length() > ERROR_BODY_LOG_LIMIT
+            ? body.substring(0, ERROR_BODY_LOG_LIMIT) + "..."
+            : body;
+        log.error("비동기 외부 API 응답 오류 - 클라이언트: {}, 상태 코드: {}, 응답: {}", clientName, status, bodySnippet);
+        return new CommonException(status == 429
+            ? CommonErrorCode.TOO_MANY_REQUESTS
+            : CommonErrorCode.EXTERNAL_API_ERROR);
+    }
+
+    private void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            log.debug("응답 스트림 닫기 실패", e);
+        }
+    }
+
+    /**
+     * 전송 중인 호출 (허가와 호스트 슬롯을 한 번만 반환하고 소요 시간을 기록)
+     */
+    private final class InFlightCall {
+
+        private final String clientName;
+        private final ExternalApiGuard.Permit permit;
+        private final Runnable releaseSlot;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private InFlightCall(String clientName, ExternalApiGuard.Permit permit, Runnable releaseSlot) {
+            this.clientName = clientName;
+            this.permit = permit;
+            this.releaseSlot = releaseSlot;
+        }
+
+        void finish(int status) {
+            if (finished.compareAndSet(false, true)) {
+                permit.onResponse(status);
+                complete(String.valueOf(status));
+            }
+        }
+
+        void fail(Throwable error) {
+            if (finished.compareAndSet(false, true)) {
+                permit.onError(error);
+                complete("IO_ERROR");
+            }
+        }
+
+        private void complete(String status) {
+            Timer.builder("http.client.async.requests")
+                .tag("client", clientName)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            releaseSlot.run();
+        }
+    }
+
+    /**
+     * 닫을 때 한 번만 콜백을 실행하는 응답 본문 스트림
+     */
+    private static final class ReleasingInputStream extends FilterInputStream {
+
+        private final Runnable onClose;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private ReleasingInputStream(InputStream delegate, Runnable onClose) {
+            super(delegate);
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    onClose.run();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.swen.news.global.client.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비동기 외부 API 클라이언트 설정 (async-http.*)
+ *
+ * <p>hosts의 키는 호스트 이름입니다. 설정이 없는 호스트는 maxConcurrentPerHost를 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "async-http")
+public class AsyncHttpProperties {
+
+    /** 연결 타임아웃 */
+    private long connectTimeoutMs = 10000;
+
+    /** 요청별 응답 타임아웃 (응답 헤더 수신까지) */
+    private long requestTimeoutMs = 30000;
+
+    /** HTTP/2 우선 사용 (서버가 지원하지 않으면 HTTP/1.1로 협상) */
+    private boolean http2 = true;
+
+    /** 호스트별 기본 동시 요청 수 */
+    private int maxConcurrentPerHost = 16;
+
+    /** 호스트별 동시 요청 수 재정의 */
+    private Map<String, Integer> hosts = new HashMap<>();
+
+    public int maxConcurrentFor(String host) {
+        return hosts.getOrDefault(host, maxConcurrentPerHost);
+    }
+}
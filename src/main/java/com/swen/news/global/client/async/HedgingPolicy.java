@@ -0,0 +1,181 @@
+package com.swen.news.global.client.async;
+
+import com.swen.news.global.ratelimit.RequestPriority;
+import com.swen.news.global.ratelimit.RequestPriorityContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 지연 꼬리를 줄이기 위한 헤지(hedged) 요청 정책
+ *
+ * <p>첫 요청이 최근 응답 시간의 지정 백분위수(예: p95)까지 끝나지 않으면 같은 요청을 한 번 더 보내고
+ * 먼저 성공한 응답을 사용합니다. 대기는 지연 실행기로 처리하므로 스레드를 점유하지 않습니다.
+ *
+ * <p>추가 요청은 예산으로 제한합니다. 요청 1건마다 budgetRatio만큼 적립되고 헤지 1건에 1을 쓰므로
+ * 추가 부하는 전체 요청의 budgetRatio 이하입니다. 표본이 minSamples개 미만이면 헤지하지 않습니다.
+ * 시도별 응답 시간은 http.client.hedge.latency{endpoint} 히스토그램으로 남깁니다.
+ */
+@Slf4j
+public class HedgingPolicy {
+
+    private static final long BUDGET_UNIT = 1000;
+
+    private final String endpoint;
+    private final double percentile;
+    private final int minSamples;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long budgetPerRequest;
+    private final long maxBudget;
+
+    private final LatencyReservoir reservoir;
+    private final AtomicLong budget = new AtomicLong();
+
+    private final Timer latency;
+    private final Counter hedged;
+    private final Counter hedgeWon;
+    private final Counter budgetExhausted;
+
+    /**
+     * @param endpoint 메트릭 태그용 엔드포인트 이름
+     * @param percentile 헤지 대기 시간으로 쓸 백분위수 (0~1)
+     * @param minSamples 헤지를 시작하기 위한 최소 표본 수
+     * @param minDelay 헤지 대기 시간 하한
+     * @param maxDelay 헤지 대기 시간 상한
+     * @param budgetRatio 전체 요청 대비 허용하는 추가 요청 비율 (예: 0.05)
+     * @param maxBurst 한 번에 몰아 쓸 수 있는 최대 헤지 수
+     * @param reservoirSize 대기 시간 계산에 쓰는 최근 표본 수
+     */
+    public HedgingPolicy(String endpoint, double percentile, int minSamples, Duration minDelay, Duration maxDelay,
+                         double budgetRatio, int maxBurst, int reservoirSize, MeterRegistry meterRegistry) {
+        this.endpoint = endpoint;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.budgetPerRequest = Math.round(budgetRatio * BUDGET_UNIT);
+        this.maxBudget = Math.max(maxBurst, 1) * BUDGET_UNIT;
+        this.reservoir = new LatencyReservoir(reservoirSize, Math.max(reservoirSize / 16, 1));
+
+        this.latency = Timer.builder("http.client.hedge.latency")
+            .tag("endpoint", endpoint)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.hedged = counter(meterRegistry, "hedged");
+        this.hedgeWon = counter(meterRegistry, "hedge_won");
+        this.budgetExhausted = counter(meterRegistry, "budget_exhausted");
+        Gauge.builder("http.client.hedge.delay", this, policy -> policy.hedgeDelayNanos() / 1_000_000.0)
+            .tag("endpoint", endpoint)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 헤지 정책으로 요청 실행
+     *
+     * <p>먼저 성공한 응답으로 완료되고, 모든 시도가 실패하면 첫 번째 오류로 완료됩니다.
+     * 첫 요청이 대기 시간 전에 실패하면 헤지하지 않습니다 (재시도가 아님).
+     *
+     * @param call 비동기 요청을 시작하는 함수 (헤지 시 한 번 더 호출됨)
+     * @return 응답 future
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        earnBudget();
+        RequestPriority priority = RequestPriorityContext.current();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        attempt(call, result, pending, firstError, false);
+
+        long delayNanos = hedgeDelayNanos();
+        if (delayNanos >= 0) {
+            CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                if (!spendBudget()) {
+                    budgetExhausted.increment();
+                    return;
+                }
+                hedged.increment();
+                pending.incrementAndGet();
+                log.debug("헤지 요청 전송 - 엔드포인트: {}, 대기: {}ms", endpoint, delayNanos / 1_000_000);
+                RequestPriorityContext.runWith(priority, () -> attempt(call, result, pending, firstError, true));
+            });
+        }
+        return result;
+    }
+
+    private <T> void attempt(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result,
+                             AtomicInteger pending, AtomicReference<Throwable> firstError, boolean hedge) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                long elapsed = System.nanoTime() - start;
+                reservoir.record(elapsed);
+                latency.record(elapsed, TimeUnit.NANOSECONDS);
+                if (result.complete(value) && hedge) {
+                    hedgeWon.increment();
+                }
+                return;
+            }
+            firstError.compareAndSet(null, error);
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(firstError.get());
+            }
+        });
+    }
+
+    /**
+     * 현재 헤지 대기 시간 (표본 부족이면 -1)
+     */
+    long hedgeDelayNanos() {
+        if (reservoir.size() < minSamples) {
+            return -1;
+        }
+        long observed = reservoir.percentile(percentile);
+        return Math.min(Math.max(observed, minDelayNanos), maxDelayNanos);
+    }
+
+    private void earnBudget() {
+        budget.updateAndGet(current -> Math.min(current + budgetPerRequest, maxBudget));
+    }
+
+    private boolean spendBudget() {
+        while (true) {
+            long current = budget.get();
+            if (current < BUDGET_UNIT) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - BUDGET_UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("http.client.hedge.requests")
+            .tag("endpoint", endpoint)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
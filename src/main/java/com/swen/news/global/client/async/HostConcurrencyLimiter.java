@@ -0,0 +1,107 @@
+package com.swen.news.global.client.async;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 스레드를 막지 않는 호스트별 동시 요청 제한
+ *
+ * <p>실행 중인 요청이 한도에 닿으면 요청을 대기열에 넣고, 앞선 요청이 끝날 때 다음 요청을 시작합니다.
+ * 대기 중인 요청은 스레드를 점유하지 않습니다.
+ */
+final class HostConcurrencyLimiter {
+
+    private final int maxConcurrent;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+    HostConcurrencyLimiter(int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent는 0보다 커야 합니다");
+        }
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * 슬롯이 나면 요청 시작
+     *
+     * @param call 비동기 요청을 시작하는 함수
+     * @return 요청 결과 future
+     */
+    <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+        return submitHolding(release -> call.get().whenComplete((value, error) -> release.run()));
+    }
+
+    /**
+     * 슬롯이 나면 요청 시작 - 슬롯은 요청 future가 끝날 때가 아니라 release를 호출할 때 반환 (스트리밍 응답용)
+     *
+     * @param call release(여러 번 호출해도 한 번만 반환)를 받아 비동기 요청을 시작하는 함수, 예외를 던지면 바로 반환
+     * @return 요청 결과 future
+     */
+    <T> CompletableFuture<T> submitHolding(Function<Runnable, CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pending.add(() -> {
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    release();
+                }
+            };
+            CompletableFuture<T> started;
+            try {
+                started = call.apply(release);
+            } catch (RuntimeException e) {
+                release.run();
+                started = CompletableFuture.failedFuture(e);
+            }
+            started.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        drain();
+        return result;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    int pending() {
+        return pending.size();
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    /**
+     * 슬롯을 먼저 예약한 뒤 대기열에서 꺼냄 (꺼낼 요청이 없으면 예약 반환)
+     */
+    private void drain() {
+        while (!pending.isEmpty()) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable next = pending.poll();
+            if (next == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            next.run();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.swen.news.global.client.async;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 표본 저장소 (고정 크기 링 버퍼)
+ *
+ * <p>가장 최근 capacity개 표본으로 백분위수를 계산하므로 업스트림 지연 변화가 곧바로 반영됩니다.
+ * 정렬 결과는 표본이 recomputeInterval개 쌓일 때마다 다시 계산합니다.
+ */
+final class LatencyReservoir {
+
+    private final long[] samples;
+    private final int recomputeInterval;
+
+    private int next = 0;
+    private int size = 0;
+    private int sinceSorted = 0;
+    private long[] sorted = new long[0];
+
+    LatencyReservoir(int capacity, int recomputeInterval) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 0보다 커야 합니다");
+        }
+        this.samples = new long[capacity];
+        this.recomputeInterval = Math.max(recomputeInterval, 1);
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+        sinceSorted++;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 백분위수 응답 시간
+     *
+     * @param percentile 0~1 (예: 0.95)
+     * @return 나노초, 표본이 없으면 -1
+     */
+    synchronized long percentile(double percentile) {
+        if (size == 0) {
+            return -1;
+        }
+        if (sorted.length != size || sinceSorted >= recomputeInterval) {
+            sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            sinceSorted = 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.min(Math.max(rank, 0), sorted.length - 1)];
+    }
+}
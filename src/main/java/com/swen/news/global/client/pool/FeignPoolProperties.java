@@ -0,0 +1,45 @@
+package com.swen.news.global.client.pool;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Feign 클라이언트별 커넥션 풀 설정 (feign-pool.*)
+ *
+ * <p>clients의 키는 @FeignClient name과 같습니다. 설정이 없는 클라이언트는 기본값으로 풀을 만듭니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "feign-pool")
+public class FeignPoolProperties {
+
+    private Map<String, Pool> clients = new HashMap<>();
+
+    public Pool poolFor(String clientName) {
+        return clients.getOrDefault(clientName, new Pool());
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /** 최대 연결 수 (클라이언트마다 호스트가 하나이므로 호스트별 최대 연결 수와 같음) */
+        private int maxConnections = 20;
+
+        /** 서버가 더 길게 허용해도 이 시간이 지나면 유휴 연결을 재사용하지 않음 */
+        private long keepAliveSeconds = 30;
+
+        /** 연결 최대 수명 (DNS 변경 반영용) */
+        private long timeToLiveSeconds = 300;
+
+        /** 이 시간 이상 유휴 상태인 연결은 백그라운드에서 정리 */
+        private long idleEvictSeconds = 60;
+
+        /** 이 시간 이상 쉬었던 연결은 재사용 전에 끊김 여부를 확인 */
+        private long validateAfterInactivityMs = 2000;
+    }
+}
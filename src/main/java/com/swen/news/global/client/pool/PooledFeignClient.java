@@ -0,0 +1,203 @@
+package com.swen.news.global.client.pool;
+
+import com.swen.news.global.resilience.ExternalApiGuard;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+
+import javax.net.ssl.SSLContext;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 클라이언트별 커넥션 풀을 쓰는 Feign HTTP 전송 계층 (Apache HttpClient 5)
+ *
+ * <p>요청의 @FeignClient name으로 풀을 골라, 클라이언트마다 연결 수/keep-alive/수명을 따로 설정합니다.
+ * 모든 풀이 하나의 SSLContext를 공유하므로 새 연결도 TLS 세션을 재사용(축약 핸드셰이크)합니다.
+ * 풀 사용량은 httpcomponents.httpclient.pool.* 메트릭(client 태그)으로 남깁니다.
+ *
+ * <p>모든 호출은 {@link ExternalApiGuard}의 클라이언트별 서킷 브레이커/벌크헤드를 거칩니다.
+ * 허가는 응답 본문을 닫을 때 반환하므로 스트리밍 응답(TTS 음성)은 본문을 다 읽을 때까지 동시 호출 수와 소요 시간에 포함됩니다.
+ */
+@Slf4j
+public class PooledFeignClient implements Client, Closeable {
+
+    private static final String DEFAULT_CLIENT = "default";
+
+    private final FeignPoolProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExternalApiGuard externalApiGuard;
+    private final SSLContext sslContext = SSLContexts.createSystemDefault();
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+
+    public PooledFeignClient(FeignPoolProperties properties, MeterRegistry meterRegistry,
+                             ExternalApiGuard externalApiGuard) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.externalApiGuard = externalApiGuard;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String clientName = request.requestTemplate() != null && request.requestTemplate().feignTarget() != null
+            ? request.requestTemplate().feignTarget().name()
+            : DEFAULT_CLIENT;
+        Client client = clients.computeIfAbsent(clientName, this::createClient).feignClient();
+
+        ExternalApiGuard.Permit permit = externalApiGuard.acquire(clientName);
+        Response response;
+        try {
+            response = client.execute(request, options);
+        } catch (IOException | RuntimeException e) {
+            permit.onError(e);
+            throw e;
+        }
+        if (response.body() == null) {
+            permit.onResponse(response.status());
+            return response;
+        }
+        return response.toBuilder()
+            .body(new PermitReleasingBody(response.body(), permit, response.status()))
+            .build();
+    }
+
+    @Override
+    public void close() {
+        clients.values().forEach(client -> client.httpClient().close(CloseMode.GRACEFUL));
+        clients.clear();
+    }
+
+    private PooledClient createClient(String clientName) {
+        FeignPoolProperties.Pool pool = properties.poolFor(clientName);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.getMaxConnections())
+            .setMaxConnPerRoute(pool.getMaxConnections())
+            .setTlsSocketStrategy(new DefaultClientTlsStrategy(sslContext))
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setTimeToLive(TimeValue.ofSeconds(pool.getTimeToLiveSeconds()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(pool.getValidateAfterInactivityMs()))
+                .build())
+            .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setKeepAliveStrategy(cappedKeepAlive(TimeValue.ofSeconds(pool.getKeepAliveSeconds())))
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofSeconds(pool.getIdleEvictSeconds()))
+            .disableCookieManagement()
+            .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, clientName, "client", clientName)
+            .bindTo(meterRegistry);
+        log.info("Feign 커넥션 풀 생성 - 클라이언트: {}, 최대 연결 {}, keep-alive {}초",
+            clientName, pool.getMaxConnections(), pool.getKeepAliveSeconds());
+        return new PooledClient(httpClient, new ApacheHttp5Client(httpClient));
+    }
+
+    /**
+     * 서버가 알려준 keep-alive(Keep-Alive 헤더)를 따르되 설정값을 넘지 않게 제한
+     */
+    private ConnectionKeepAliveStrategy cappedKeepAlive(TimeValue max) {
+        return (response, context) -> {
+            TimeValue server = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return TimeValue.isPositive(server) && server.compareTo(max) < 0 ? server : max;
+        };
+    }
+
+    private record PooledClient(CloseableHttpClient httpClient, ApacheHttp5Client feignClient) {
+    }
+
+    /**
+     * 본문(또는 본문 스트림)을 닫을 때 한 번만 허가를 반환하는 응답 본문
+     */
+    static final class PermitReleasingBody implements Response.Body {
+
+        private final Response.Body delegate;
+        private final ExternalApiGuard.Permit permit;
+        private final int status;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingBody(Response.Body delegate, ExternalApiGuard.Permit permit, int status) {
+            this.delegate = delegate;
+            this.permit = permit;
+            this.status = status;
+        }
+
+        @Override
+        public Integer length() {
+            return delegate.length();
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return delegate.isRepeatable();
+        }
+
+        @Override
+        public InputStream asInputStream() throws IOException {
+            return new FilterInputStream(delegate.asInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        release();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public Reader asReader(Charset charset) throws IOException {
+            return new FilterReader(delegate.asReader(charset)) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        release();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                delegate.close();
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permit.onResponse(status);
+            }
+        }
+    }
+}
@@ -1,27 +1,146 @@
 package com.swen.news.global.config;
 
+import com.swen.news.global.ratelimit.RequestPriority;
+import com.swen.news.global.ratelimit.RequestPriorityTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리 설정
+ *
+ * <p>spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행되면
+ * 플랫폼 스레드 풀 대신 가상 스레드 실행기를 사용합니다.
+ *
+ * <p>임베딩 백그라운드 실행기는 외부 API 호출을 BATCH 우선순위로, 나머지는 제출한 스레드의 우선순위로 실행합니다.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
     @Bean(name = "embeddingTaskExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
     public Executor embeddingTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("Embedding-");
+        executor.setTaskDecorator(new RequestPriorityTaskDecorator(RequestPriority.BATCH));
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 가상 스레드 모드용 임베딩 실행기 (동시 실행 수는 플랫폼 모드의 최대 풀 크기와 동일하게 제한)
+     */
+    @Bean(name = "embeddingTaskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualEmbeddingTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Embedding-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new RequestPriorityTaskDecorator(RequestPriority.BATCH));
+        executor.setConcurrencyLimit(5);
+        return executor;
+    }
+
+    /**
+     * 임베딩 API 일괄 호출용 (동시 호출 수 = 풀 크기, 나머지는 큐에서 대기)
+     */
+    @Bean(name = "embeddingApiExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor embeddingApiExecutor(@Value("${embedding-batch.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("EmbeddingApi-");
+        executor.setTaskDecorator(new RequestPriorityTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드용 임베딩 API 일괄 호출 실행기
+     */
+    @Bean(name = "embeddingApiExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualEmbeddingApiExecutor(@Value("${embedding-batch.concurrency:4}") int concurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("EmbeddingApi-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new RequestPriorityTaskDecorator());
+        executor.setConcurrencyLimit(concurrency);
+        return executor;
+    }
+
+    /**
+     * 뉴스 플레이 파이프라인(스크립트 생성, TTS, 추천) 병렬 실행용
+     *
+     * <p>큐 없이 concurrency개까지만 스레드를 만들고, 모두 사용 중이면 제출한 스레드(요청 스레드)에서 직접 실행합니다.
+     * 큐에 쌓아 두고 코어 스레드만 쓰다가 지연되는 대신 요청 처리 속도를 늦춰 부하를 조절합니다.
+     */
+    @Bean(name = "newsPipelineExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor newsPipelineExecutor(@Value("${news-pipeline.concurrency:32}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("NewsPipeline-");
+        executor.setTaskDecorator(new RequestPriorityTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드용 뉴스 플레이 파이프라인 실행기 (블로킹 Feign 호출마다 가상 스레드 사용)
+     */
+    @Bean(name = "newsPipelineExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualNewsPipelineExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("NewsPipeline-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new RequestPriorityTaskDecorator());
+        return executor;
+    }
+
+    /**
+     * 추천 유사도 랭킹의 후보 임베딩 생성용 (파이프라인 단계와 스레드를 나눠 서로 밀어내지 않도록 분리)
+     *
+     * <p>큐가 가득 차면 거부되어 해당 후보만 랭킹에서 제외됩니다 (제출 스레드에서 실행하면 시간 제한/취소가 적용되지 않음).
+     */
+    @Bean(name = "rankingExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor rankingExecutor(@Value("${vector-db.ranking.pool-size:16}") int poolSize,
+                                    @Value("${vector-db.ranking.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("Ranking-");
+        executor.setTaskDecorator(new RequestPriorityTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드용 유사도 랭킹 실행기
+     */
+    @Bean(name = "rankingExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualRankingExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Ranking-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new RequestPriorityTaskDecorator());
+        return executor;
+    }
 }
@@ -0,0 +1,20 @@
+package com.swen.news.global.config;
+
+import feign.Logger;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * CLOVA Voice 클라이언트 전용 Feign 설정입니다.
+ * 컴포넌트 스캔 대상이 되지 않도록 @Configuration을 붙이지 않습니다.
+ */
+public class ClovaVoiceFeignConfig {
+
+    /**
+     * FULL 로그 레벨은 응답 본문을 로깅하려고 전체를 메모리에 다시 버퍼링하므로
+     * 바이너리 음성 스트림에는 요청/응답 요약만 남깁니다.
+     */
+    @Bean
+    Logger.Level clovaVoiceLoggerLevel() {
+        return Logger.Level.BASIC;
+    }
+}
@@ -1,6 +1,15 @@
 package com.swen.news.global.config;
 
+import com.swen.news.global.client.async.AsyncHttpProperties;
+import com.swen.news.global.client.pool.FeignPoolProperties;
+import com.swen.news.global.client.pool.PooledFeignClient;
+import com.swen.news.global.ratelimit.RateLimitProperties;
+import com.swen.news.global.ratelimit.RateLimitRequestInterceptor;
+import com.swen.news.global.resilience.ExternalApiGuard;
+import com.swen.news.global.resilience.ResilienceProperties;
 import feign.Logger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +19,8 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 @EnableFeignClients(basePackages = "com.swen.news.global.client")
+@EnableConfigurationProperties({RateLimitProperties.class, AsyncHttpProperties.class, FeignPoolProperties.class,
+    ResilienceProperties.class})
 public class FeignConfig {
     
     /**
@@ -19,4 +30,22 @@ public class FeignConfig {
     Logger.Level feignLoggerLevel() {
         return Logger.Level.FULL;
     }
+
+    /**
+     * 클라이언트별 토큰 버킷 호출 제한 (rate-limit.clients.*)
+     */
+    @Bean
+    RateLimitRequestInterceptor rateLimitRequestInterceptor(RateLimitProperties rateLimitProperties,
+                                                            MeterRegistry meterRegistry) {
+        return new RateLimitRequestInterceptor(rateLimitProperties, meterRegistry);
+    }
+
+    /**
+     * 클라이언트별 커넥션 풀 HTTP 전송 계층 (feign-pool.clients.*, resilience.clients.*)
+     */
+    @Bean
+    PooledFeignClient feignClient(FeignPoolProperties feignPoolProperties, MeterRegistry meterRegistry,
+                                  ExternalApiGuard externalApiGuard) {
+        return new PooledFeignClient(feignPoolProperties, meterRegistry, externalApiGuard);
+    }
 }
@@ -0,0 +1,82 @@
+package com.swen.news.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 피닝(pinning) 진단
+ *
+ * <p>가상 스레드 모드에서만 동작하며, JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 구독하여
+ * 캐리어 스레드를 임계 시간 이상 점유한 호출 위치를 로그와 메트릭(jvm.virtual.threads.pinned)으로 남깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 8;
+
+    private final Counter pinnedCounter;
+
+    @Value("${virtual-threads.pinning.threshold-ms:20}")
+    private long thresholdMillis;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.pinnedCounter = Counter.builder("jvm.virtual.threads.pinned")
+            .description("임계 시간 이상 캐리어 스레드에 고정된 가상 스레드 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+            .withThreshold(Duration.ofMillis(thresholdMillis))
+            .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 모드 활성화 - 피닝 진단 시작 (임계값: {}ms)", thresholdMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+
+        StringBuilder frames = new StringBuilder();
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> stackFrames = event.getStackTrace().getFrames();
+            for (int i = 0; i < Math.min(stackFrames.size(), MAX_LOGGED_FRAMES); i++) {
+                RecordedFrame frame = stackFrames.get(i);
+                frames.append("\n\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+            }
+        }
+        log.warn("가상 스레드 피닝 감지 - {}ms{}", event.getDuration().toMillis(), frames);
+    }
+}
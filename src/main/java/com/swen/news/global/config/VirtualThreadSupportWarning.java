@@ -0,0 +1,28 @@
+package com.swen.news.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 가상 스레드 설정이 켜져 있지만 Java 21 미만이라 적용되지 않은 경우 경고
+ *
+ * <p>spring.threads.virtual.enabled=true여도 Java 17 런타임에서는 조용히 플랫폼 스레드로 실행되므로,
+ * 부하 테스트 등에서 잘못된 모드를 측정하지 않도록 시작 시 알립니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@ConditionalOnThreading(Threading.PLATFORM)
+public class VirtualThreadSupportWarning {
+
+    @PostConstruct
+    public void warn() {
+        log.warn("spring.threads.virtual.enabled=true지만 현재 런타임은 Java {} - 가상 스레드는 Java 21 이상에서만 적용되어 플랫폼 스레드로 실행합니다 "
+            + "(Docker는 --build-arg RUNTIME_IMAGE=eclipse-temurin:21-jre로 빌드)", Runtime.version().feature());
+    }
+}
@@ -0,0 +1,103 @@
+package com.swen.news.global.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * DB 기반 스케줄 작업 락 (scheduler_locks 테이블 임대 방식)
+ *
+ * <p>레플리카마다 같은 cron이 동시에 실행되어도 락을 얻은 한 곳에서만 작업을 수행합니다.
+ * 락은 lockAtMostFor 동안 유지되어 실행 중 인스턴스가 죽어도 자동으로 풀리고,
+ * 작업이 일찍 끝나도 lockAtLeastFor 동안은 유지되어 다른 레플리카가 같은 회차를 다시 실행하지 않습니다.
+ * 레플리카 간 시계 차이는 락 유지 시간보다 충분히 작다고 가정합니다.
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private static final String UPDATE_EXPIRED_SQL =
+        "UPDATE scheduler_locks SET locked_until = ?, locked_at = ?, locked_by = ? WHERE name = ? AND locked_until <= ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by) VALUES (?, ?, ?, ?)";
+    private static final String RELEASE_SQL =
+        "UPDATE scheduler_locks SET locked_until = ? WHERE name = ? AND locked_by = ? AND locked_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+
+    public SchedulerLock(JdbcTemplate jdbcTemplate,
+                         @Value("${scheduler.lock.owner:${HOSTNAME:local}}") String owner) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 같은 호스트에서 여러 인스턴스가 떠도 구분되도록 접미사 추가
+        this.owner = owner + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 락을 얻은 경우에만 작업 실행
+     *
+     * @param name 락 이름 (작업 단위)
+     * @param lockAtMostFor 락 최대 유지 시간 (인스턴스 장애 시 이 시간이 지나면 해제)
+     * @param lockAtLeastFor 작업이 일찍 끝나도 락을 유지할 최소 시간
+     * @param task 실행할 작업
+     * @return 작업 실행 여부 (다른 레플리카가 락을 갖고 있으면 false)
+     */
+    public boolean executeWithLock(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        // 컬럼 정밀도(밀리초)에 맞춰 해제 시 locked_at 비교가 정확히 일치하도록 함
+        Instant lockedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        if (!tryLock(name, lockedAt, lockAtMostFor)) {
+            log.info("스케줄 락 '{}'을(를) 다른 인스턴스가 보유 중 - 실행 건너뜀", name);
+            return false;
+        }
+        log.info("스케줄 락 '{}' 획득 - 보유자: {}", name, owner);
+        try {
+            task.run();
+            return true;
+        } finally {
+            release(name, lockedAt, lockAtLeastFor);
+        }
+    }
+
+    /**
+     * 만료된 락 갱신을 먼저 시도하고, 행이 없으면 새로 삽입
+     */
+    private boolean tryLock(String name, Instant lockedAt, Duration lockAtMostFor) {
+        Timestamp now = Timestamp.from(lockedAt);
+        Timestamp lockedUntil = Timestamp.from(lockedAt.plus(lockAtMostFor));
+
+        int updated = jdbcTemplate.update(UPDATE_EXPIRED_SQL, lockedUntil, now, owner, name, now);
+        if (updated > 0) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, name, lockedUntil, now, owner);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 아직 유효한 락이 있거나 다른 레플리카가 먼저 삽입함
+            return false;
+        }
+    }
+
+    /**
+     * 락 해제 (lockAtLeastFor가 남아 있으면 그 시점까지로 줄임, 다른 보유자의 락은 건드리지 않음)
+     */
+    private void release(String name, Instant lockedAt, Duration lockAtLeastFor) {
+        Instant minimumUntil = lockedAt.plus(lockAtLeastFor);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Instant unlockAt = minimumUntil.isAfter(now) ? minimumUntil : now;
+        try {
+            jdbcTemplate.update(RELEASE_SQL, Timestamp.from(unlockAt), name, owner, Timestamp.from(lockedAt));
+        } catch (Exception e) {
+            // 해제에 실패해도 lockAtMostFor가 지나면 자동으로 풀림
+            log.warn("스케줄 락 '{}' 해제 실패", name, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.swen.news.global.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 API 호출 한도 설정 (rate-limit.*)
+ *
+ * <p>clients의 키는 @FeignClient name과 같습니다. 설정이 없는 클라이언트는 제한하지 않습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Map<String, Limit> clients = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /** 초당 허용 호출 수 */
+        private double permitsPerSecond = 10;
+
+        /** 순간 최대 호출 수 (버킷 크기) */
+        private int burst = 10;
+
+        /** 배치 요청이 건드리지 못하는 사용자 요청 전용 토큰 수 */
+        private int batchReserve = 1;
+
+        /** 사용자 요청의 최대 대기 시간 */
+        private long interactiveTimeoutMs = 2000;
+
+        /** 배치 요청의 최대 대기 시간 */
+        private long batchTimeoutMs = 60000;
+    }
+}
@@ -0,0 +1,134 @@
+package com.swen.news.global.ratelimit;
+
+import com.swen.news.global.exception.CommonException;
+import com.swen.news.global.exception.errorcode.CommonErrorCode;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 Feign 클라이언트에 적용되는 토큰 버킷 호출 제한
+ *
+ * <p>클라이언트 이름(@FeignClient name)별로 버킷을 두고, 현재 스레드의 {@link RequestPriority}에 따라
+ * 사용자 요청을 배치보다 먼저 통과시킵니다. 대기 시간을 넘기면 호출하지 않고 429 예외를 던집니다.
+ *
+ * <p>비동기 HTTP 클라이언트도 {@link #acquireAsync}로 같은 버킷을 사용하므로 두 경로의 호출 수가 합산됩니다.
+ */
+@Slf4j
+public class RateLimitRequestInterceptor implements RequestInterceptor {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucketRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    public RateLimitRequestInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        if (!properties.isEnabled() || template.feignTarget() == null) {
+            return;
+        }
+        String clientName = template.feignTarget().name();
+        RateLimitProperties.Limit limit = properties.getClients().get(clientName);
+        if (limit == null) {
+            return;
+        }
+
+        RequestPriority priority = RequestPriorityContext.current();
+        TokenBucketRateLimiter limiter = limiters.computeIfAbsent(clientName, name -> createLimiter(name, limit));
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = limiter.tryAcquire(priority, timeoutMs(limit, priority), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        recordWait(clientName, priority, start);
+        if (!acquired) {
+            throw rejected(clientName, priority);
+        }
+    }
+
+    /**
+     * 스레드를 막지 않고 토큰 1개 획득 (비동기 HTTP 클라이언트용)
+     *
+     * <p>블로킹 호출과 같은 우선순위 대기열에 줄을 서며, 대기 시간을 넘기면 429 예외로 완료됩니다.
+     *
+     * @param clientName 클라이언트 이름 (rate-limit.clients의 키)
+     * @param priority 요청 우선순위
+     * @return 토큰을 받으면 완료되는 future (제한 설정이 없으면 즉시 완료)
+     */
+    public CompletableFuture<Void> acquireAsync(String clientName, RequestPriority priority) {
+        RateLimitProperties.Limit limit = properties.getClients().get(clientName);
+        if (!properties.isEnabled() || limit == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        TokenBucketRateLimiter limiter = limiters.computeIfAbsent(clientName, name -> createLimiter(name, limit));
+
+        long start = System.nanoTime();
+        CompletableFuture<Void> acquired = new CompletableFuture<>();
+        limiter.acquireAsync(priority, timeoutMs(limit, priority), TimeUnit.MILLISECONDS)
+            .whenComplete((granted, error) -> {
+                recordWait(clientName, priority, start);
+                if (Boolean.TRUE.equals(granted)) {
+                    acquired.complete(null);
+                } else {
+                    acquired.completeExceptionally(rejected(clientName, priority));
+                }
+            });
+        return acquired;
+    }
+
+    private long timeoutMs(RateLimitProperties.Limit limit, RequestPriority priority) {
+        return priority == RequestPriority.INTERACTIVE
+            ? limit.getInteractiveTimeoutMs()
+            : limit.getBatchTimeoutMs();
+    }
+
+    private void recordWait(String clientName, RequestPriority priority, long startNanos) {
+        Timer.builder("rate.limiter.wait")
+            .tag("client", clientName)
+            .tag("priority", priority.name().toLowerCase())
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private CommonException rejected(String clientName, RequestPriority priority) {
+        Counter.builder("rate.limiter.rejected")
+            .tag("client", clientName)
+            .tag("priority", priority.name().toLowerCase())
+            .register(meterRegistry)
+            .increment();
+        log.warn("외부 API 호출 한도 대기 시간 초과 - 클라이언트: {}, 우선순위: {}", clientName, priority);
+        return new CommonException(CommonErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    private TokenBucketRateLimiter createLimiter(String clientName, RateLimitProperties.Limit limit) {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(
+            limit.getPermitsPerSecond(), limit.getBurst(), limit.getBatchReserve());
+        Gauge.builder("rate.limiter.available.tokens", limiter, TokenBucketRateLimiter::availableTokens)
+            .tag("client", clientName)
+            .register(meterRegistry);
+        Gauge.builder("rate.limiter.waiters", limiter, TokenBucketRateLimiter::waiters)
+            .tag("client", clientName)
+            .register(meterRegistry);
+        log.info("외부 API 호출 제한 적용 - 클라이언트: {}, 초당 {}회, 버스트 {}, 사용자 전용 {}",
+            clientName, limit.getPermitsPerSecond(), limit.getBurst(), limit.getBatchReserve());
+        return limiter;
+    }
+}
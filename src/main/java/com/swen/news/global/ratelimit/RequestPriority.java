@@ -0,0 +1,17 @@
+package com.swen.news.global.ratelimit;
+
+/**
+ * 외부 API 호출 우선순위
+ */
+public enum RequestPriority {
+
+    /**
+     * 사용자 요청 경로 (/play 등) - 토큰을 먼저 받음
+     */
+    INTERACTIVE,
+
+    /**
+     * 백그라운드 배치 (임베딩 수집 등) - 대기 중인 사용자 요청이 없을 때만 토큰을 받음
+     */
+    BATCH
+}
@@ -0,0 +1,48 @@
+package com.swen.news.global.ratelimit;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 외부 API 호출 우선순위 (기본값 INTERACTIVE)
+ *
+ * <p>비동기 실행기로 넘어갈 때는 {@link RequestPriorityTaskDecorator}가 값을 전달합니다.
+ */
+public final class RequestPriorityContext {
+
+    private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+
+    private RequestPriorityContext() {
+    }
+
+    public static RequestPriority current() {
+        RequestPriority priority = CURRENT.get();
+        return priority != null ? priority : RequestPriority.INTERACTIVE;
+    }
+
+    /**
+     * 주어진 우선순위로 작업 실행 (종료 후 이전 값 복원)
+     */
+    public static <T> T callWith(RequestPriority priority, Supplier<T> task) {
+        RequestPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 주어진 우선순위로 작업 실행 (종료 후 이전 값 복원)
+     */
+    public static void runWith(RequestPriority priority, Runnable task) {
+        callWith(priority, () -> {
+            task.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.swen.news.global.ratelimit;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 비동기 작업에 우선순위를 전달하는 TaskDecorator
+ *
+ * <p>고정 우선순위를 지정하면 제출한 스레드와 관계없이 그 우선순위로 실행하고,
+ * 지정하지 않으면 제출한 스레드의 우선순위를 그대로 이어받습니다.
+ */
+public class RequestPriorityTaskDecorator implements TaskDecorator {
+
+    private final RequestPriority fixedPriority;
+
+    /**
+     * 제출 스레드의 우선순위를 이어받는 데코레이터
+     */
+    public RequestPriorityTaskDecorator() {
+        this(null);
+    }
+
+    /**
+     * 항상 주어진 우선순위로 실행하는 데코레이터
+     */
+    public RequestPriorityTaskDecorator(RequestPriority fixedPriority) {
+        this.fixedPriority = fixedPriority;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        RequestPriority priority = fixedPriority != null ? fixedPriority : RequestPriorityContext.current();
+        return () -> RequestPriorityContext.runWith(priority, runnable);
+    }
+}
@@ -0,0 +1,277 @@
+package com.swen.news.global.ratelimit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 우선순위 레인을 지원하는 토큰 버킷
+ *
+ * <p>초당 permitsPerSecond개씩 최대 burst개까지 토큰이 채워집니다.
+ * BATCH 요청은 대기 중인 INTERACTIVE 요청이 없고, 소비 후에도 batchReserve개 이상의 토큰이 남을 때만 토큰을 받으므로
+ * 배치를 한도까지 돌려도 사용자 요청이 밀리지 않습니다.
+ *
+ * <p>블로킹 요청({@link #tryAcquire})과 비동기 요청({@link #acquireAsync})은 같은 우선순위별 대기열에 줄을 서고,
+ * 토큰은 도착 순서대로 대기열 앞에서부터 넘겨줍니다. 토큰이 모자라면 필요한 만큼 찰 시점에 한 번 깨어나
+ * 대기자에게 넘겨주므로 비동기 대기자도 스레드나 폴링 없이 기다립니다.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final double batchReserve;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition tokensGranted = lock.newCondition();
+    private final Deque<Waiter> interactiveWaiters = new ArrayDeque<>();
+    private final Deque<Waiter> batchWaiters = new ArrayDeque<>();
+
+    private double tokens;
+    private long lastRefillNanos;
+    private ScheduledFuture<?> wakeup;
+    private long wakeupAtNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, int batchReserve) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond와 burst는 0보다 커야 합니다");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.batchReserve = Math.min(Math.max(batchReserve, 0), burst - 1);
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 획득 (필요하면 최대 timeout까지 대기)
+     *
+     * @param priority 요청 우선순위
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 획득 여부 (시간 초과 시 false)
+     */
+    public boolean tryAcquire(RequestPriority priority, long timeout, TimeUnit unit) throws InterruptedException {
+        Waiter waiter = new Waiter(priority, null);
+        List<Waiter> granted = new ArrayList<>();
+        long remainingNanos = unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try {
+            enqueue(waiter);
+            dispatch(granted);
+            try {
+                while (!waiter.granted) {
+                    if (remainingNanos <= 0) {
+                        remove(waiter, granted);
+                        return false;
+                    }
+                    remainingNanos = tokensGranted.awaitNanos(remainingNanos);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                if (waiter.granted) {
+                    Thread.currentThread().interrupt();
+                    return true;
+                }
+                remove(waiter, granted);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+            complete(granted);
+        }
+    }
+
+    /**
+     * 스레드를 막지 않고 토큰 1개 획득
+     *
+     * <p>반환된 future는 토큰을 넘겨받는 스레드(다른 호출자 또는 버킷 스케줄러)에서 완료되므로
+     * 후속 작업이 무거우면 별도 실행기로 넘겨야 합니다.
+     *
+     * @param priority 요청 우선순위
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 획득하면 true, 시간 초과 시 false로 완료되는 future
+     */
+    public CompletableFuture<Boolean> acquireAsync(RequestPriority priority, long timeout, TimeUnit unit) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        Waiter waiter = new Waiter(priority, result);
+        List<Waiter> granted = new ArrayList<>();
+        long timeoutNanos = unit.toNanos(timeout);
+
+        lock.lock();
+        try {
+            enqueue(waiter);
+            dispatch(granted);
+            if (!waiter.granted && timeoutNanos <= 0) {
+                remove(waiter, granted);
+            }
+        } finally {
+            lock.unlock();
+            complete(granted);
+        }
+
+        if (!result.isDone()) {
+            if (timeoutNanos <= 0) {
+                result.complete(false);
+            } else {
+                SCHEDULER.schedule(() -> expire(waiter), timeoutNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 현재 남은 토큰 수 (모니터링용)
+     */
+    public double availableTokens() {
+        lock.lock();
+        try {
+            refill();
+            return tokens;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 요청 수 (모니터링용)
+     */
+    public int waiters() {
+        lock.lock();
+        try {
+            return interactiveWaiters.size() + batchWaiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(Waiter waiter) {
+        (waiter.priority == RequestPriority.INTERACTIVE ? interactiveWaiters : batchWaiters).addLast(waiter);
+    }
+
+    /**
+     * 대기열에서 빠짐 (사용자 요청이 빠지면 배치가 토큰을 받을 수 있으므로 다시 넘겨줌)
+     */
+    private void remove(Waiter waiter, List<Waiter> granted) {
+        if (interactiveWaiters.remove(waiter) || batchWaiters.remove(waiter)) {
+            dispatch(granted);
+        }
+    }
+
+    /**
+     * 대기열 앞에서부터 토큰을 넘겨주고, 남은 대기자가 있으면 토큰이 찰 시점에 다시 깨어나도록 예약 (lock 보유 상태)
+     */
+    private void dispatch(List<Waiter> granted) {
+        refill();
+        while (true) {
+            Waiter head = !interactiveWaiters.isEmpty() ? interactiveWaiters.peekFirst() : batchWaiters.peekFirst();
+            if (head == null) {
+                return;
+            }
+            double required = head.priority == RequestPriority.INTERACTIVE ? 1.0 : 1.0 + batchReserve;
+            if (tokens < required) {
+                scheduleWakeup((long) Math.ceil((required - tokens) / permitsPerNano));
+                return;
+            }
+            (head.priority == RequestPriority.INTERACTIVE ? interactiveWaiters : batchWaiters).removeFirst();
+            tokens -= 1.0;
+            head.granted = true;
+            if (head.future != null) {
+                granted.add(head);
+            } else {
+                tokensGranted.signalAll();
+            }
+        }
+    }
+
+    private void scheduleWakeup(long delayNanos) {
+        long delay = Math.max(delayNanos, TimeUnit.MICROSECONDS.toNanos(100));
+        long at = System.nanoTime() + delay;
+        if (wakeup != null && !wakeup.isDone() && wakeupAtNanos - at <= 0) {
+            return;
+        }
+        if (wakeup != null) {
+            wakeup.cancel(false);
+        }
+        wakeupAtNanos = at;
+        wakeup = SCHEDULER.schedule(this::onWakeup, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void onWakeup() {
+        List<Waiter> granted = new ArrayList<>();
+        lock.lock();
+        try {
+            wakeup = null;
+            dispatch(granted);
+        } finally {
+            lock.unlock();
+            complete(granted);
+        }
+    }
+
+    private void expire(Waiter waiter) {
+        List<Waiter> granted = new ArrayList<>();
+        boolean expired;
+        lock.lock();
+        try {
+            expired = !waiter.granted;
+            if (expired) {
+                remove(waiter, granted);
+            }
+        } finally {
+            lock.unlock();
+            complete(granted);
+        }
+        if (expired) {
+            waiter.future.complete(false);
+        }
+    }
+
+    /**
+     * 비동기 대기자 완료는 lock 밖에서 (후속 작업이 lock을 잡고 실행되지 않도록)
+     */
+    private void complete(List<Waiter> granted) {
+        for (Waiter waiter : granted) {
+            waiter.future.complete(true);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "RateLimiter-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static final class Waiter {
+
+        private final RequestPriority priority;
+        private final CompletableFuture<Boolean> future;
+        private boolean granted;
+
+        private Waiter(RequestPriority priority, CompletableFuture<Boolean> future) {
+            this.priority = priority;
+            this.future = future;
+        }
+    }
+}
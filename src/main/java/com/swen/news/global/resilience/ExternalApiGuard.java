@@ -0,0 +1,145 @@
+package com.swen.news.global.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 클라이언트별 서킷 브레이커 + 벌크헤드
+ *
+ * <p>최근 호출의 실패율(IO 오류, 5xx, 429)이나 느린 호출 비율이 임계값을 넘으면 서킷을 열어
+ * 일정 시간 동안 호출 없이 {@link ExternalApiRejectedException}을 던집니다.
+ * 동시 호출 수가 한도에 닿아도 대기하지 않고 같은 예외로 거절하므로 장애 중에도 요청 스레드 점유가 늘지 않습니다.
+ * 상태와 호출 결과는 resilience4j.circuitbreaker.*, resilience4j.bulkhead.* 메트릭으로 남깁니다.
+ */
+@Slf4j
+@Component
+public class ExternalApiGuard {
+
+    private static final Permit NO_OP = new Permit(null, null);
+
+    private final ResilienceProperties properties;
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+
+    public ExternalApiGuard(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        circuitBreakers.getEventPublisher().onEntryAdded(added -> added.getAddedEntry().getEventPublisher()
+            .onStateTransition(event -> log.warn("외부 API 서킷 상태 변경 - 클라이언트: {}, {}",
+                event.getCircuitBreakerName(), event.getStateTransition())));
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+    }
+
+    /**
+     * 호출 허가 획득 (벌크헤드 → 서킷 브레이커 순서)
+     *
+     * <p>허가를 받았으면 호출 결과를 반드시 {@link Permit#onResponse} 또는 {@link Permit#onError}로 알려야 합니다.
+     *
+     * @param clientName 클라이언트 이름 (resilience.clients의 키)
+     * @return 호출 허가
+     * @throws ExternalApiRejectedException 서킷이 열려 있거나 동시 호출 한도 초과
+     */
+    public Permit acquire(String clientName) {
+        if (!properties.isEnabled()) {
+            return NO_OP;
+        }
+        ResilienceProperties.Policy policy = properties.policyFor(clientName);
+        Bulkhead bulkhead = bulkheads.bulkhead(clientName, () -> bulkheadConfig(policy));
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(clientName, () -> circuitBreakerConfig(clientName, policy));
+
+        if (!bulkhead.tryAcquirePermission()) {
+            log.warn("외부 API 동시 호출 한도 초과로 거절 - 클라이언트: {}", clientName);
+            throw new ExternalApiRejectedException(clientName);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.onComplete();
+            log.debug("외부 API 서킷 열림으로 거절 - 클라이언트: {}", clientName);
+            throw new ExternalApiRejectedException(clientName);
+        }
+        return new Permit(circuitBreaker, bulkhead);
+    }
+
+    private BulkheadConfig bulkheadConfig(ResilienceProperties.Policy policy) {
+        return BulkheadConfig.custom()
+            .maxConcurrentCalls(policy.getMaxConcurrentCalls())
+            .maxWaitDuration(Duration.ZERO)
+            .build();
+    }
+
+    private CircuitBreakerConfig circuitBreakerConfig(String clientName, ResilienceProperties.Policy policy) {
+        log.info("외부 API 서킷 브레이커 생성 - 클라이언트: {}, 실패율 {}%, 느린 호출 {}ms, 동시 호출 {}",
+            clientName, policy.getFailureRateThreshold(), policy.getSlowCallDurationMs(), policy.getMaxConcurrentCalls());
+        return CircuitBreakerConfig.custom()
+            .failureRateThreshold(policy.getFailureRateThreshold())
+            .slowCallRateThreshold(policy.getSlowCallRateThreshold())
+            .slowCallDurationThreshold(Duration.ofMillis(policy.getSlowCallDurationMs()))
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(policy.getSlidingWindowSize())
+            .minimumNumberOfCalls(policy.getMinimumNumberOfCalls())
+            .waitDurationInOpenState(Duration.ofMillis(policy.getWaitInOpenStateMs()))
+            .permittedNumberOfCallsInHalfOpenState(policy.getPermittedCallsInHalfOpenState())
+            .automaticTransitionFromOpenToHalfOpenEnabled(true)
+            .build();
+    }
+
+    /**
+     * 외부 API 호출 1회에 대한 허가 (결과를 한 번 알리면 벌크헤드 슬롯 반환)
+     */
+    public static final class Permit {
+
+        private final CircuitBreaker circuitBreaker;
+        private final Bulkhead bulkhead;
+        private final long startNanos = System.nanoTime();
+
+        private Permit(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+            this.circuitBreaker = circuitBreaker;
+            this.bulkhead = bulkhead;
+        }
+
+        /**
+         * 응답 수신 (5xx, 429는 실패로 집계)
+         */
+        public void onResponse(int status) {
+            if (circuitBreaker == null) {
+                return;
+            }
+            long elapsed = System.nanoTime() - startNanos;
+            try {
+                if (status >= 500 || status == 429) {
+                    circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS,
+                        new IllegalStateException("외부 API 오류 응답 - 상태 코드: " + status));
+                } else {
+                    circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                }
+            } finally {
+                bulkhead.onComplete();
+            }
+        }
+
+        /**
+         * 응답 없이 실패 (연결/타임아웃 등)
+         */
+        public void onError(Throwable error) {
+            if (circuitBreaker == null) {
+                return;
+            }
+            try {
+                circuitBreaker.onError(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS, error);
+            } finally {
+                bulkhead.onComplete();
+            }
+        }
+    }
+}
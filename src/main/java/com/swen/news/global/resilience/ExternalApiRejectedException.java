@@ -0,0 +1,22 @@
+package com.swen.news.global.resilience;
+
+import com.swen.news.global.exception.CommonException;
+import com.swen.news.global.exception.errorcode.CommonErrorCode;
+import lombok.Getter;
+
+/**
+ * 서킷 브레이커가 열려 있거나 벌크헤드가 가득 차 외부 API를 호출하지 않고 거절한 경우
+ *
+ * <p>호출 측은 이 예외를 보고 대기 없이 대체 응답으로 전환할 수 있습니다.
+ */
+@Getter
+public class ExternalApiRejectedException extends CommonException {
+
+    /** 거절한 클라이언트 이름 (@FeignClient name) */
+    private final String clientName;
+
+    public ExternalApiRejectedException(String clientName) {
+        super(CommonErrorCode.EXTERNAL_API_UNAVAILABLE);
+        this.clientName = clientName;
+    }
+}
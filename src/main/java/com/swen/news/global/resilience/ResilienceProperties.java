@@ -0,0 +1,56 @@
+package com.swen.news.global.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 API 서킷 브레이커/벌크헤드 설정 (resilience.*)
+ *
+ * <p>clients의 키는 @FeignClient name과 같습니다. 설정이 없는 클라이언트는 기본값을 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "resilience")
+public class ResilienceProperties {
+
+    private boolean enabled = true;
+
+    private Map<String, Policy> clients = new HashMap<>();
+
+    public Policy policyFor(String clientName) {
+        return clients.getOrDefault(clientName, new Policy());
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /** 실패율(%)이 이 값 이상이면 서킷 열림 */
+        private float failureRateThreshold = 50;
+
+        /** 느린 호출 비율(%)이 이 값 이상이면 서킷 열림 */
+        private float slowCallRateThreshold = 50;
+
+        /** 이 시간보다 오래 걸린 호출은 느린 호출로 집계 */
+        private long slowCallDurationMs = 5000;
+
+        /** 실패율 계산에 쓰는 최근 호출 수 */
+        private int slidingWindowSize = 20;
+
+        /** 실패율을 계산하기 위한 최소 호출 수 */
+        private int minimumNumberOfCalls = 10;
+
+        /** 서킷이 열린 뒤 시험 호출을 허용하기까지 대기 시간 */
+        private long waitInOpenStateMs = 30000;
+
+        /** 반열림 상태에서 허용하는 시험 호출 수 */
+        private int permittedCallsInHalfOpenState = 3;
+
+        /** 동시 호출 수 (초과 시 대기 없이 거절) */
+        private int maxConcurrentCalls = 10;
+    }
+}
@@ -8,12 +8,25 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -32,44 +45,105 @@ public class ObjectStorageService {
     
     @Value("${ncp.object-storage.endpoint}")
     private String endpoint;
+
+    @Value("${ncp.object-storage.multipart-part-size-mb:5}")
+    private int partSizeMb;
     
     /**
-     * 음성 파일을 Object Storage에 업로드하고 공개 URL을 반환합니다.
+     * 음성 스트림을 Object Storage에 업로드하고 공개 URL을 반환합니다.
+     * 스트림을 파트 크기 버퍼 하나로 읽어 가며 멀티파트로 올리므로 음성 길이와 관계없이
+     * 요청당 힙 사용량은 파트 크기 이하로 고정되고, 첫 파트가 차는 즉시 업로드가 시작됩니다.
+     * 전체 크기가 파트 하나에 들어가면 단일 PutObject로 올립니다.
      *
-     * @param audioData 음성 파일 바이너리 데이터
+     * @param audioStream 음성 파일 스트림 (닫기는 호출 측 책임)
+     * @param expectedLength 응답 헤더의 Content-Length (모르면 null), 작은 파일의 버퍼 크기를 줄이는 데 사용
      * @return 업로드된 파일의 공개 URL
      */
-    public String uploadAudioFile(byte[] audioData) {
+    public String uploadAudioStream(InputStream audioStream, Long expectedLength) {
+        String fileName = generateUniqueFileName();
+        String objectKey = "audio/" + fileName;
+        int partSize = partSizeMb * 1024 * 1024;
+        String uploadId = null;
+
         try {
-            // 고유 파일명 생성 (타임스탬프 + UUID)
-            String fileName = generateUniqueFileName();
-            String objectKey = "audio/" + fileName;
-            
-            log.info("Object Storage 음성 파일 업로드 시작 - 파일명: {}, 크기: {} bytes", fileName, audioData.length);
-            
-            // 파일 업로드
-            PutObjectRequest putRequest = PutObjectRequest.builder()
+            log.info("Object Storage 음성 파일 스트리밍 업로드 시작 - 파일명: {}, 예상 크기: {} bytes",
+                fileName, expectedLength);
+
+            // 길이를 알면 그만큼만 할당 (+1 바이트로 스트림 끝 여부 확인)
+            int initialSize = expectedLength != null && expectedLength >= 0 && expectedLength < partSize
+                ? expectedLength.intValue() + 1
+                : partSize;
+            byte[] partBuffer = new byte[initialSize];
+            int length = readFully(audioStream, partBuffer, 0);
+            if (length == partBuffer.length && partBuffer.length < partSize) {
+                // Content-Length보다 긴 스트림 - 파트 크기로 늘려서 계속 읽음
+                partBuffer = Arrays.copyOf(partBuffer, partSize);
+                length = readFully(audioStream, partBuffer, length);
+            }
+
+            if (length < partSize) {
+                // 파트 하나에 모두 들어가는 경우 단일 업로드
+                PutObjectRequest putRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .contentType("audio/mpeg")
+                    .contentLength((long) length)
+                    .acl(ObjectCannedACL.PUBLIC_READ)
+                    .build();
+
+                s3Client.putObject(putRequest, partBody(partBuffer, length));
+                log.info("Object Storage 음성 파일 업로드 완료 - 크기: {} bytes", length);
+                return toPublicUrl(objectKey);
+            }
+
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .contentType("audio/mpeg")
+                    .acl(ObjectCannedACL.PUBLIC_READ)
+                    .build())
+                .uploadId();
+
+            List<CompletedPart> completedParts = new ArrayList<>();
+            long totalBytes = 0;
+            int partNumber = 1;
+            while (length > 0) {
+                UploadPartResponse partResponse = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(objectKey)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .build(),
+                    partBody(partBuffer, length));
+
+                completedParts.add(CompletedPart.builder()
+                    .partNumber(partNumber)
+                    .eTag(partResponse.eTag())
+                    .build());
+                totalBytes += length;
+                partNumber++;
+                length = readFully(audioStream, partBuffer, 0);
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
                 .bucket(bucketName)
                 .key(objectKey)
-                .contentType("audio/mpeg")
-                .contentLength((long) audioData.length)
-                    .acl(ObjectCannedACL.PUBLIC_READ)
-                .build();
-            
-            s3Client.putObject(putRequest, RequestBody.fromBytes(audioData));
-            
-            // 공개 URL 생성 (NCP Object Storage 표준 URL 형식)
-            String publicUrl = String.format("%s/%s/%s", endpoint, bucketName, objectKey);
-            
-            log.info("Object Storage 음성 파일 업로드 완료 - URL: {}", publicUrl);
-            return publicUrl;
-            
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                .build());
+
+            log.info("Object Storage 음성 파일 멀티파트 업로드 완료 - 크기: {} bytes, 파트: {}개",
+                totalBytes, completedParts.size());
+            return toPublicUrl(objectKey);
+
         } catch (Exception e) {
-            log.error("Object Storage 음성 파일 업로드 실패", e);
+            log.error("Object Storage 음성 파일 업로드 실패 - 파일명: {}", fileName, e);
+            abortMultipartUpload(objectKey, uploadId);
             throw new NewsException(NewsErrorCode.FILE_UPLOAD_FAILED);
         }
     }
-    
+
     /**
      * 음성 파일을 Object Storage에서 삭제합니다.
      *
@@ -98,6 +172,55 @@ public class ObjectStorageService {
         }
     }
     
+    /**
+     * 실패한 멀티파트 업로드를 중단하여 업로드된 파트가 남지 않게 합니다.
+     */
+    private void abortMultipartUpload(String objectKey, String uploadId) {
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .uploadId(uploadId)
+                .build());
+        } catch (Exception e) {
+            log.warn("멀티파트 업로드 중단 실패 - key: {}, uploadId: {}", objectKey, uploadId, e);
+        }
+    }
+
+    /**
+     * 버퍼가 가득 차거나 스트림이 끝날 때까지 offset 위치부터 읽습니다.
+     *
+     * @return 버퍼에 채워진 바이트 수 (offset 포함, 스트림 끝이면 offset 그대로)
+     */
+    private int readFully(InputStream in, byte[] buffer, int offset) throws IOException {
+        int total = offset;
+        while (total < buffer.length) {
+            int read = in.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * 버퍼를 복사하지 않는 요청 본문 (재시도 시 ByteArrayInputStream reset으로 다시 읽음)
+     */
+    private RequestBody partBody(byte[] buffer, int length) {
+        return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length);
+    }
+
+    /**
+     * 공개 URL 생성 (NCP Object Storage 표준 URL 형식)
+     */
+    private String toPublicUrl(String objectKey) {
+        return String.format("%s/%s/%s", endpoint, bucketName, objectKey);
+    }
+
     /**
      * 고유한 파일명을 생성합니다.
      *
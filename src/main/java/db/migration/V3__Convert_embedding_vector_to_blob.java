@@ -0,0 +1,60 @@
+package db.migration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swen.news.domain.news.vector.VectorCodec;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * news_embeddings.embedding_vector의 JSON 배열을 little-endian float32 BLOB으로 변환합니다.
+ *
+ * <p>id 순으로 페이지 단위 변환 후 기존 LONGTEXT 컬럼을 제거하고
+ * BLOB 컬럼을 embedding_vector 이름으로 교체합니다.
+ */
+public class V3__Convert_embedding_vector_to_blob extends BaseJavaMigration {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (PreparedStatement select = connection.prepareStatement(
+                 "SELECT id, embedding_vector FROM news_embeddings WHERE id > ? ORDER BY id LIMIT " + PAGE_SIZE);
+             PreparedStatement update = connection.prepareStatement(
+                 "UPDATE news_embeddings SET embedding_blob = ? WHERE id = ?")) {
+
+            long lastId = 0L;
+            while (true) {
+                select.setLong(1, lastId);
+                int rows = 0;
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastId = resultSet.getLong("id");
+                        float[] vector = objectMapper.readValue(resultSet.getString("embedding_vector"), float[].class);
+                        update.setBytes(1, VectorCodec.encode(vector));
+                        update.setLong(2, lastId);
+                        update.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows == 0) {
+                    break;
+                }
+                update.executeBatch();
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE news_embeddings DROP COLUMN embedding_vector");
+            statement.execute("ALTER TABLE news_embeddings CHANGE embedding_blob embedding_vector BLOB NOT NULL");
+        }
+    }
+}
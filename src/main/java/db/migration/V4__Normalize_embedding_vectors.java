@@ -0,0 +1,50 @@
+package db.migration;
+
+import com.swen.news.domain.news.vector.VectorCodec;
+import com.swen.news.domain.news.vector.VectorMath;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * 기존 임베딩 벡터를 단위 벡터로 정규화합니다.
+ * 이후 코사인 유사도는 내적만으로 계산됩니다.
+ */
+public class V4__Normalize_embedding_vectors extends BaseJavaMigration {
+
+    private static final int PAGE_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (PreparedStatement select = connection.prepareStatement(
+                 "SELECT id, embedding_vector FROM news_embeddings WHERE id > ? ORDER BY id LIMIT " + PAGE_SIZE);
+             PreparedStatement update = connection.prepareStatement(
+                 "UPDATE news_embeddings SET embedding_vector = ? WHERE id = ?")) {
+
+            long lastId = 0L;
+            while (true) {
+                select.setLong(1, lastId);
+                int rows = 0;
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastId = resultSet.getLong("id");
+                        float[] vector = VectorCodec.decode(resultSet.getBytes("embedding_vector"));
+                        update.setBytes(1, VectorCodec.encode(VectorMath.normalize(vector)));
+                        update.setLong(2, lastId);
+                        update.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows == 0) {
+                    break;
+                }
+                update.executeBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,2 @@
+-- 벡터 인덱스 동기화 (updated_at 이후 저장/갱신된 임베딩 조회)
+CREATE INDEX idx_updated_at ON news_embeddings (updated_at);
@@ -0,0 +1,3 @@
+-- 임베딩 벡터 바이너리(little-endian float32) 저장 컬럼 추가
+-- 기존 JSON 데이터 변환은 V3 Java 마이그레이션에서 수행
+ALTER TABLE news_embeddings ADD COLUMN embedding_blob BLOB NULL AFTER embedding_vector;
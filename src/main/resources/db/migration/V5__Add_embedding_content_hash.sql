@@ -0,0 +1,3 @@
+-- 임베딩 캐시 2차 계층용 텍스트 내용 해시 (SHA-256)
+ALTER TABLE news_embeddings ADD COLUMN content_hash VARCHAR(64) NULL;
+CREATE INDEX idx_content_hash ON news_embeddings (content_hash);
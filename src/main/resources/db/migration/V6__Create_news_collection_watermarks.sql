@@ -0,0 +1,8 @@
+-- 키워드별 뉴스 수집 워터마크 (마지막으로 수집한 기사의 발행 시각/링크)
+CREATE TABLE news_collection_watermarks (
+    keyword VARCHAR(100) NOT NULL PRIMARY KEY,
+    last_pub_date DATETIME NOT NULL,
+    last_link VARCHAR(500) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
@@ -0,0 +1,7 @@
+-- 스케줄 작업 분산 락 (여러 레플리카 중 하나만 배치를 실행하도록 임대 시간 기록)
+CREATE TABLE scheduler_locks (
+    name VARCHAR(64) NOT NULL PRIMARY KEY,
+    locked_until TIMESTAMP(3) NOT NULL,
+    locked_at TIMESTAMP(3) NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
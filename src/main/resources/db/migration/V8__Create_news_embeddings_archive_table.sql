@@ -0,0 +1,13 @@
+-- 보존 기간이 지난 뉴스 임베딩 보관 테이블 (int8 양자화 벡터만 유지, 추천 조회 대상 아님)
+CREATE TABLE news_embeddings_archive (
+    id BIGINT NOT NULL PRIMARY KEY,
+    news_url VARCHAR(500) NOT NULL UNIQUE,
+    title VARCHAR(1000) NOT NULL,
+    publisher VARCHAR(100) NOT NULL,
+    embedding_vector_int8 BLOB NOT NULL,
+    vector_dimension INT NOT NULL,
+    content_hash VARCHAR(64) NULL,
+    created_at TIMESTAMP NULL,
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_archive_created_at (created_at)
+);
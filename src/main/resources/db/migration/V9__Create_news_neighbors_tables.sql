@@ -0,0 +1,18 @@
+-- 뉴스별 미리 계산한 유사 뉴스 목록 (기사 삭제/보관 시 함께 삭제)
+CREATE TABLE news_neighbor_lists (
+    news_id BIGINT NOT NULL PRIMARY KEY,
+    computed_at TIMESTAMP NOT NULL,
+    INDEX idx_neighbor_lists_computed_at (computed_at),
+    CONSTRAINT fk_neighbor_lists_news FOREIGN KEY (news_id) REFERENCES news_embeddings (id) ON DELETE CASCADE
+);
+
+CREATE TABLE news_neighbors (
+    news_id BIGINT NOT NULL,
+    rank_no INT NOT NULL,
+    neighbor_id BIGINT NOT NULL,
+    similarity FLOAT NOT NULL,
+    PRIMARY KEY (news_id, rank_no),
+    INDEX idx_neighbors_neighbor_id (neighbor_id),
+    CONSTRAINT fk_neighbors_list FOREIGN KEY (news_id) REFERENCES news_neighbor_lists (news_id) ON DELETE CASCADE,
+    CONSTRAINT fk_neighbors_neighbor FOREIGN KEY (neighbor_id) REFERENCES news_embeddings (id) ON DELETE CASCADE
+);
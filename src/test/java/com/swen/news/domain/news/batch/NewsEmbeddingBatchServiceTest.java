@@ -0,0 +1,184 @@
+package com.swen.news.domain.news.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swen.news.domain.news.batch.NewsEmbeddingPipeline.PipelineResult;
+import com.swen.news.domain.news.dto.NewsItem;
+import com.swen.news.domain.news.dto.NewsSearchRequest;
+import com.swen.news.domain.news.entity.NewsCollectionWatermark;
+import com.swen.news.domain.news.repository.NewsCollectionWatermarkRepository;
+import com.swen.news.domain.news.service.NewsService;
+import com.swen.news.global.lock.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 키워드별 수집 워터마크 이동 검증 (실패 기사, 페이지 한도, 발행 시각 없는 기사)
+ */
+class NewsEmbeddingBatchServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 19, 9, 0);
+    private static final String KEYWORD = "경제";
+
+    private final Map<String, List<Article>> articles = new HashMap<>();
+    private final List<NewsCollectionWatermark> storedWatermarks = new ArrayList<>();
+    private final Set<String> failedLinks = new HashSet<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<NewsCollectionWatermark> savedWatermarks = List.of();
+
+    private NewsEmbeddingBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        NewsService newsService = mock(NewsService.class);
+        when(newsService.searchNews(any())).thenAnswer(invocation -> page(invocation.getArgument(0)));
+
+        // 파이프라인은 키워드마다 수집만 실행하고, failedLinks에 든 기사는 저장에 실패한 것으로 응답
+        NewsEmbeddingPipeline pipeline = mock(NewsEmbeddingPipeline.class);
+        when(pipeline.run(anyList(), any())).thenAnswer(invocation -> {
+            Function<String, List<NewsItem>> fetcher = invocation.getArgument(1);
+            int fetched = invocation.<List<String>>getArgument(0).stream()
+                .mapToInt(keyword -> fetcher.apply(keyword).size())
+                .sum();
+            return new PipelineResult(fetched, fetched, fetched, fetched - failedLinks.size(), Set.copyOf(failedLinks));
+        });
+
+        NewsCollectionWatermarkRepository watermarkRepository = mock(NewsCollectionWatermarkRepository.class);
+        when(watermarkRepository.findAllById(anyList())).thenAnswer(invocation -> List.copyOf(storedWatermarks));
+        when(watermarkRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            savedWatermarks = List.copyOf(invocation.<List<NewsCollectionWatermark>>getArgument(0));
+            return savedWatermarks;
+        });
+
+        SchedulerLock schedulerLock = mock(SchedulerLock.class);
+        when(schedulerLock.executeWithLock(any(), any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        });
+
+        // 페이지당 2건, 최대 3페이지
+        batchService = new NewsEmbeddingBatchService(newsService, pipeline, watermarkRepository, schedulerLock,
+            objectMapper, 2, 3, 60, 5);
+    }
+
+    @Test
+    void firstRunMovesWatermarkToNewestArticle() {
+        articles.put(KEYWORD, dated(5));
+
+        batchService.collectAndEmbedLatestNews();
+
+        assertThat(savedWatermarks).hasSize(1);
+        assertThat(savedWatermarks.get(0).getKeyword()).isEqualTo(KEYWORD);
+        assertThat(savedWatermarks.get(0).getLastLink()).isEqualTo("article-5");
+        assertThat(savedWatermarks.get(0).getLastPubDate()).isEqualTo(BASE.plusMinutes(5));
+    }
+
+    @Test
+    void stopsBeforeOldestFailedArticle() {
+        articles.put(KEYWORD, dated(5));
+        NewsCollectionWatermark watermark = new NewsCollectionWatermark(KEYWORD, BASE.plusMinutes(1), "article-1");
+        storedWatermarks.add(watermark);
+        failedLinks.add("article-4");
+
+        batchService.collectAndEmbedLatestNews();
+
+        assertThat(savedWatermarks).containsExactly(watermark);
+        assertThat(watermark.getLastLink()).isEqualTo("article-3");
+        assertThat(watermark.getLastPubDate()).isEqualTo(BASE.plusMinutes(3));
+    }
+
+    @Test
+    void keepsWatermarkWhenPageBudgetRunsOut() {
+        // 3페이지(6건)로는 워터마크(article-1)까지 닿지 못함
+        articles.put(KEYWORD, dated(9));
+        NewsCollectionWatermark watermark = new NewsCollectionWatermark(KEYWORD, BASE.plusMinutes(1), "article-1");
+        storedWatermarks.add(watermark);
+
+        batchService.collectAndEmbedLatestNews();
+
+        assertThat(savedWatermarks).isEmpty();
+        assertThat(watermark.getLastLink()).isEqualTo("article-1");
+    }
+
+    @Test
+    void ignoresArticlesWithoutPublishTime() {
+        List<Article> page = new ArrayList<>();
+        page.add(new Article("undated", "발행 시각 없음"));
+        page.addAll(dated(1));
+        articles.put(KEYWORD, page);
+
+        batchService.collectAndEmbedLatestNews();
+
+        assertThat(savedWatermarks).hasSize(1);
+        assertThat(savedWatermarks.get(0).getLastLink()).isEqualTo("article-1");
+    }
+
+    @Test
+    void watermarkTargetSkipsEverythingNewerThanAFailure() {
+        List<NewsItem> items = List.of(item("n4", 4), item("n3", 3), item("n2", 2), item("n1", 1));
+
+        assertThat(NewsEmbeddingBatchService.watermarkTarget(items, Set.of(), Set.of()).map(NewsItem::getLink))
+            .contains("n4");
+        assertThat(NewsEmbeddingBatchService.watermarkTarget(items, Set.of("n4", "n2"), Set.of()).map(NewsItem::getLink))
+            .contains("n1");
+        assertThat(NewsEmbeddingBatchService.watermarkTarget(items, Set.of("n1"), Set.of())).isEmpty();
+        assertThat(NewsEmbeddingBatchService.watermarkTarget(items, Set.of(), Set.of("n4")).map(NewsItem::getLink))
+            .contains("n3");
+        assertThat(NewsEmbeddingBatchService.watermarkTarget(List.of(), Set.of(), Set.of())).isEmpty();
+    }
+
+    /**
+     * article-count ~ article-1 (최신순, 1분 간격)
+     */
+    private static List<Article> dated(int count) {
+        DateTimeFormatter formatter = DateTimeFormatter.RFC_1123_DATE_TIME;
+        return IntStream.iterate(count, i -> i >= 1, i -> i - 1)
+            .mapToObj(i -> new Article("article-" + i,
+                formatter.format(BASE.plusMinutes(i).atZone(ZoneId.of("Asia/Seoul")))))
+            .toList();
+    }
+
+    private static NewsItem item(String link, int minutes) {
+        return NewsItem.builder()
+            .link(link)
+            .pubDate(BASE.plusMinutes(minutes))
+            .build();
+    }
+
+    /**
+     * 네이버 뉴스 검색 API 응답 흉내 (키워드별 기사 목록을 start/display로 잘라 반환)
+     */
+    private String page(NewsSearchRequest request) throws Exception {
+        List<Article> all = articles.getOrDefault(request.getQuery(), List.of());
+        int from = Math.min(request.getStart() - 1, all.size());
+        int to = Math.min(from + request.getDisplay(), all.size());
+        List<Map<String, String>> items = all.subList(from, to).stream()
+            .map(article -> Map.of(
+                "title", article.link(),
+                "link", article.link(),
+                "description", "",
+                "pubDate", article.pubDate()))
+            .toList();
+        return objectMapper.writeValueAsString(Map.of("items", items));
+    }
+
+    private record Article(String link, String pubDate) {
+    }
+}
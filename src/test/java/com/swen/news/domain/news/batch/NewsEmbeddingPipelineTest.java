@@ -0,0 +1,174 @@
+package com.swen.news.domain.news.batch;
+
+import com.swen.news.domain.news.batch.NewsEmbeddingPipeline.PipelineResult;
+import com.swen.news.domain.news.dto.NewsItem;
+import com.swen.news.domain.news.dto.embedding.EmbeddingResponse;
+import com.swen.news.domain.news.service.EmbeddingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 단계형 배치 파이프라인의 종료 처리와 항목별 실패 집계 검증
+ */
+@Timeout(10)
+class NewsEmbeddingPipelineTest {
+
+    private EmbeddingService embeddingService;
+    private NewsEmbeddingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        embeddingService = mock(EmbeddingService.class);
+        when(embeddingService.filterUnsavedNews(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(embeddingService.preprocessNewsText(any())).thenAnswer(invocation -> invocation.<NewsItem>getArgument(0).getTitle());
+        when(embeddingService.generateEmbeddings(anyList())).thenAnswer(invocation -> embed(invocation.getArgument(0)));
+        when(embeddingService.persistNewsEmbeddings(anyList(), anyList()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // 큐와 저장 묶음을 작게 잡아 단계 간 대기와 여러 번의 저장을 함께 거치게 함
+        pipeline = new NewsEmbeddingPipeline(embeddingService, new SimpleMeterRegistry(), 2, 1, 3);
+    }
+
+    @Test
+    void processesEveryKeywordAndCompletes() {
+        Map<String, List<NewsItem>> news = Map.of(
+            "경제", items("a", 5),
+            "정치", items("b", 4),
+            "사회", List.of(),
+            "국제", List.of(item("a-0"), item("c-0")));
+
+        PipelineResult result = pipeline.run(List.copyOf(news.keySet()), news::get);
+
+        assertThat(result.fetched()).isEqualTo(11);
+        assertThat(result.unsaved()).isEqualTo(10);
+        assertThat(result.embedded()).isEqualTo(10);
+        assertThat(result.saved()).isEqualTo(10);
+        assertThat(result.failed()).isEqualTo(0);
+    }
+
+    @Test
+    void skipsAlreadyStoredNews() {
+        when(embeddingService.filterUnsavedNews(anyList())).thenAnswer(invocation -> invocation.<List<NewsItem>>getArgument(0)
+            .stream()
+            .filter(item -> !item.getLink().endsWith("-0"))
+            .toList());
+
+        PipelineResult result = pipeline.run(List.of("경제"), keyword -> items("a", 4));
+
+        assertThat(result.fetched()).isEqualTo(4);
+        assertThat(result.unsaved()).isEqualTo(3);
+        assertThat(result.saved()).isEqualTo(3);
+    }
+
+    @Test
+    void reportsItemsWithoutEmbeddingAsFailed() {
+        PipelineResult result = pipeline.run(List.of("경제"),
+            keyword -> List.of(item("a-0"), item("fail-1"), item("a-2")));
+
+        assertThat(result.embedded()).isEqualTo(2);
+        assertThat(result.saved()).isEqualTo(2);
+        assertThat(result.failedLinks()).containsExactly("fail-1");
+    }
+
+    @Test
+    void reportsItemsOfFailedPersistAsFailed() {
+        when(embeddingService.persistNewsEmbeddings(anyList(), anyList()))
+            .thenThrow(new IllegalStateException("DB 연결 실패"));
+
+        PipelineResult result = pipeline.run(List.of("경제"), keyword -> items("a", 4));
+
+        assertThat(result.embedded()).isEqualTo(4);
+        assertThat(result.saved()).isEqualTo(0);
+        assertThat(result.failedLinks()).containsExactlyInAnyOrder("a-0", "a-1", "a-2", "a-3");
+    }
+
+    @Test
+    void reportsItemsOfFailedDedupeAsFailed() {
+        when(embeddingService.filterUnsavedNews(anyList())).thenThrow(new IllegalStateException("DB 연결 실패"));
+
+        PipelineResult result = pipeline.run(List.of("경제"), keyword -> items("a", 2));
+
+        assertThat(result.unsaved()).isEqualTo(0);
+        assertThat(result.failedLinks()).containsExactlyInAnyOrder("a-0", "a-1");
+    }
+
+    @Test
+    void stageFailureStopsPipelineInsteadOfHanging() {
+        AtomicBoolean embeddingDown = new AtomicBoolean(true);
+        when(embeddingService.generateEmbeddings(anyList())).thenAnswer(invocation -> {
+            if (embeddingDown.get()) {
+                throw new IllegalStateException("임베딩 API 장애");
+            }
+            return embed(invocation.getArgument(0));
+        });
+        List<String> keywords = List.of("경제", "정치", "사회", "국제", "문화");
+
+        assertThatThrownBy(() -> pipeline.run(keywords, keyword -> items(keyword, 10)))
+            .isInstanceOf(CompletionException.class);
+
+        // 실패 후 실행 상태가 풀려 다음 실행이 정상 동작
+        embeddingDown.set(false);
+        PipelineResult result = pipeline.run(keywords, keyword -> items(keyword, 10));
+        assertThat(result.saved()).isEqualTo(50);
+    }
+
+    @Test
+    void fetchFailureStopsPipelineInsteadOfHanging() {
+        assertThatThrownBy(() -> pipeline.run(List.of("경제", "정치"), keyword -> {
+            if (keyword.equals("정치")) {
+                throw new IllegalStateException("뉴스 API 장애");
+            }
+            return items(keyword, 3);
+        })).isInstanceOf(CompletionException.class);
+    }
+
+    @Test
+    void emptyKeywordsProduceEmptyResult() {
+        PipelineResult result = pipeline.run(List.of(), keyword -> List.of());
+
+        assertThat(result.fetched()).isEqualTo(0);
+        assertThat(result.saved()).isEqualTo(0);
+        assertThat(result.failedLinks()).isEmpty();
+    }
+
+    private static List<NewsItem> items(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> item(prefix + "-" + i)).toList();
+    }
+
+    private static NewsItem item(String link) {
+        return NewsItem.builder()
+            .title(link)
+            .link(link)
+            .pubDate(LocalDateTime.of(2024, 1, 1, 9, 0))
+            .build();
+    }
+
+    /**
+     * "fail"로 시작하는 텍스트는 임베딩 실패(null)로 응답
+     */
+    private static List<EmbeddingResponse> embed(List<String> texts) {
+        return texts.stream()
+            .map(text -> text.startsWith("fail") ? null : EmbeddingResponse.builder()
+                .embedding(new float[]{1f, 0f})
+                .text(text)
+                .dimension(2)
+                .build())
+            .toList();
+    }
+}
@@ -0,0 +1,157 @@
+package com.swen.news.domain.news.batch;
+
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector;
+import com.swen.news.domain.news.event.NewsEmbeddingSavedEvent;
+import com.swen.news.domain.news.repository.NewsEmbeddingRepository;
+import com.swen.news.domain.news.repository.NewsNeighborRepository;
+import com.swen.news.domain.news.vector.NewsVectorIndex;
+import com.swen.news.domain.news.vector.VectorCodec;
+import com.swen.news.domain.news.vector.VectorSearchResult;
+import com.swen.news.global.lock.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 유사 뉴스 사전 계산 대상 선정과 인덱스에 없는 뉴스 보류 검증
+ */
+class NewsNeighborBatchServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    private final List<NewsEmbeddingVector> rows = new ArrayList<>();
+    private final List<Long> withoutNeighbors = new ArrayList<>();
+    private final List<Map<Long, List<VectorSearchResult>>> saved = new ArrayList<>();
+    private RuntimeException saveFailure;
+
+    private NewsVectorIndex vectorIndex;
+    private NewsNeighborBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        NewsEmbeddingRepository embeddingRepository = mock(NewsEmbeddingRepository.class);
+        when(embeddingRepository.findAllVectors()).thenAnswer(invocation -> List.copyOf(rows));
+        when(embeddingRepository.findVectorsUpdatedSince(any())).thenAnswer(invocation -> List.copyOf(rows));
+
+        vectorIndex = new NewsVectorIndex(embeddingRepository);
+        ReflectionTestUtils.setField(vectorIndex, "enabled", true);
+        ReflectionTestUtils.setField(vectorIndex, "m", 16);
+        ReflectionTestUtils.setField(vectorIndex, "efConstruction", 64);
+        ReflectionTestUtils.setField(vectorIndex, "efSearch", 64);
+        ReflectionTestUtils.setField(vectorIndex, "maxEfSearch", 512);
+        ReflectionTestUtils.setField(vectorIndex, "rebuildDeletedRatio", 0.3);
+        ReflectionTestUtils.setField(vectorIndex, "syncLookbackSeconds", 300L);
+
+        NewsNeighborRepository neighborRepository = mock(NewsNeighborRepository.class);
+        when(neighborRepository.findIdsWithoutNeighbors(anyInt())).thenAnswer(invocation -> List.copyOf(withoutNeighbors));
+        when(neighborRepository.findStaleIds(any(), anyInt())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            if (saveFailure != null) {
+                throw saveFailure;
+            }
+            saved.add(new LinkedHashMap<>(invocation.<Map<Long, List<VectorSearchResult>>>getArgument(0)));
+            return null;
+        }).when(neighborRepository).replaceNeighbors(any(), any());
+
+        SchedulerLock schedulerLock = mock(SchedulerLock.class);
+        when(schedulerLock.executeWithLock(any(), any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        });
+
+        batchService = new NewsNeighborBatchService(vectorIndex, neighborRepository, schedulerLock);
+        ReflectionTestUtils.setField(batchService, "neighborSize", 2);
+        ReflectionTestUtils.setField(batchService, "batchSize", 200);
+        ReflectionTestUtils.setField(batchService, "staleHours", 24L);
+
+        rows.add(row(1, new float[]{1f, 0f, 0f}));
+        rows.add(row(2, new float[]{0.9f, 0.1f, 0f}));
+        rows.add(row(3, new float[]{0f, 1f, 0f}));
+        vectorIndex.loadOnStartup();
+    }
+
+    @Test
+    void skipsRefreshBeforeIndexIsReady() {
+        NewsVectorIndex notLoaded = new NewsVectorIndex(mock(NewsEmbeddingRepository.class));
+        SchedulerLock schedulerLock = mock(SchedulerLock.class);
+        when(schedulerLock.executeWithLock(any(), any(), any(), any())).thenThrow(new AssertionError("락을 잡으면 안 됨"));
+
+        new NewsNeighborBatchService(notLoaded, mock(NewsNeighborRepository.class), schedulerLock).refresh();
+    }
+
+    @Test
+    void newArticleAlsoRefreshesItsNeighbors() {
+        saveLocally(row(4, new float[]{1f, 0.05f, 0f}));
+
+        batchService.refresh();
+
+        assertThat(saved).hasSize(1);
+        Map<Long, List<VectorSearchResult>> lists = saved.get(0);
+        assertThat(lists.get(4L).stream().map(VectorSearchResult::getId).toList()).containsExactly(1L, 2L);
+        // 새 뉴스의 이웃(1, 2) 목록도 다시 계산되어 새 뉴스를 포함
+        assertThat(lists.keySet()).containsExactly(4L, 1L, 2L);
+        assertThat(lists.get(1L).get(0).getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void articleMissingFromLocalIndexIsDeferredNotSavedEmpty() {
+        // 다른 인스턴스가 저장해 DB에는 있으나 이 인스턴스의 인덱스에는 아직 없음
+        rows.add(row(4, new float[]{1f, 0.05f, 0f}));
+        withoutNeighbors.addAll(List.of(4L, 3L));
+
+        batchService.refresh();
+
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).keySet()).containsExactly(3L);
+
+        // 동기화로 인덱스에 반영된 뒤 새 뉴스로 계산되어 이웃 목록에도 들어감
+        vectorIndex.syncFromDatabase();
+        withoutNeighbors.clear();
+        batchService.refresh();
+
+        assertThat(saved).hasSize(2);
+        assertThat(saved.get(1).keySet()).contains(4L, 1L);
+        assertThat(saved.get(1).get(4L)).isNotEmpty();
+        assertThat(saved.get(1).get(1L).get(0).getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void requeuesNewArticlesWhenSaveFails() {
+        saveLocally(row(4, new float[]{1f, 0.05f, 0f}));
+        saveFailure = new IllegalStateException("FK 위반");
+
+        batchService.refresh();
+        assertThat(saved).isEmpty();
+
+        saveFailure = null;
+        batchService.refresh();
+
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0)).containsKey(4L);
+    }
+
+    private void saveLocally(NewsEmbeddingVector embedding) {
+        rows.add(embedding);
+        NewsEmbeddingSavedEvent event = new NewsEmbeddingSavedEvent(embedding.getId(), embedding.getNewsUrl(),
+            embedding.getCreatedAt(), VectorCodec.decode(embedding.getEmbeddingVector()));
+        vectorIndex.onEmbeddingSaved(event);
+        batchService.onEmbeddingSaved(event);
+    }
+
+    private static NewsEmbeddingVector row(long id, float[] vector) {
+        return new NewsEmbeddingVector(id, "news-" + id, BASE, VectorCodec.encode(vector), BASE.plusMinutes(id));
+    }
+}
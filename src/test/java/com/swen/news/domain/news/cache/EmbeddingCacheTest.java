@@ -0,0 +1,152 @@
+package com.swen.news.domain.news.cache;
+
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector;
+import com.swen.news.domain.news.entity.NewsEmbedding;
+import com.swen.news.domain.news.repository.NewsEmbeddingRepository;
+import com.swen.news.domain.news.vector.NewsVectorIndex;
+import com.swen.news.domain.news.vector.VectorCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 임베딩 조회 계층 순서(메모리 → URL로 인덱스/DB → 내용 해시 DB)와 하위 계층 적중 시 메모리 적재 검증
+ */
+class EmbeddingCacheTest {
+
+    private static final String TEXT = "금리 동결 금리 동결 한국은행이 기준금리를 동결했다.";
+    private static final String URL = "https://n.news.naver.com/article/001/0001";
+
+    private final List<String> lookups = new CopyOnWriteArrayList<>();
+    private final Map<String, float[]> indexed = new HashMap<>();
+    private final Map<String, float[]> storedByUrl = new HashMap<>();
+    private final Map<String, float[]> storedByHash = new HashMap<>();
+    private volatile boolean databaseDown;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NewsEmbeddingRepository repository;
+    private NewsVectorIndex vectorIndex;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        vectorIndex = mock(NewsVectorIndex.class);
+        when(vectorIndex.findVectorByUrl(anyString())).thenAnswer(invocation -> {
+            lookups.add("index");
+            return indexed.get(invocation.<String>getArgument(0));
+        });
+
+        repository = mock(NewsEmbeddingRepository.class);
+        when(repository.findVectorByNewsUrl(anyString())).thenAnswer(invocation -> {
+            lookups.add("db-url");
+            if (databaseDown) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            return Optional.ofNullable(storedByUrl.get(invocation.<String>getArgument(0)))
+                .map(vector -> new NewsEmbeddingVector(1L, URL, LocalDateTime.now(), VectorCodec.encode(vector)));
+        });
+        when(repository.findFirstByContentHash(anyString())).thenAnswer(invocation -> {
+            lookups.add("db-hash");
+            if (databaseDown) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            return Optional.ofNullable(storedByHash.get(invocation.<String>getArgument(0)))
+                .map(vector -> NewsEmbedding.builder()
+                    .newsUrl(URL)
+                    .embeddingVector(VectorCodec.encode(vector))
+                    .vectorDimension(vector.length)
+                    .build());
+        });
+    }
+
+    @Test
+    void memoryHitSkipsStoredTiers() {
+        EmbeddingCache cache = cache(true);
+        cache.put(TEXT, new float[]{1f, 0f});
+
+        assertThat(cache.get(TEXT, URL)).containsExactly(1f, 0f);
+        assertThat(lookups).isEmpty();
+    }
+
+    @Test
+    void indexHitIsPromotedToMemory() {
+        indexed.put(URL, new float[]{0.6f, 0.8f});
+        EmbeddingCache cache = cache(true);
+
+        assertThat(cache.get(TEXT, URL)).containsExactly(0.6f, 0.8f);
+        assertThat(cache.get(TEXT, URL)).containsExactly(0.6f, 0.8f);
+
+        assertThat(lookups).containsExactly("index");
+        assertThat(count("vector-store", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void indexMissFallsBackToStoredRowByUrl() {
+        storedByUrl.put(URL, new float[]{0f, 1f});
+        EmbeddingCache cache = cache(true);
+
+        assertThat(cache.get(TEXT, URL)).containsExactly(0f, 1f);
+        assertThat(lookups).containsExactly("index", "db-url");
+    }
+
+    @Test
+    void unknownUrlFallsBackToContentHash() {
+        storedByHash.put(EmbeddingCache.contentHash(TEXT), new float[]{1f, 0f});
+        EmbeddingCache cache = cache(true);
+
+        assertThat(cache.get(TEXT, URL)).containsExactly(1f, 0f);
+
+        assertThat(lookups).containsExactly("index", "db-url", "db-hash");
+        assertThat(count("vector-store", "miss")).isEqualTo(1.0);
+        assertThat(count("database", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void textWithoutUrlSkipsUrlTier() {
+        EmbeddingCache cache = cache(true);
+
+        assertThat(cache.get(TEXT)).isNull();
+        assertThat(lookups).containsExactly("db-hash");
+        assertThat(count("database", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void disabledDatabaseTierUsesOnlyIndex() {
+        storedByUrl.put(URL, new float[]{0f, 1f});
+        storedByHash.put(EmbeddingCache.contentHash(TEXT), new float[]{1f, 0f});
+        EmbeddingCache cache = cache(false);
+
+        assertThat(cache.get(TEXT, URL)).isNull();
+        assertThat(lookups).containsExactly("index");
+    }
+
+    @Test
+    void databaseFailureIsTreatedAsMiss() {
+        databaseDown = true;
+        EmbeddingCache cache = cache(true);
+
+        assertThat(cache.get(TEXT, URL)).isNull();
+        assertThat(lookups).containsExactly("index", "db-url", "db-hash");
+    }
+
+    private EmbeddingCache cache(boolean databaseTierEnabled) {
+        return new EmbeddingCache(repository, vectorIndex, meterRegistry, 100, 60, databaseTierEnabled);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("embedding.cache.requests").tags("tier", tier, "result", result).counter().count();
+    }
+}
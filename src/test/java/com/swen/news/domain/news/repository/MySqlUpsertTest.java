@@ -0,0 +1,141 @@
+package com.swen.news.domain.news.repository;
+
+import com.swen.news.domain.news.entity.NewsEmbedding;
+import com.swen.news.domain.news.vector.VectorCodec;
+import com.swen.news.domain.news.vector.VectorSearchResult;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 행 별칭 upsert(INSERT ... AS new ON DUPLICATE KEY UPDATE)가 실제 MySQL에서 실행되고 생성일을 유지하는지 검증
+ *
+ * <p>행 별칭은 MySQL 8.0.19부터 지원하므로 H2가 아닌 MySQL 컨테이너로 확인합니다. Docker가 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MySqlUpsertTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 10, 1, 9, 0);
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36")
+        .withUrlParam("rewriteBatchedStatements", "true");
+
+    private static DriverManagerDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private NewsEmbeddingBatchRepositoryImpl embeddingRepository;
+    private NewsEmbeddingArchiveRepository archiveRepository;
+    private NewsNeighborRepository neighborRepository;
+
+    @BeforeAll
+    static void migrate() {
+        dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM news_neighbors");
+        jdbcTemplate.update("DELETE FROM news_neighbor_lists");
+        jdbcTemplate.update("DELETE FROM news_embeddings_archive");
+        jdbcTemplate.update("DELETE FROM news_embeddings");
+
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        embeddingRepository = new NewsEmbeddingBatchRepositoryImpl(jdbcTemplate, namedParameterJdbcTemplate);
+        archiveRepository = new NewsEmbeddingArchiveRepository(jdbcTemplate, namedParameterJdbcTemplate);
+        neighborRepository = new NewsNeighborRepository(jdbcTemplate, namedParameterJdbcTemplate);
+    }
+
+    @Test
+    void embeddingUpsertKeepsIdAndCreatedAt() {
+        Map<String, NewsEmbeddingBatchRepository.SavedEmbedding> first = embeddingRepository.batchUpsert(
+            List.of(embedding("news-1", "원래 제목", 1f), embedding("news-2", "다른 뉴스", 0f)), CREATED);
+
+        Map<String, NewsEmbeddingBatchRepository.SavedEmbedding> second = embeddingRepository.batchUpsert(
+            List.of(embedding("news-1", "수정된 제목", 0.6f)), UPDATED);
+
+        assertThat(second.get("news-1").id()).isEqualTo(first.get("news-1").id());
+        assertThat(second.get("news-1").createdAt()).isEqualTo(CREATED);
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT title, created_at, updated_at FROM news_embeddings WHERE news_url = 'news-1'");
+        assertThat(row.get("title")).isEqualTo("수정된 제목");
+        assertThat(row.get("created_at")).isEqualTo(Timestamp.valueOf(CREATED));
+        assertThat(row.get("updated_at")).isEqualTo(Timestamp.valueOf(UPDATED));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_embeddings", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void reArchivingKeepsOriginalCreatedAt() {
+        long id = embeddingRepository.batchUpsert(List.of(embedding("news-1", "보관할 뉴스", 1f)), CREATED)
+            .get("news-1").id();
+
+        assertThat(archiveRepository.archiveOlderThan(UPDATED, 100)).containsExactly(id);
+        Timestamp archivedAt = jdbcTemplate.queryForObject(
+            "SELECT archived_at FROM news_embeddings_archive WHERE id = ?", Timestamp.class, id);
+
+        // 보관 후 원본 삭제 전에 중단되어 같은 행이 다시 보관되는 경우
+        jdbcTemplate.update("INSERT INTO news_embeddings (id, news_url, title, description, publisher, embedding_vector, " +
+                "vector_dimension, created_at, updated_at) VALUES (?, 'news-1', '보관할 뉴스', '', '연합뉴스', ?, 2, ?, ?)",
+            id, VectorCodec.encode(new float[]{1f, 0f}), Timestamp.valueOf(CREATED), Timestamp.valueOf(UPDATED));
+        assertThat(archiveRepository.archiveOlderThan(UPDATED, 100)).containsExactly(id);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT created_at, archived_at FROM news_embeddings_archive WHERE id = ?", id);
+        assertThat(row.get("created_at")).isEqualTo(Timestamp.valueOf(CREATED));
+        assertThat(row.get("archived_at")).isEqualTo(archivedAt);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_embeddings", Integer.class)).isZero();
+    }
+
+    @Test
+    void neighborListUpsertReplacesNeighbors() {
+        Map<String, NewsEmbeddingBatchRepository.SavedEmbedding> saved = embeddingRepository.batchUpsert(List.of(
+            embedding("news-1", "기준 뉴스", 1f), embedding("news-2", "이웃 뉴스", 0.9f), embedding("news-3", "새 이웃", 0.95f)),
+            CREATED);
+        long newsId = saved.get("news-1").id();
+
+        neighborRepository.replaceNeighbors(Map.of(newsId, List.of(neighbor(saved.get("news-2").id(), 0.9f))), CREATED);
+        neighborRepository.replaceNeighbors(Map.of(newsId, List.of(
+            neighbor(saved.get("news-3").id(), 0.95f), neighbor(saved.get("news-2").id(), 0.9f))), UPDATED);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_neighbor_lists", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT computed_at FROM news_neighbor_lists WHERE news_id = ?",
+            Timestamp.class, newsId)).isEqualTo(Timestamp.valueOf(UPDATED));
+        assertThat(neighborRepository.findByNewsUrl("news-1", 10).stream()
+            .map(neighbor -> neighbor.getSummary().getNewsUrl()).toList())
+            .containsExactly("news-3", "news-2");
+    }
+
+    private static NewsEmbedding embedding(String url, String title, float x) {
+        float[] vector = {x, (float) Math.sqrt(1 - x * x)};
+        return NewsEmbedding.builder()
+            .newsUrl(url)
+            .title(title)
+            .description(title)
+            .publisher("연합뉴스")
+            .embeddingVector(VectorCodec.encode(vector))
+            .vectorDimension(vector.length)
+            .contentHash("a".repeat(64))
+            .build();
+    }
+
+    private static VectorSearchResult neighbor(long id, float similarity) {
+        return new VectorSearchResult(id, similarity, new float[0]);
+    }
+}
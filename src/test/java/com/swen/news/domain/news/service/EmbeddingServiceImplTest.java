@@ -0,0 +1,148 @@
+package com.swen.news.domain.news.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swen.news.domain.news.cache.EmbeddingCache;
+import com.swen.news.domain.news.dto.NewsItem;
+import com.swen.news.domain.news.dto.embedding.EmbeddingResponse;
+import com.swen.news.domain.news.entity.NewsEmbedding;
+import com.swen.news.domain.news.event.NewsEmbeddingSavedEvent;
+import com.swen.news.domain.news.repository.NewsEmbeddingBatchRepository.SavedEmbedding;
+import com.swen.news.domain.news.repository.NewsEmbeddingRepository;
+import com.swen.news.global.client.HyperClovaEmbeddingClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 일괄 임베딩 생성(중복 텍스트 1회 호출, 입력 순서 유지, 개별 실패 격리)과 일괄 저장 대상 선정 검증
+ */
+@Timeout(10)
+class EmbeddingServiceImplTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+    private final List<String> storedUrls = new ArrayList<>();
+    private final List<List<String>> upserts = new ArrayList<>();
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    private ExecutorService embeddingApiExecutor;
+    private EmbeddingServiceImpl embeddingService;
+
+    @BeforeEach
+    void setUp() {
+        // 요청 본문에 "실패"가 있으면 오류, 아니면 [3, 4] 반환 (정규화 후 [0.6, 0.8])
+        HyperClovaEmbeddingClient embeddingClient = mock(HyperClovaEmbeddingClient.class);
+        when(embeddingClient.generateEmbedding(anyString(), any(), anyString(), anyString())).thenAnswer(invocation -> {
+            String body = invocation.getArgument(3);
+            requestBodies.add(body);
+            if (body.contains("실패")) {
+                throw new IllegalStateException("임베딩 API 오류");
+            }
+            return "{\"result\":{\"embedding\":[3,4]}}";
+        });
+
+        NewsEmbeddingRepository repository = mock(NewsEmbeddingRepository.class);
+        when(repository.findExistingNewsUrls(any())).thenAnswer(invocation ->
+            invocation.<Collection<String>>getArgument(0).stream().filter(storedUrls::contains).toList());
+        when(repository.batchUpsert(any(), any())).thenAnswer(invocation -> {
+            List<NewsEmbedding> entities = invocation.getArgument(0);
+            upserts.add(entities.stream().map(NewsEmbedding::getNewsUrl).toList());
+            Map<String, SavedEmbedding> saved = new HashMap<>();
+            entities.forEach(entity -> saved.put(entity.getNewsUrl(), new SavedEmbedding((long) nextId.getAndIncrement(), CREATED)));
+            return saved;
+        });
+
+        embeddingApiExecutor = Executors.newFixedThreadPool(4);
+        embeddingService = new EmbeddingServiceImpl(embeddingClient, repository, new ObjectMapper(), events::add,
+            mock(EmbeddingCache.class), embeddingApiExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        embeddingApiExecutor.shutdownNow();
+    }
+
+    @Test
+    void duplicateTextsAreEmbeddedOnceInInputOrder() {
+        List<EmbeddingResponse> results = embeddingService.generateEmbeddings(List.of("경제", "정치", "경제", "사회"));
+
+        assertThat(results).hasSize(4);
+        assertThat(results.stream().map(EmbeddingResponse::getText).toList()).containsExactly("경제", "정치", "경제", "사회");
+        assertThat(results.get(2)).isSameAs(results.get(0));
+        assertThat(results.get(0).getEmbedding()).containsExactly(0.6f, 0.8f);
+        assertThat(requestBodies).hasSize(3);
+    }
+
+    @Test
+    void failedTextBecomesNullWithoutFailingBatch() {
+        List<EmbeddingResponse> results = embeddingService.generateEmbeddings(List.of("경제", "실패", "사회"));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).isNotNull();
+        assertThat(results.get(1)).isNull();
+        assertThat(results.get(2)).isNotNull();
+    }
+
+    @Test
+    void savesOnlyUnstoredUniqueUrls() {
+        storedUrls.add("news-2");
+
+        int saved = embeddingService.saveNewsEmbeddings(List.of(news("news-1", "금리"), news("news-2", "환율"),
+            news("news-1", "금리"), news("news-3", "증시")));
+
+        assertThat(saved).isEqualTo(2);
+        assertThat(upserts).containsExactly(List.of("news-1", "news-3"));
+        assertThat(requestBodies).hasSize(2);
+        assertThat(events.stream().map(event -> ((NewsEmbeddingSavedEvent) event).getNewsUrl()).toList())
+            .containsExactly("news-1", "news-3");
+    }
+
+    @Test
+    void failedEmbeddingIsLeftOutOfBatchWrite() {
+        int saved = embeddingService.saveNewsEmbeddings(List.of(news("news-1", "금리"), news("news-2", "실패")));
+
+        assertThat(saved).isEqualTo(1);
+        assertThat(upserts).containsExactly(List.of("news-1"));
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    void allStoredMakesNoRemoteCallOrWrite() {
+        storedUrls.addAll(List.of("news-1", "news-2"));
+
+        int saved = embeddingService.saveNewsEmbeddings(List.of(news("news-1", "금리"), news("news-2", "환율")));
+
+        assertThat(saved).isEqualTo(0);
+        assertThat(requestBodies).isEmpty();
+        assertThat(upserts).isEmpty();
+    }
+
+    private static NewsItem news(String link, String title) {
+        return NewsItem.builder()
+            .title(title)
+            .link(link)
+            .publisher("연합뉴스")
+            .description(title + " 관련 기사")
+            .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.swen.news.domain.news.service;
+
+import com.swen.news.global.client.NaverNewsClient;
+import com.swen.news.global.client.async.AsyncExternalApiClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동일 검색 요청 병합, 짧은 TTL 캐시, 실패 미캐시, 헤지 모드의 예외 전달 검증
+ */
+@Timeout(10)
+class NaverNewsSearchServiceTest {
+
+    private final AtomicInteger apiCalls = new AtomicInteger();
+    private final CountDownLatch releaseResponse = new CountDownLatch(1);
+    private volatile boolean blockResponse;
+    private volatile RuntimeException failure;
+
+    private NaverNewsClient naverNewsClient;
+    private AsyncExternalApiClient asyncExternalApiClient;
+
+    @BeforeEach
+    void setUp() {
+        naverNewsClient = mock(NaverNewsClient.class);
+        when(naverNewsClient.searchNews(any(), any(), anyString(), any(), any(), anyString())).thenAnswer(invocation -> {
+            int call = apiCalls.incrementAndGet();
+            if (blockResponse) {
+                releaseResponse.await(5, TimeUnit.SECONDS);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return "{\"query\":\"" + invocation.getArgument(2) + "\",\"start\":" + invocation.getArgument(4)
+                + ",\"call\":" + call + "}";
+        });
+        asyncExternalApiClient = mock(AsyncExternalApiClient.class);
+    }
+
+    @Test
+    void concurrentIdenticalSearchesShareOneCall() throws Exception {
+        NaverNewsSearchService searchService = service(30, false);
+        blockResponse = true;
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> searchService.search("경제", 10, 1, "date")));
+            }
+            while (apiCalls.get() == 0) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(100);
+            releaseResponse.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).contains("\"call\":1");
+            }
+            assertThat(apiCalls.get()).isEqualTo(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void repeatedSearchWithinTtlIsServedFromCache() {
+        NaverNewsSearchService searchService = service(30, false);
+
+        String first = searchService.search("경제", 10, 1, "date");
+        String second = searchService.search("경제", 10, 1, "date");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(apiCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void differentParametersAreSeparateEntries() {
+        NaverNewsSearchService searchService = service(30, false);
+
+        searchService.search("경제", 10, 1, "date");
+        searchService.search("경제", 10, 11, "date");
+        searchService.search("경제", 10, 1, "sim");
+        searchService.search("정치", 10, 1, "date");
+
+        assertThat(apiCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    void zeroTtlDoesNotCacheResults() {
+        NaverNewsSearchService searchService = service(0, false);
+
+        searchService.search("경제", 10, 1, "date");
+        searchService.search("경제", 10, 1, "date");
+
+        assertThat(apiCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failureIsNotCached() {
+        NaverNewsSearchService searchService = service(30, false);
+        failure = new IllegalStateException("네이버 API 오류");
+
+        assertThatThrownBy(() -> searchService.search("경제", 10, 1, "date")).isInstanceOf(IllegalStateException.class);
+
+        failure = null;
+        assertThat(searchService.search("경제", 10, 1, "date")).contains("\"call\":2");
+    }
+
+    @Test
+    void hedgedSearchIsCachedAndRethrowsOriginalException() {
+        AtomicInteger asyncCalls = new AtomicInteger();
+        when(asyncExternalApiClient.searchNews(any(), any(), anyString(), any(), any(), anyString()))
+            .thenAnswer(invocation -> {
+                asyncCalls.incrementAndGet();
+                if ("실패".equals(invocation.getArgument(2))) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("네이버 API 오류"));
+                }
+                return CompletableFuture.completedFuture("{\"query\":\"" + invocation.getArgument(2) + "\"}");
+            });
+        NaverNewsSearchService searchService = service(30, true);
+
+        assertThat(searchService.search("경제", 10, 1, "date")).isEqualTo("{\"query\":\"경제\"}");
+        assertThat(searchService.search("경제", 10, 1, "date")).isEqualTo("{\"query\":\"경제\"}");
+        assertThatThrownBy(() -> searchService.search("실패", 10, 1, "date"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("네이버 API 오류");
+
+        assertThat(asyncCalls.get()).isEqualTo(2);
+        assertThat(apiCalls.get()).isEqualTo(0);
+    }
+
+    private NaverNewsSearchService service(long ttlSeconds, boolean hedgeEnabled) {
+        return new NaverNewsSearchService(naverNewsClient, asyncExternalApiClient, new SimpleMeterRegistry(),
+            100, ttlSeconds, hedgeEnabled, 0.95, 50, 50, 2000, 0.05, 5, 512);
+    }
+}
@@ -0,0 +1,266 @@
+package com.swen.news.domain.news.service;
+
+import com.swen.news.domain.news.dto.NewsItem;
+import com.swen.news.domain.news.dto.embedding.EmbeddingResponse;
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingSummary;
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector;
+import com.swen.news.domain.news.dto.embedding.VectorSimilarityDto;
+import com.swen.news.domain.news.repository.NewsEmbeddingRepository;
+import com.swen.news.domain.news.repository.NewsNeighborRepository;
+import com.swen.news.domain.news.vector.NewsVectorIndex;
+import com.swen.news.domain.news.vector.VectorCodec;
+import com.swen.news.domain.news.vector.VectorMath;
+import com.swen.news.domain.news.vector.VectorSearchResult;
+import com.swen.news.global.ratelimit.RequestPriority;
+import com.swen.news.global.ratelimit.RequestPriorityContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 유사도 랭킹의 후보별 시간 제한, 작업 취소, 타겟 임베딩 실패, 호출자 우선순위 유지 검증
+ * 및 관련 뉴스 검색 시 벡터 프로젝션 비교 후 상위 결과만 뉴스 정보 조회 검증
+ */
+@Timeout(10)
+class NewsRecommendationServiceImplTest {
+
+    private static final long TIMEOUT_MS = 200;
+
+    private final Map<String, float[]> vectors = new ConcurrentHashMap<>();
+    private final List<RequestPriority> priorities = new CopyOnWriteArrayList<>();
+    private final CountDownLatch slowInterrupted = new CountDownLatch(1);
+    private final List<NewsEmbeddingVector> storedVectors = new ArrayList<>();
+    private final List<VectorSearchResult> indexResults = new ArrayList<>();
+    private final List<String> scans = new CopyOnWriteArrayList<>();
+    private final List<List<Long>> hydrated = new CopyOnWriteArrayList<>();
+    private final List<Long> deletedIds = new ArrayList<>();
+    private volatile boolean indexReady;
+    private ExecutorService rankingExecutor;
+    private NewsRecommendationServiceImpl recommendationService;
+
+    @BeforeEach
+    void setUp() {
+        // 제목으로 벡터를 찾고, "느린"은 인터럽트될 때까지 대기, "실패"는 예외
+        EmbeddingService embeddingService = mock(EmbeddingService.class);
+        when(embeddingService.generateNewsEmbedding(any())).thenAnswer(invocation -> {
+            NewsItem news = invocation.getArgument(0);
+            priorities.add(RequestPriorityContext.current());
+            if (news.getTitle().startsWith("느린")) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException e) {
+                    slowInterrupted.countDown();
+                    throw new IllegalStateException("취소됨");
+                }
+            }
+            if (news.getTitle().startsWith("실패")) {
+                throw new IllegalStateException("임베딩 API 오류");
+            }
+            return EmbeddingResponse.builder().embedding(vectors.get(news.getTitle())).build();
+        });
+        when(embeddingService.generateEmbedding(anyString()))
+            .thenAnswer(invocation -> EmbeddingResponse.builder().embedding(vectors.get("타겟 기사")).build());
+        when(embeddingService.calculateCosineSimilarities(any(), any()))
+            .thenAnswer(invocation -> VectorMath.dot(invocation.getArgument(0), invocation.<float[][]>getArgument(1)));
+
+        // 벡터 조회는 호출 기록 후 저장된 프로젝션 반환, 뉴스 정보는 요청된 id 중 삭제되지 않은 것만 반환
+        NewsEmbeddingRepository repository = mock(NewsEmbeddingRepository.class);
+        when(repository.findVectorsExcludingUrl(anyString())).thenAnswer(invocation -> {
+            scans.add("all:" + invocation.getArgument(0));
+            return storedVectors;
+        });
+        when(repository.findRecentVectorsExcludingUrl(any(), anyString())).thenAnswer(invocation -> {
+            LocalDateTime since = invocation.getArgument(0);
+            scans.add("recent:" + invocation.getArgument(1));
+            assertThat(since).isBetween(LocalDateTime.now().minusDays(7).minusMinutes(1), LocalDateTime.now().minusDays(7));
+            return storedVectors;
+        });
+        when(repository.findSummariesByIdIn(any())).thenAnswer(invocation -> {
+            List<Long> ids = new ArrayList<>(invocation.<Collection<Long>>getArgument(0));
+            hydrated.add(ids);
+            return ids.stream()
+                .filter(id -> !deletedIds.contains(id))
+                .map(id -> new NewsEmbeddingSummary(id, "https://news.example.com/" + id, "기사-" + id, "설명", "연합뉴스",
+                    LocalDateTime.now()))
+                .toList();
+        });
+
+        NewsVectorIndex vectorIndex = mock(NewsVectorIndex.class);
+        when(vectorIndex.isReady()).thenAnswer(invocation -> indexReady);
+        when(vectorIndex.search(any(), anyInt(), anyString(), any())).thenAnswer(invocation -> {
+            scans.add("index:" + invocation.getArgument(1));
+            return indexResults;
+        });
+
+        rankingExecutor = Executors.newFixedThreadPool(4);
+        recommendationService = new NewsRecommendationServiceImpl(embeddingService,
+            repository, mock(NewsNeighborRepository.class),
+            mock(FallbackRecommendationService.class), vectorIndex, rankingExecutor);
+        ReflectionTestUtils.setField(recommendationService, "similarityThreshold", 0.5);
+        ReflectionTestUtils.setField(recommendationService, "maxRecommendations", 5);
+        ReflectionTestUtils.setField(recommendationService, "rankingConcurrency", 2);
+        ReflectionTestUtils.setField(recommendationService, "rankingTimeoutMillis", TIMEOUT_MS);
+
+        vectors.put("타겟 기사", new float[]{1f, 0f});
+        vectors.put("가까운 기사", new float[]{0.9f, 0.43589f});
+        vectors.put("조금 먼 기사", new float[]{0.6f, 0.8f});
+        vectors.put("무관한 기사", new float[]{0f, 1f});
+    }
+
+    @AfterEach
+    void tearDown() {
+        rankingExecutor.shutdownNow();
+    }
+
+    @Test
+    void ranksCandidatesAboveThresholdInDescendingOrder() {
+        List<VectorSimilarityDto> ranking = recommendationService.calculateSimilarityRanking(news("타겟 기사"),
+            List.of(news("무관한 기사"), news("조금 먼 기사"), news("가까운 기사")));
+
+        assertThat(ranking.stream().map(dto -> dto.getNewsItem().getTitle()).toList())
+            .containsExactly("가까운 기사", "조금 먼 기사");
+        assertThat(ranking.get(0).getSimilarity()).isGreaterThan(ranking.get(1).getSimilarity());
+    }
+
+    @Test
+    void timedOutCandidateIsDroppedAndCancelled() throws InterruptedException {
+        long start = System.nanoTime();
+
+        List<VectorSimilarityDto> ranking = recommendationService.calculateSimilarityRanking(news("타겟 기사"),
+            List.of(news("느린 기사"), news("가까운 기사"), news("실패 기사"), news("조금 먼 기사")));
+
+        assertThat(ranking.stream().map(dto -> dto.getNewsItem().getTitle()).toList())
+            .containsExactly("가까운 기사", "조금 먼 기사");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000L);
+        assertThat(slowInterrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void targetEmbeddingFailureReturnsNoRanking() {
+        List<VectorSimilarityDto> ranking = recommendationService.calculateSimilarityRanking(news("실패 타겟"),
+            List.of(news("가까운 기사"), news("조금 먼 기사")));
+
+        assertThat(ranking).isEmpty();
+    }
+
+    @Test
+    void embeddingCallsKeepCallerPriority() {
+        RequestPriorityContext.callWith(RequestPriority.BATCH, () -> recommendationService.calculateSimilarityRanking(
+            news("타겟 기사"), List.of(news("가까운 기사"), news("조금 먼 기사"), news("무관한 기사"))));
+
+        assertThat(priorities).hasSize(4);
+        assertThat(priorities.stream().allMatch(priority -> priority == RequestPriority.BATCH)).isTrue();
+    }
+
+    @Test
+    void databaseScanHydratesOnlyTopWinnersInDescendingOrder() {
+        storeCandidates();
+        ReflectionTestUtils.setField(recommendationService, "maxRecommendations", 2);
+
+        List<NewsItem> recommendations = recommendationService.findSimilarNewsByContent(news("타겟 기사"));
+
+        assertThat(recommendations.stream().map(NewsItem::getTitle).toList()).containsExactly("기사-4", "기사-2");
+        assertThat(scans).containsExactly("all:https://news.example.com/타겟 기사");
+        assertThat(hydrated).containsExactly(List.of(4L, 2L));
+    }
+
+    @Test
+    void candidatesBelowThresholdAreNeverHydrated() {
+        storeCandidates();
+
+        List<NewsItem> recommendations = recommendationService.findSimilarNewsByContent(news("타겟 기사"));
+
+        assertThat(recommendations.stream().map(NewsItem::getTitle).toList()).containsExactly("기사-4", "기사-2", "기사-3");
+        assertThat(hydrated).containsExactly(List.of(4L, 2L, 3L));
+    }
+
+    @Test
+    void noCandidateAboveThresholdSkipsHydration() {
+        storedVectors.add(stored(1L, new float[]{0f, 1f}));
+        storedVectors.add(stored(5L, new float[]{0.4f, 0.9165f}));
+
+        assertThat(recommendationService.findSimilarNewsByContent(news("타겟 기사"))).isEmpty();
+        assertThat(hydrated).isEmpty();
+    }
+
+    @Test
+    void winnerDeletedBeforeHydrationIsSkipped() {
+        storeCandidates();
+        deletedIds.add(2L);
+
+        List<NewsItem> recommendations = recommendationService.findSimilarNewsByContent(news("타겟 기사"));
+
+        assertThat(recommendations.stream().map(NewsItem::getTitle).toList()).containsExactly("기사-4", "기사-3");
+    }
+
+    @Test
+    void scriptSearchScansOnlyRecentWeekExcludingCurrentNews() {
+        storeCandidates();
+
+        List<NewsItem> recommendations = recommendationService.findSimilarNewsByScript("스크립트", news("타겟 기사"));
+
+        assertThat(recommendations.stream().map(NewsItem::getTitle).toList()).containsExactly("기사-4", "기사-2", "기사-3");
+        assertThat(scans).containsExactly("recent:https://news.example.com/타겟 기사");
+        assertThat(hydrated).containsExactly(List.of(4L, 2L, 3L));
+    }
+
+    @Test
+    void readyIndexSkipsDatabaseScanAndHydratesSearchResults() {
+        storeCandidates();
+        indexReady = true;
+        indexResults.add(new VectorSearchResult(4L, 0.95f, new float[]{0.95f, 0.3122f}));
+        indexResults.add(new VectorSearchResult(2L, 0.9f, new float[]{0.9f, 0.43589f}));
+        indexResults.add(new VectorSearchResult(5L, 0.4f, new float[]{0.4f, 0.9165f}));
+
+        List<NewsItem> recommendations = recommendationService.findSimilarNewsByContent(news("타겟 기사"));
+
+        assertThat(recommendations.stream().map(NewsItem::getTitle).toList()).containsExactly("기사-4", "기사-2");
+        assertThat(scans).containsExactly("index:5");
+        assertThat(hydrated).containsExactly(List.of(4L, 2L, 5L));
+    }
+
+    /**
+     * 타겟 [1, 0] 기준 유사도: 1번 0.0, 2번 0.9, 3번 0.6, 4번 0.95, 5번 0.4 (임계값 0.5)
+     */
+    private void storeCandidates() {
+        storedVectors.add(stored(1L, new float[]{0f, 1f}));
+        storedVectors.add(stored(2L, new float[]{0.9f, 0.43589f}));
+        storedVectors.add(stored(3L, new float[]{0.6f, 0.8f}));
+        storedVectors.add(stored(4L, new float[]{0.95f, 0.3122f}));
+        storedVectors.add(stored(5L, new float[]{0.4f, 0.9165f}));
+    }
+
+    private static NewsEmbeddingVector stored(long id, float[] vector) {
+        return new NewsEmbeddingVector(id, "https://news.example.com/" + id, LocalDateTime.now(), VectorCodec.encode(vector));
+    }
+
+    private static NewsItem news(String title) {
+        return NewsItem.builder()
+            .title(title)
+            .link("https://news.example.com/" + title)
+            .publisher("연합뉴스")
+            .description(title)
+            .build();
+    }
+}
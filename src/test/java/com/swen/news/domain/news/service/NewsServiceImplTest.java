@@ -0,0 +1,199 @@
+package com.swen.news.domain.news.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swen.news.domain.news.cache.NewsPlaybackCache;
+import com.swen.news.domain.news.code.NewsErrorCode;
+import com.swen.news.domain.news.dto.NewsItem;
+import com.swen.news.domain.news.dto.NewsScriptResponse;
+import com.swen.news.domain.news.dto.PlayNewsRequest;
+import com.swen.news.domain.news.exception.NewsException;
+import com.swen.news.global.client.ClovaVoiceClient;
+import com.swen.news.global.client.HyperClovaClient;
+import com.swen.news.global.resilience.ExternalApiRejectedException;
+import com.swen.news.global.service.ObjectStorageService;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 뉴스 플레이 파이프라인의 정상 응답과 외부 API 차단 시 대체 응답(음성 생략, 다른 길이 캐시) 검증
+ */
+@Timeout(10)
+class NewsServiceImplTest {
+
+    private static final String LINK = "https://n.news.naver.com/article/001/0001";
+    private static final String SEARCH_JSON = "{\"items\":[{\"title\":\"<b>금리</b> 동결\",\"link\":\"" + LINK + "\"," +
+        "\"description\":\"한국은행이 기준금리를 동결했다.\",\"pubDate\":\"Mon, 19 Oct 2026 09:00:00 +0900\"}]}";
+    private static final NewsItem RECOMMENDED = NewsItem.builder()
+        .title("환율 하락")
+        .link("https://n.news.naver.com/article/001/0002")
+        .description("원달러 환율이 하락했다.")
+        .build();
+
+    private final AtomicInteger scriptCalls = new AtomicInteger();
+    private final AtomicInteger speechCalls = new AtomicInteger();
+    private final List<String> savedEmbeddings = new CopyOnWriteArrayList<>();
+    private volatile boolean rejectScript;
+    private volatile boolean rejectSpeech;
+
+    private HyperClovaClient hyperClovaClient;
+    private ClovaVoiceClient clovaVoiceClient;
+    private ObjectStorageService objectStorageService;
+    private EmbeddingService embeddingService;
+    private NaverNewsSearchService naverNewsSearchService;
+    private NewsRecommendationService newsRecommendationService;
+    private NewsPlaybackCache newsPlaybackCache;
+
+    @BeforeEach
+    void setUp() {
+        naverNewsSearchService = mock(NaverNewsSearchService.class);
+        when(naverNewsSearchService.search(anyString(), any(), any(), any())).thenReturn(SEARCH_JSON);
+
+        hyperClovaClient = mock(HyperClovaClient.class);
+        when(hyperClovaClient.generateScript(anyString(), any(), anyString(), anyString())).thenAnswer(invocation -> {
+            if (rejectScript) {
+                throw new ExternalApiRejectedException("hyperclova");
+            }
+            int call = scriptCalls.incrementAndGet();
+            return "{\"result\":{\"message\":{\"content\":\"안녕하십니까, 경제에 관련된 내용입니다. " + call + " 이상입니다.\"}}}";
+        });
+
+        clovaVoiceClient = mock(ClovaVoiceClient.class);
+        when(clovaVoiceClient.generateSpeech(any(), any(), anyString(), anyString())).thenAnswer(invocation -> {
+            speechCalls.incrementAndGet();
+            if (rejectSpeech) {
+                throw new ExternalApiRejectedException("clova-voice");
+            }
+            Request request = Request.create(Request.HttpMethod.POST, "https://naveropenapi.apigw.ntruss.com/tts-premium/v1/tts",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+            return Response.builder().status(200).request(request).body("mp3".getBytes(StandardCharsets.UTF_8)).build();
+        });
+
+        objectStorageService = mock(ObjectStorageService.class);
+        when(objectStorageService.uploadAudioStream(any(), any()))
+            .thenAnswer(invocation -> "https://kr.object.ncloudstorage.com/swen-audio/audio/" + speechCalls.get() + ".mp3");
+
+        embeddingService = mock(EmbeddingService.class);
+        doAnswer(invocation -> savedEmbeddings.add(invocation.<NewsItem>getArgument(0).getLink()))
+            .when(embeddingService).saveNewsEmbedding(any());
+        when(embeddingService.saveNewsEmbeddings(any())).thenAnswer(invocation -> {
+            invocation.<List<NewsItem>>getArgument(0).forEach(news -> savedEmbeddings.add(news.getLink()));
+            return invocation.<List<NewsItem>>getArgument(0).size();
+        });
+
+        newsRecommendationService = mock(NewsRecommendationService.class);
+        when(newsRecommendationService.findSimilarNewsByScript(anyString(), any())).thenReturn(List.of(RECOMMENDED));
+
+        newsPlaybackCache = new NewsPlaybackCache(new SimpleMeterRegistry(), true, 100, 60);
+    }
+
+    @Test
+    void completesWithAudioAndRecommendations() {
+        NewsScriptResponse response = service(Runnable::run).playNews(request("SHORT"));
+
+        assertThat(response.getStatus()).isEqualTo("COMPLETED");
+        assertThat(response.getScript()).startsWith("안녕하십니까").endsWith("이상입니다.");
+        assertThat(response.getAudioUrl()).isNotNull();
+        assertThat(response.getSourceNews().get(0).getTitle()).isEqualTo("금리 동결");
+        assertThat(response.getRecommendedNews()).containsExactly(RECOMMENDED);
+        assertThat(savedEmbeddings).containsExactly(LINK, RECOMMENDED.getLink());
+    }
+
+    @Test
+    void sameArticleAndLengthReusesCachedPlayback() {
+        NewsServiceImpl newsService = service(Runnable::run);
+        NewsScriptResponse first = newsService.playNews(request("SHORT"));
+        NewsScriptResponse second = newsService.playNews(request("SHORT"));
+
+        assertThat(second.getScript()).isEqualTo(first.getScript());
+        assertThat(second.getAudioUrl()).isEqualTo(first.getAudioUrl());
+        assertThat(scriptCalls.get()).isEqualTo(1);
+        assertThat(speechCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedSpeechRespondsWithScriptOnlyAndIsNotCached() {
+        rejectSpeech = true;
+        NewsServiceImpl newsService = service(Runnable::run);
+
+        NewsScriptResponse degraded = newsService.playNews(request("SHORT"));
+
+        assertThat(degraded.getStatus()).isEqualTo("DEGRADED");
+        assertThat(degraded.getAudioUrl()).isNull();
+        assertThat(degraded.getScript()).isNotBlank();
+        assertThat(degraded.getRecommendedNews()).containsExactly(RECOMMENDED);
+
+        // 음성 없는 결과는 캐시하지 않으므로 복구 후 요청은 다시 생성
+        rejectSpeech = false;
+        NewsScriptResponse recovered = newsService.playNews(request("SHORT"));
+
+        assertThat(recovered.getStatus()).isEqualTo("COMPLETED");
+        assertThat(recovered.getAudioUrl()).isNotNull();
+        assertThat(scriptCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedScriptFallsBackToOtherCachedLength() {
+        NewsServiceImpl newsService = service(Runnable::run);
+        NewsScriptResponse shortPlayback = newsService.playNews(request("SHORT"));
+
+        rejectScript = true;
+        NewsScriptResponse response = newsService.playNews(request("LONG"));
+
+        assertThat(response.getScript()).isEqualTo(shortPlayback.getScript());
+        assertThat(response.getAudioUrl()).isEqualTo(shortPlayback.getAudioUrl());
+        assertThat(response.getRecommendedNews()).containsExactly(RECOMMENDED);
+        assertThat(speechCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedScriptWithoutCacheFailsFastAsUnavailable() {
+        rejectScript = true;
+
+        assertThatThrownBy(() -> service(Runnable::run).playNews(request("SHORT")))
+            .isInstanceOf(NewsException.class)
+            .extracting("errorCode").isEqualTo(NewsErrorCode.EXTERNAL_API_UNAVAILABLE);
+        assertThat(speechCalls.get()).isEqualTo(0);
+    }
+
+    @Test
+    void saturatedEmbeddingExecutorDoesNotFailResponse() {
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("큐 가득 참");
+        };
+
+        NewsScriptResponse response = service(saturated).playNews(request("SHORT"));
+
+        assertThat(response.getStatus()).isEqualTo("COMPLETED");
+        assertThat(savedEmbeddings).isEmpty();
+    }
+
+    private NewsServiceImpl service(Executor embeddingTaskExecutor) {
+        return new NewsServiceImpl(naverNewsSearchService, hyperClovaClient, clovaVoiceClient, objectStorageService,
+            embeddingService, newsRecommendationService, new ObjectMapper(), newsPlaybackCache,
+            Runnable::run, embeddingTaskExecutor);
+    }
+
+    private static PlayNewsRequest request(String scriptLength) {
+        return PlayNewsRequest.builder().topic("경제").scriptLength(scriptLength).build();
+    }
+}
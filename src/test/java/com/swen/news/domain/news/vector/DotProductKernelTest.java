@@ -0,0 +1,89 @@
+package com.swen.news.domain.news.vector;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * SIMD 커널과 단순 루프 커널의 내적 결과 일치 검증 (SIMD 레인 수의 배수가 아닌 나머지 구간 포함)
+ */
+class DotProductKernelTest {
+
+    private static final DotProductKernel SCALAR = new ScalarDotProductKernel();
+    private static DotProductKernel simd;
+
+    @BeforeAll
+    static void loadSimdKernel() throws ReflectiveOperationException {
+        // simd 소스셋은 테스트 런타임 클래스패스에만 있으므로 VectorMath와 같이 리플렉션으로 로드
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), "jdk.incubator.vector 모듈 없음");
+        simd = (DotProductKernel) Class.forName("com.swen.news.domain.news.vector.SimdDotProductKernel")
+            .getDeclaredConstructor()
+            .newInstance();
+    }
+
+    @Test
+    void matchesScalarKernelForEveryTailLength() {
+        Random random = new Random(42);
+        for (int length = 0; length <= 70; length++) {
+            assertAgrees(randomVector(random, length), randomVector(random, length));
+        }
+    }
+
+    @Test
+    void matchesScalarKernelForEmbeddingDimension() {
+        Random random = new Random(7);
+        for (int i = 0; i < 20; i++) {
+            float[] a = VectorMath.normalize(randomVector(random, 1024));
+            float[] b = VectorMath.normalize(randomVector(random, 1024));
+            assertAgrees(a, b);
+        }
+    }
+
+    @Test
+    void exactOnSmallIntegers() {
+        float[] a = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17};
+        float[] b = {17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1};
+
+        assertThat(simd.dot(a, b)).isEqualTo(SCALAR.dot(a, b)).isEqualTo(969f);
+    }
+
+    @Test
+    void batchDotMatchesSingleDotAndMarksDimensionMismatch() {
+        Random random = new Random(3);
+        float[] query = randomVector(random, 37);
+        float[][] candidates = {randomVector(random, 37), null, randomVector(random, 36), randomVector(random, 37)};
+
+        float[] scores = VectorMath.dot(query, candidates);
+
+        assertThat(scores[0]).isEqualTo(VectorMath.dot(query, candidates[0]));
+        assertThat(scores[1]).isNaN();
+        assertThat(scores[2]).isNaN();
+        assertThat(scores[3]).isEqualTo(VectorMath.dot(query, candidates[3]));
+        assertThatThrownBy(() -> VectorMath.dot(query, candidates[2])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 덧셈 순서가 달라 생기는 반올림 차이만 허용 (절댓값 합 기준 상대 오차)
+     */
+    private static void assertAgrees(float[] a, float[] b) {
+        double magnitude = 0;
+        for (int i = 0; i < a.length; i++) {
+            magnitude += Math.abs(a[i] * b[i]);
+        }
+        double tolerance = 1e-5 * Math.max(magnitude, 1e-6);
+        assertThat(Math.abs(simd.dot(a, b) - SCALAR.dot(a, b))).isLessThanOrEqualTo((float) tolerance);
+    }
+
+    private static float[] randomVector(Random random, int length) {
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+}
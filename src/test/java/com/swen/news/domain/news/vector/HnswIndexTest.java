@@ -0,0 +1,144 @@
+package com.swen.news.domain.news.vector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HNSW 인덱스 검색 정확도와 소프트 삭제 검증 (전수 비교 결과와 대조)
+ */
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+    private static final int SIZE = 2000;
+    private static final int K = 10;
+    private static final int EF = 64;
+    private static final int MAX_EF = 512;
+
+    private float[][] vectors;
+    private HnswIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        vectors = new float[SIZE][];
+        index = new HnswIndex(16, 64);
+        for (int i = 0; i < SIZE; i++) {
+            vectors[i] = randomUnitVector(random);
+            index.add(i, vectors[i]);
+        }
+    }
+
+    @Test
+    void findsMostOfTheExactNearestNeighbours() {
+        Random random = new Random(7);
+        int queries = 50;
+        int found = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnitVector(random);
+            Set<Long> expected = bruteForce(query, K);
+
+            Set<Long> actual = index.search(query, K, EF, MAX_EF, null).stream()
+                .map(VectorSearchResult::getId)
+                .collect(Collectors.toSet());
+            actual.retainAll(expected);
+            found += actual.size();
+        }
+
+        double recall = (double) found / (queries * K);
+        assertThat(recall).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void returnsResultsInDescendingSimilarity() {
+        List<VectorSearchResult> results = index.search(vectors[0], K, EF, MAX_EF, null);
+
+        assertThat(results).hasSize(K);
+        assertThat(results.get(0).getId()).isEqualTo(0L);
+        for (int i = 1; i < results.size(); i++) {
+            assertThat(results.get(i).getSimilarity()).isLessThanOrEqualTo(results.get(i - 1).getSimilarity());
+        }
+    }
+
+    @Test
+    void excludesSoftDeletedVectors() {
+        Set<Long> removed = new HashSet<>();
+        for (long id = 0; id < SIZE; id += 3) {
+            index.remove(id);
+            removed.add(id);
+        }
+
+        assertThat(index.size()).isEqualTo(SIZE - removed.size());
+        assertThat(index.contains(0)).isFalse();
+        assertThat(index.vectorOf(0)).isNull();
+        for (int q = 0; q < 20; q++) {
+            List<VectorSearchResult> results = index.search(vectors[q], K, EF, MAX_EF, null);
+            assertThat(results).hasSize(K);
+            assertThat(results).noneMatch(result -> removed.contains(result.getId()));
+        }
+    }
+
+    @Test
+    void reAddingAnIdReplacesThePreviousVector() {
+        float[] replacement = vectors[1].clone();
+        index.add(0, replacement);
+
+        assertThat(index.size()).isEqualTo(SIZE);
+        assertThat(index.vectorOf(0)).containsExactly(replacement);
+        assertThat(index.deletedRatio()).isGreaterThan(0.0);
+    }
+
+    @Test
+    void rebuildFromLiveEntriesDropsTombstones() {
+        for (long id = 0; id < SIZE; id += 2) {
+            index.remove(id);
+        }
+        assertThat(index.deletedRatio()).isEqualTo(0.5);
+
+        HnswIndex rebuilt = new HnswIndex(16, 64);
+        Map<Long, float[]> live = index.liveEntries();
+        live.forEach(rebuilt::add);
+
+        assertThat(live).hasSize(SIZE / 2);
+        assertThat(rebuilt.size()).isEqualTo(SIZE / 2);
+        assertThat(rebuilt.deletedRatio()).isEqualTo(0.0);
+        assertThat(rebuilt.search(vectors[1], 1, EF, MAX_EF, null).get(0).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void selectiveFilterStopsWideningAtMaxEf() {
+        // 100개 중 1개만 통과하는 필터 - 상한 안에서 찾은 만큼만 반환
+        List<VectorSearchResult> results = index.search(vectors[1], K, EF, 128, id -> id % 100 == 1);
+
+        assertThat(results.size()).isLessThanOrEqualTo(K);
+        assertThat(results).allMatch(result -> result.getId() % 100 == 1);
+        assertThat(results.get(0).getId()).isEqualTo(1L);
+    }
+
+    private Set<Long> bruteForce(float[] query, int k) {
+        return IntStream.range(0, SIZE)
+            .boxed()
+            .sorted(Comparator.comparingDouble((Integer i) -> VectorMath.dot(query, vectors[i])).reversed())
+            .limit(k)
+            .map(Integer::longValue)
+            .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static float[] randomUnitVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return VectorMath.normalize(vector);
+    }
+}
@@ -0,0 +1,109 @@
+package com.swen.news.domain.news.vector;
+
+import com.swen.news.domain.news.dto.embedding.NewsEmbeddingVector;
+import com.swen.news.domain.news.repository.NewsEmbeddingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다른 인스턴스가 저장한 임베딩을 DB 동기화로 따라잡는지 검증
+ */
+class NewsVectorIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    private final List<NewsEmbeddingVector> rows = new ArrayList<>();
+    private final List<LocalDateTime> syncQueries = new ArrayList<>();
+    private NewsVectorIndex vectorIndex;
+
+    @BeforeEach
+    void setUp() {
+        NewsEmbeddingRepository repository = mock(NewsEmbeddingRepository.class);
+        when(repository.findAllVectors()).thenAnswer(invocation -> List.copyOf(rows));
+        when(repository.findVectorsUpdatedSince(any())).thenAnswer(invocation -> {
+            LocalDateTime since = invocation.getArgument(0);
+            syncQueries.add(since);
+            return rows.stream().filter(row -> !row.getUpdatedAt().isBefore(since)).toList();
+        });
+
+        vectorIndex = new NewsVectorIndex(repository);
+        ReflectionTestUtils.setField(vectorIndex, "enabled", true);
+        ReflectionTestUtils.setField(vectorIndex, "m", 16);
+        ReflectionTestUtils.setField(vectorIndex, "efConstruction", 64);
+        ReflectionTestUtils.setField(vectorIndex, "efSearch", 64);
+        ReflectionTestUtils.setField(vectorIndex, "maxEfSearch", 512);
+        ReflectionTestUtils.setField(vectorIndex, "rebuildDeletedRatio", 0.3);
+        ReflectionTestUtils.setField(vectorIndex, "syncLookbackSeconds", 300L);
+
+        rows.add(row(1, "local-1", new float[]{1f, 0f, 0f}, BASE));
+        rows.add(row(2, "local-2", new float[]{0f, 1f, 0f}, BASE.plusMinutes(1)));
+        vectorIndex.loadOnStartup();
+    }
+
+    @Test
+    void articleSavedOnAnotherReplicaBecomesSearchable() {
+        float[] query = {0f, 0f, 1f};
+        assertThat(vectorIndex.search(query, 1, null, null).get(0).getId()).isNotEqualTo(3L);
+
+        // 락을 잡은 다른 인스턴스의 배치가 저장 - 이 인스턴스에는 커밋 이벤트가 오지 않음
+        rows.add(row(3, "remote-3", new float[]{0f, 0f, 2f}, BASE.plusMinutes(10)));
+
+        assertThat(vectorIndex.syncFromDatabase()).isEqualTo(1);
+        assertThat(vectorIndex.contains(3L)).isTrue();
+        assertThat(vectorIndex.search(query, 1, null, null).get(0).getId()).isEqualTo(3L);
+        assertThat(vectorIndex.findVectorByUrl("remote-3")).containsExactly(0f, 0f, 1f);
+    }
+
+    @Test
+    void queriesFromLastSeenUpdateMinusLookback() {
+        rows.add(row(3, "remote-3", new float[]{0f, 0f, 1f}, BASE.plusMinutes(10)));
+        vectorIndex.syncFromDatabase();
+        vectorIndex.syncFromDatabase();
+
+        assertThat(syncQueries).containsExactly(BASE.plusMinutes(1).minusSeconds(300), BASE.plusMinutes(10).minusSeconds(300));
+    }
+
+    @Test
+    void unchangedRowsAreNotReAdded() {
+        rows.add(row(3, "remote-3", new float[]{0.3f, 0.4f, 0.5f}, BASE.plusMinutes(2)));
+        assertThat(vectorIndex.syncFromDatabase()).isEqualTo(1);
+
+        // 겹쳐 조회되는 기존 행은 삭제 노드를 남기지 않음
+        for (int i = 0; i < 5; i++) {
+            assertThat(vectorIndex.syncFromDatabase()).isEqualTo(0);
+        }
+        assertThat(vectorIndex.search(new float[]{0.3f, 0.4f, 0.5f}, 3, null, null)).hasSize(3);
+    }
+
+    @Test
+    void reEmbeddedRowReplacesVector() {
+        rows.set(0, row(1, "local-1", new float[]{0f, 0f, 1f}, BASE.plusMinutes(5)));
+
+        assertThat(vectorIndex.syncFromDatabase()).isEqualTo(1);
+        assertThat(vectorIndex.findVectorByUrl("local-1")).containsExactly(0f, 0f, 1f);
+    }
+
+    @Test
+    void doesNothingBeforeIndexIsLoaded() {
+        NewsEmbeddingRepository repository = mock(NewsEmbeddingRepository.class);
+        NewsVectorIndex notLoaded = new NewsVectorIndex(repository);
+        ReflectionTestUtils.setField(notLoaded, "enabled", true);
+
+        assertThat(notLoaded.syncFromDatabase()).isEqualTo(0);
+        assertThat(notLoaded.contains(1L)).isFalse();
+    }
+
+    private static NewsEmbeddingVector row(long id, String url, float[] vector, LocalDateTime updatedAt) {
+        return new NewsEmbeddingVector(id, url, BASE, VectorCodec.encode(vector), updatedAt);
+    }
+}
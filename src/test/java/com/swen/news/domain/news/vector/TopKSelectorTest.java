@@ -0,0 +1,87 @@
+package com.swen.news.domain.news.vector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상위 k개 선택기 검증 (정렬 결과와 대조)
+ */
+class TopKSelectorTest {
+
+    @Test
+    void selectsTopKInDescendingOrder() {
+        TopKSelector selector = new TopKSelector(3, 0f)
+            .offerAll(new float[]{0.1f, 0.9f, 0.4f, 0.7f, 0.2f, 0.8f});
+
+        assertThat(selector.size()).isEqualTo(3);
+        assertThat(selector.indexAt(0)).isEqualTo(1);
+        assertThat(selector.indexAt(1)).isEqualTo(5);
+        assertThat(selector.indexAt(2)).isEqualTo(3);
+        assertThat(selector.scoreAt(0)).isEqualTo(0.9f);
+        assertThat(selector.scoreAt(2)).isEqualTo(0.7f);
+    }
+
+    @Test
+    void ignoresScoresBelowThresholdAndNaN() {
+        TopKSelector selector = new TopKSelector(5, 0.5f)
+            .offerAll(new float[]{0.6f, Float.NaN, 0.49f, 0.5f});
+
+        assertThat(selector.size()).isEqualTo(2);
+        assertThat(selector.indexAt(0)).isEqualTo(0);
+        assertThat(selector.indexAt(1)).isEqualTo(3);
+    }
+
+    @Test
+    void returnsFewerThanKWhenCandidatesRunOut() {
+        TopKSelector selector = new TopKSelector(10, 0f).offerAll(new float[]{0.3f, 0.2f});
+
+        assertThat(selector.size()).isEqualTo(2);
+        assertThat(selector.indexAt(0)).isEqualTo(0);
+    }
+
+    @Test
+    void zeroKSelectsNothing() {
+        TopKSelector selector = new TopKSelector(0, 0f);
+
+        assertThat(selector.offer(0, 1f)).isFalse();
+        assertThat(selector.size()).isEqualTo(0);
+    }
+
+    @Test
+    void rejectsOffersAfterReadingResults() {
+        TopKSelector selector = new TopKSelector(2, 0f).offerAll(new float[]{0.3f, 0.2f});
+        selector.indexAt(0);
+
+        assertThatThrownBy(() -> selector.offer(2, 0.9f)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void matchesFullSortOnRandomScores() {
+        Random random = new Random(42);
+        float[] scores = new float[5000];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextFloat() * 2 - 1;
+        }
+
+        TopKSelector selector = new TopKSelector(50, 0f).offerAll(scores);
+
+        List<Integer> expected = IntStream.range(0, scores.length)
+            .boxed()
+            .filter(i -> scores[i] >= 0f)
+            .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed())
+            .limit(50)
+            .collect(Collectors.toList());
+        List<Integer> actual = IntStream.range(0, selector.size())
+            .mapToObj(selector::indexAt)
+            .collect(Collectors.toList());
+        assertThat(actual).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,80 @@
+package com.swen.news.domain.news.vector;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 임베딩 벡터 바이너리 인코딩 검증 (float32 little-endian, int8 양자화)
+ */
+class VectorCodecTest {
+
+    @Test
+    void float32RoundTripIsLossless() {
+        float[] vector = {0.5f, -1.25f, 3.4028235e38f, Float.MIN_VALUE, 0f, -0f};
+
+        byte[] bytes = VectorCodec.encode(vector);
+
+        assertThat(bytes).hasSize(vector.length * Float.BYTES);
+        assertThat(VectorCodec.decode(bytes)).containsExactly(vector);
+    }
+
+    @Test
+    void encodesFloat32AsLittleEndian() {
+        // 1.0f = 0x3F800000, 하위 바이트부터 저장
+        assertThat(VectorCodec.encode(new float[]{1.0f}))
+            .containsExactly((byte) 0x00, (byte) 0x00, (byte) 0x80, (byte) 0x3F);
+    }
+
+    @Test
+    void rejectsFloat32BytesNotMultipleOfFour() {
+        assertThatThrownBy(() -> VectorCodec.decode(new byte[5]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void int8RoundTripStaysWithinHalfStep() {
+        Random random = new Random(42);
+        float[] vector = new float[1024];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian() * 0.05f;
+        }
+
+        byte[] bytes = VectorCodec.encodeInt8(vector);
+        float[] decoded = VectorCodec.decodeInt8(bytes);
+
+        float scale = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getFloat();
+        assertThat(bytes).hasSize(Float.BYTES + vector.length);
+        assertThat(decoded).hasSize(vector.length);
+        for (int i = 0; i < vector.length; i++) {
+            assertThat((double) decoded[i]).isCloseTo((double) vector[i], within(scale / 2.0 + 1e-7));
+        }
+    }
+
+    @Test
+    void int8StartsWithLittleEndianScale() {
+        // 최댓값 127 → 스케일 1.0 (0x3F800000), 이후 차원당 1바이트
+        byte[] bytes = VectorCodec.encodeInt8(new float[]{127f, -64f, 0f});
+
+        assertThat(bytes).containsExactly((byte) 0x00, (byte) 0x00, (byte) 0x80, (byte) 0x3F, (byte) 127, (byte) -64, (byte) 0);
+    }
+
+    @Test
+    void int8KeepsZeroVector() {
+        byte[] bytes = VectorCodec.encodeInt8(new float[4]);
+
+        assertThat(VectorCodec.decodeInt8(bytes)).containsExactly(0f, 0f, 0f, 0f);
+    }
+
+    @Test
+    void rejectsInt8BytesShorterThanScale() {
+        assertThatThrownBy(() -> VectorCodec.decodeInt8(new byte[3]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.swen.news.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LRU/TTL 캐시의 제거 순서, 만료, 집계 검증
+ */
+class LruTtlCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.peek("a")).isEqualTo(1);
+        assertThat(cache.peek("b")).isNull();
+        assertThat(cache.peek("c")).isEqualTo(3);
+        assertThat(cache.evictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void overwritingRefreshesRecency() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("a", 10);
+
+        cache.put("c", 3);
+
+        assertThat(cache.peek("a")).isEqualTo(10);
+        assertThat(cache.peek("b")).isNull();
+    }
+
+    @Test
+    void expiredEntryIsRemovedAndCountedAsMiss() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, Duration.ZERO);
+        cache.put("a", 1);
+
+        assertThat(cache.peek("a")).isNull();
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.missCount()).isEqualTo(1L);
+        assertThat(cache.evictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, Duration.ofMinutes(1));
+        cache.put("a", 1);
+
+        cache.get("a");
+        cache.get("a");
+        cache.get("missing");
+
+        assertThat(cache.hitCount()).isEqualTo(2L);
+        assertThat(cache.missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void peekDoesNotCountOrRefreshRecency() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertThat(cache.peek("a")).isEqualTo(1);
+        assertThat(cache.peek("missing")).isNull();
+        cache.put("c", 3);
+
+        assertThat(cache.hitCount()).isEqualTo(0L);
+        assertThat(cache.missCount()).isEqualTo(0L);
+        assertThat(cache.peek("a")).isNull();
+        assertThat(cache.peek("b")).isEqualTo(2);
+    }
+
+    @Test
+    void invalidateRemovesEntry() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, Duration.ofMinutes(1));
+        cache.put("a", 1);
+
+        cache.invalidate("a");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+}
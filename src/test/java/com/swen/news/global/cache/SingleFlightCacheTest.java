@@ -0,0 +1,150 @@
+package com.swen.news.global.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 진행 중 요청 병합과 성공 결과만 캐시하는 동작 검증
+ */
+class SingleFlightCacheTest {
+
+    @Test
+    void concurrentMissesShareOneLoad() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(10, Duration.ofMinutes(1));
+        CompletableFuture<String> load = new CompletableFuture<>();
+
+        CompletableFuture<String> first = cache.getAsync("key", () -> load);
+        CompletableFuture<String> second = cache.getAsync("key", () -> CompletableFuture.completedFuture("other"));
+        CompletableFuture<String> third = cache.getAsync("key", () -> CompletableFuture.completedFuture("other"));
+
+        assertThat(cache.inFlightCount()).isEqualTo(1);
+        assertThat(second.isDone()).isFalse();
+
+        load.complete("value");
+
+        assertThat(first.join()).isEqualTo("value");
+        assertThat(second.join()).isEqualTo("value");
+        assertThat(third.join()).isEqualTo("value");
+        assertThat(cache.loadCount()).isEqualTo(1L);
+        assertThat(cache.joinCount()).isEqualTo(2L);
+        assertThat(cache.inFlightCount()).isEqualTo(0);
+    }
+
+    @Test
+    @Timeout(10)
+    void blockingCallersOnManyThreadsLoadOnce() throws Exception {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get("key", () -> {
+                    loaderCalls.incrementAndGet();
+                    awaitQuietly(release);
+                    return "value";
+                })));
+            }
+            while (cache.loadCount() + cache.joinCount() < 8) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("value");
+            }
+            assertThat(loaderCalls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void servesCompletedValueFromCache() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(10, Duration.ofMinutes(1));
+        cache.get("key", () -> "value");
+
+        String cached = cache.get("key", () -> "reloaded");
+
+        assertThat(cached).isEqualTo("value");
+        assertThat(cache.hitCount()).isEqualTo(1L);
+        assertThat(cache.loadCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(10, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            throw new IllegalStateException("업스트림 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.inFlightCount()).isEqualTo(0);
+        assertThat(cache.get("key", () -> "value")).isEqualTo("value");
+        assertThat(cache.loadCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void expiredValueIsLoadedAgain() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(10, Duration.ZERO);
+        cache.get("key", () -> "first");
+
+        assertThat(cache.get("key", () -> "second")).isEqualTo("second");
+        assertThat(cache.loadCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void nonCacheableValueReachesJoinedCallersButIsNotCached() {
+        SingleFlightCache<String, String> cache =
+            new SingleFlightCache<>(10, Duration.ofMinutes(1), value -> !value.startsWith("degraded"));
+        CompletableFuture<String> load = new CompletableFuture<>();
+
+        CompletableFuture<String> first = cache.getAsync("key", () -> load);
+        CompletableFuture<String> joined = cache.getAsync("key", () -> CompletableFuture.completedFuture("other"));
+        load.complete("degraded");
+
+        assertThat(first.join()).isEqualTo("degraded");
+        assertThat(joined.join()).isEqualTo("degraded");
+        assertThat(cache.peek("key")).isNull();
+
+        // 다음 요청은 다시 생성하고, 정상 결과는 캐시에 남음
+        assertThat(cache.get("key", () -> "full")).isEqualTo("full");
+        assertThat(cache.get("key", () -> "again")).isEqualTo("full");
+        assertThat(cache.loadCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void peekNeitherLoadsNorCounts() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(10, Duration.ofMinutes(1));
+
+        assertThat(cache.peek("key")).isNull();
+        cache.get("key", () -> "value");
+
+        assertThat(cache.peek("key")).isEqualTo("value");
+        assertThat(cache.hitCount()).isEqualTo(0L);
+        assertThat(cache.loadCount()).isEqualTo(1L);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
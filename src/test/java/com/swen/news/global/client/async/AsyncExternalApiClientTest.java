@@ -0,0 +1,161 @@
+package com.swen.news.global.client.async;
+
+import com.sun.net.httpserver.HttpServer;
+import com.swen.news.global.exception.CommonException;
+import com.swen.news.global.ratelimit.RateLimitRequestInterceptor;
+import com.swen.news.global.resilience.ExternalApiGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스트리밍 응답(TTS)의 허가와 호스트 슬롯이 본문 스트림을 닫을 때 반환되는지 검증
+ */
+@Timeout(10)
+class AsyncExternalApiClientTest {
+
+    private static final byte[] AUDIO = "mp3-bytes".getBytes(StandardCharsets.UTF_8);
+
+    private final List<String> permitEvents = new CopyOnWriteArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch finishBody = new CountDownLatch(1);
+    private volatile int status = 200;
+    private volatile boolean rejectPermits;
+
+    private HttpServer server;
+    private AsyncExternalApiClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 첫 바이트를 보낸 뒤 finishBody가 열릴 때까지 나머지 본문을 보내지 않는 TTS 서버
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/tts", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(status, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(AUDIO, 0, 1);
+                body.flush();
+                finishBody.await(5, TimeUnit.SECONDS);
+                body.write(AUDIO, 1, AUDIO.length - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+
+        ExternalApiGuard.Permit permit = mock(ExternalApiGuard.Permit.class);
+        doAnswer(invocation -> permitEvents.add("response:" + invocation.getArgument(0))).when(permit).onResponse(anyInt());
+        doAnswer(invocation -> permitEvents.add("error")).when(permit).onError(any());
+        ExternalApiGuard guard = mock(ExternalApiGuard.class);
+        when(guard.acquire(anyString())).thenAnswer(invocation -> {
+            if (rejectPermits) {
+                throw new IllegalStateException("서킷 열림");
+            }
+            return permit;
+        });
+
+        RateLimitRequestInterceptor rateLimiter = mock(RateLimitRequestInterceptor.class);
+        when(rateLimiter.acquireAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        AsyncHttpProperties properties = new AsyncHttpProperties();
+        properties.setHttp2(false);
+        properties.setMaxConcurrentPerHost(1);
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        client = new AsyncExternalApiClient(properties, rateLimiter, guard, new SimpleMeterRegistry(),
+            baseUrl, baseUrl, baseUrl, baseUrl);
+    }
+
+    @AfterEach
+    void tearDown() {
+        finishBody.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void releasesPermitAndHostSlotOnlyWhenStreamIsClosed() throws Exception {
+        HttpResponse<InputStream> response = speech().get(5, TimeUnit.SECONDS);
+
+        // 헤더만 받은 상태 - 본문이 남아 있으므로 허가와 슬롯을 유지하고, 다음 요청은 시작되지 않음
+        CompletableFuture<HttpResponse<InputStream>> next = speech();
+        Thread.sleep(200);
+        assertThat(permitEvents).isEmpty();
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(next.isDone()).isFalse();
+
+        finishBody.countDown();
+        InputStream body = response.body();
+        assertThat(body.readAllBytes()).isEqualTo(AUDIO);
+        body.close();
+        body.close();
+
+        assertThat(permitEvents).containsExactly("response:200");
+        try (InputStream nextBody = next.get(5, TimeUnit.SECONDS).body()) {
+            assertThat(nextBody.readAllBytes()).isEqualTo(AUDIO);
+        }
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(permitEvents).containsExactly("response:200", "response:200");
+    }
+
+    @Test
+    void errorStatusClosesBodyAndReleasesOnce() throws Exception {
+        status = 503;
+        finishBody.countDown();
+
+        assertThatThrownBy(() -> speech().get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(CommonException.class);
+
+        assertThat(permitEvents).containsExactly("response:503");
+        status = 200;
+        try (InputStream body = speech().get(5, TimeUnit.SECONDS).body()) {
+            assertThat(body.readAllBytes()).isEqualTo(AUDIO);
+        }
+    }
+
+    @Test
+    void rejectedPermitFreesHostSlot() throws Exception {
+        rejectPermits = true;
+
+        assertThatThrownBy(() -> speech().get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(requests.get()).isEqualTo(0);
+
+        rejectPermits = false;
+        finishBody.countDown();
+        try (InputStream body = speech().get(5, TimeUnit.SECONDS).body()) {
+            assertThat(body.readAllBytes()).isEqualTo(AUDIO);
+        }
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> speech() {
+        return client.generateSpeech("id", "secret", "application/x-www-form-urlencoded", "text=안녕하세요");
+    }
+}
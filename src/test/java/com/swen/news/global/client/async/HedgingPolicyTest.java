@@ -0,0 +1,156 @@
+package com.swen.news.global.client.async;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 헤지 요청의 대기 시간, 첫 성공 응답 선택, 예산 제한 검증
+ */
+@Timeout(10)
+class HedgingPolicyTest {
+
+    private static final int MIN_SAMPLES = 10;
+    private static final Duration MIN_DELAY = Duration.ofMillis(30);
+
+    @Test
+    void doesNotHedgeBelowMinSamples() throws InterruptedException {
+        HedgingPolicy policy = policy(1.0, 10);
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> slow = new CompletableFuture<>();
+
+        CompletableFuture<String> result = policy.execute(() -> {
+            calls.incrementAndGet();
+            return slow;
+        });
+        Thread.sleep(MIN_DELAY.toMillis() * 3);
+
+        assertThat(policy.hedgeDelayNanos()).isEqualTo(-1L);
+        assertThat(calls.get()).isEqualTo(1);
+        slow.complete("primary");
+        assertThat(result.join()).isEqualTo("primary");
+    }
+
+    @Test
+    void hedgeDelayIsClampedToMinDelay() {
+        HedgingPolicy policy = warmedUp(policy(1.0, 10));
+
+        assertThat(policy.hedgeDelayNanos()).isEqualTo(MIN_DELAY.toNanos());
+    }
+
+    @Test
+    void firstSuccessfulAttemptWins() throws Exception {
+        HedgingPolicy policy = warmedUp(policy(1.0, 10));
+        List<CompletableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = policy.execute(() -> track(attempts));
+        awaitAttempts(attempts, 2);
+
+        attempts.get(1).complete("hedge");
+        attempts.get(0).complete("primary");
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("hedge");
+    }
+
+    @Test
+    void fastPrimaryIsNotHedged() throws InterruptedException {
+        HedgingPolicy policy = warmedUp(policy(1.0, 10));
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = policy.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("primary");
+        });
+        Thread.sleep(MIN_DELAY.toMillis() * 3);
+
+        assertThat(result.join()).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void primaryFailureBeforeDelayIsNotRetried() throws InterruptedException {
+        HedgingPolicy policy = warmedUp(policy(1.0, 10));
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = policy.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("즉시 실패"));
+        });
+        Thread.sleep(MIN_DELAY.toMillis() * 3);
+
+        assertThat(result.isCompletedExceptionally()).isTrue();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failsWithFirstErrorOnlyAfterAllAttemptsFail() throws Exception {
+        HedgingPolicy policy = warmedUp(policy(1.0, 10));
+        List<CompletableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = policy.execute(() -> track(attempts));
+        awaitAttempts(attempts, 2);
+
+        attempts.get(1).completeExceptionally(new IllegalStateException("헤지 실패"));
+        assertThat(result.isDone()).isFalse();
+        attempts.get(0).completeExceptionally(new IllegalArgumentException("원 요청 실패"));
+
+        assertThatThrownBy(result::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void stopsHedgingWhenBudgetIsSpent() throws Exception {
+        // 요청당 0.1건 적립, 최대 1건 - 워밍업 후 헤지 1번만 가능
+        HedgingPolicy policy = warmedUp(policy(0.1, 1));
+        List<CompletableFuture<String>> first = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<String>> second = new CopyOnWriteArrayList<>();
+
+        policy.execute(() -> track(first));
+        awaitAttempts(first, 2);
+        policy.execute(() -> track(second));
+        Thread.sleep(MIN_DELAY.toMillis() * 3);
+
+        assertThat(second).hasSize(1);
+        first.forEach(attempt -> attempt.complete("done"));
+        second.forEach(attempt -> attempt.complete("done"));
+    }
+
+    private static HedgingPolicy policy(double budgetRatio, int maxBurst) {
+        return new HedgingPolicy("naver-news", 0.95, MIN_SAMPLES, MIN_DELAY, Duration.ofSeconds(1),
+            budgetRatio, maxBurst, 100, new SimpleMeterRegistry());
+    }
+
+    /**
+     * 즉시 끝나는 요청으로 표본을 채움 (대기 시간은 하한으로 고정됨)
+     */
+    private static HedgingPolicy warmedUp(HedgingPolicy policy) {
+        for (int i = 0; i < MIN_SAMPLES * 2; i++) {
+            policy.execute(() -> CompletableFuture.completedFuture("warm-up")).join();
+        }
+        return policy;
+    }
+
+    private static CompletableFuture<String> track(List<CompletableFuture<String>> attempts) {
+        CompletableFuture<String> attempt = new CompletableFuture<>();
+        attempts.add(attempt);
+        return attempt;
+    }
+
+    private static void awaitAttempts(List<CompletableFuture<String>> attempts, int count) throws InterruptedException {
+        while (attempts.size() < count) {
+            Thread.sleep(5);
+        }
+    }
+}
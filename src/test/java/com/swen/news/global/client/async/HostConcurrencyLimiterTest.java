@@ -0,0 +1,150 @@
+package com.swen.news.global.client.async;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 호스트별 동시 요청 제한의 슬롯 계산 검증
+ */
+@Timeout(10)
+class HostConcurrencyLimiterTest {
+
+    @Test
+    void queuesCallsBeyondLimitAndStartsThemAsSlotsFree() {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(2);
+        List<CompletableFuture<Integer>> calls = new ArrayList<>();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            results.add(limiter.submit(() -> {
+                CompletableFuture<Integer> call = new CompletableFuture<>();
+                calls.add(call);
+                return call;
+            }));
+        }
+
+        assertThat(calls).hasSize(2);
+        assertThat(limiter.inFlight()).isEqualTo(2);
+        assertThat(limiter.pending()).isEqualTo(2);
+
+        calls.get(0).complete(0);
+
+        assertThat(results.get(0).join()).isEqualTo(0);
+        assertThat(calls).hasSize(3);
+        assertThat(limiter.inFlight()).isEqualTo(2);
+        assertThat(limiter.pending()).isEqualTo(1);
+
+        for (int i = 1; i < 4; i++) {
+            calls.get(i).complete(i);
+        }
+
+        assertThat(results.get(3).join()).isEqualTo(3);
+        assertThat(limiter.inFlight()).isEqualTo(0);
+        assertThat(limiter.pending()).isEqualTo(0);
+    }
+
+    @Test
+    void releasesSlotWhenCallThrows() {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(1);
+
+        CompletableFuture<String> failed = limiter.submit(() -> {
+            throw new IllegalStateException("연결 실패");
+        });
+
+        assertThatThrownBy(failed::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(limiter.inFlight()).isEqualTo(0);
+        assertThat(limiter.submit(() -> CompletableFuture.completedFuture("ok")).join()).isEqualTo("ok");
+    }
+
+    @Test
+    void releasesSlotWhenCallFails() {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(1);
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> failed = limiter.submit(() -> call);
+        CompletableFuture<String> queued = limiter.submit(() -> CompletableFuture.completedFuture("ok"));
+        assertThat(limiter.pending()).isEqualTo(1);
+
+        call.completeExceptionally(new IllegalStateException("응답 오류"));
+
+        assertThat(failed.isCompletedExceptionally()).isTrue();
+        assertThat(queued.join()).isEqualTo("ok");
+        assertThat(limiter.inFlight()).isEqualTo(0);
+    }
+
+    @Test
+    void holdingSubmitKeepsSlotUntilReleased() {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(1);
+        List<Runnable> releases = new ArrayList<>();
+
+        CompletableFuture<String> streaming = limiter.submitHolding(release -> {
+            releases.add(release);
+            return CompletableFuture.completedFuture("headers");
+        });
+        CompletableFuture<String> queued = limiter.submit(() -> CompletableFuture.completedFuture("next"));
+
+        // 응답은 끝났지만 본문을 닫기 전까지 슬롯 유지
+        assertThat(streaming.join()).isEqualTo("headers");
+        assertThat(queued.isDone()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+
+        releases.get(0).run();
+        releases.get(0).run();
+
+        assertThat(queued.join()).isEqualTo("next");
+        assertThat(limiter.inFlight()).isEqualTo(0);
+    }
+
+    @Test
+    void neverExceedsLimitUnderConcurrentSubmits() throws InterruptedException {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        ExecutorService upstream = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        try {
+            List<CompletableFuture<CompletableFuture<Integer>>> submissions = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                int value = i;
+                submissions.add(CompletableFuture.supplyAsync(() -> limiter.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    return CompletableFuture.supplyAsync(() -> {
+                        running.decrementAndGet();
+                        return value;
+                    }, upstream);
+                }), callers));
+            }
+            for (CompletableFuture<CompletableFuture<Integer>> submission : submissions) {
+                results.add(submission.join());
+            }
+
+            int sum = 0;
+            for (CompletableFuture<Integer> result : results) {
+                sum += result.join();
+            }
+            assertThat(sum).isEqualTo(500 * 499 / 2);
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+            assertThat(limiter.inFlight()).isEqualTo(0);
+            assertThat(limiter.pending()).isEqualTo(0);
+        } finally {
+            callers.shutdownNow();
+            upstream.shutdownNow();
+            callers.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+}
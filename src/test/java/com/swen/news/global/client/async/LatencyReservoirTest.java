@@ -0,0 +1,60 @@
+package com.swen.news.global.client.async;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 응답 시간 표본의 백분위수 계산 검증
+ */
+class LatencyReservoirTest {
+
+    @Test
+    void emptyReservoirHasNoPercentile() {
+        LatencyReservoir reservoir = new LatencyReservoir(10, 1);
+
+        assertThat(reservoir.size()).isEqualTo(0);
+        assertThat(reservoir.percentile(0.95)).isEqualTo(-1L);
+    }
+
+    @Test
+    void returnsNearestRankPercentile() {
+        LatencyReservoir reservoir = new LatencyReservoir(100, 1);
+        // 순서와 무관하게 정렬 후 계산
+        for (int i = 100; i >= 1; i--) {
+            reservoir.record(i);
+        }
+
+        assertThat(reservoir.percentile(0.5)).isEqualTo(50L);
+        assertThat(reservoir.percentile(0.95)).isEqualTo(95L);
+        assertThat(reservoir.percentile(1.0)).isEqualTo(100L);
+        assertThat(reservoir.percentile(0.0)).isEqualTo(1L);
+    }
+
+    @Test
+    void keepsOnlyMostRecentSamples() {
+        LatencyReservoir reservoir = new LatencyReservoir(4, 1);
+        for (int i = 1; i <= 6; i++) {
+            reservoir.record(i);
+        }
+
+        assertThat(reservoir.size()).isEqualTo(4);
+        assertThat(reservoir.percentile(0.0)).isEqualTo(3L);
+        assertThat(reservoir.percentile(1.0)).isEqualTo(6L);
+    }
+
+    @Test
+    void resortsEveryRecomputeInterval() {
+        LatencyReservoir reservoir = new LatencyReservoir(4, 2);
+        for (int i = 1; i <= 4; i++) {
+            reservoir.record(i);
+        }
+        assertThat(reservoir.percentile(1.0)).isEqualTo(4L);
+
+        reservoir.record(100);
+        assertThat(reservoir.percentile(1.0)).isEqualTo(4L);
+
+        reservoir.record(200);
+        assertThat(reservoir.percentile(1.0)).isEqualTo(200L);
+    }
+}
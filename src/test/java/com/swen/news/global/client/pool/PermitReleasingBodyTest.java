@@ -0,0 +1,94 @@
+package com.swen.news.global.client.pool;
+
+import com.swen.news.global.resilience.ExternalApiGuard;
+import com.swen.news.global.resilience.ExternalApiRejectedException;
+import com.swen.news.global.resilience.ResilienceProperties;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 응답 본문을 닫는 경로(스트림, 리더, 본문)와 관계없이 허가를 한 번만 반환하는지 검증
+ *
+ * <p>동시 호출 한도 1인 실제 벌크헤드로 확인합니다. 두 번 반환되면 슬롯이 늘어나 두 번째 획득도 성공합니다.
+ */
+class PermitReleasingBodyTest {
+
+    private static final String CLIENT = "clova-voice";
+    private static final byte[] AUDIO = "mp3-bytes".getBytes(StandardCharsets.UTF_8);
+
+    private ExternalApiGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceProperties.Policy policy = new ResilienceProperties.Policy();
+        policy.setMaxConcurrentCalls(1);
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.getClients().put(CLIENT, policy);
+        guard = new ExternalApiGuard(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void holdsPermitUntilStreamIsClosed() throws Exception {
+        PooledFeignClient.PermitReleasingBody body = body();
+        InputStream stream = body.asInputStream();
+        assertThat(stream.readAllBytes()).isEqualTo(AUDIO);
+
+        // 다 읽었어도 닫기 전까지는 동시 호출 수에 포함
+        assertRejected();
+        stream.close();
+        stream.close();
+        body.close();
+
+        assertReleasedOnce();
+    }
+
+    @Test
+    void releasesOnceWhenReaderIsClosed() throws Exception {
+        PooledFeignClient.PermitReleasingBody body = body();
+        try (Reader reader = body.asReader(StandardCharsets.UTF_8)) {
+            assertThat(reader.read()).isEqualTo('m');
+        }
+        body.close();
+
+        assertReleasedOnce();
+    }
+
+    @Test
+    void releasesOnceWhenBodyIsClosedWithoutReading() throws Exception {
+        PooledFeignClient.PermitReleasingBody body = body();
+        body.close();
+        body.close();
+
+        assertReleasedOnce();
+    }
+
+    private PooledFeignClient.PermitReleasingBody body() {
+        Request request = Request.create(Request.HttpMethod.POST, "https://naveropenapi.apigw.ntruss.com/tts-premium/v1/tts",
+            Map.of(), null, StandardCharsets.UTF_8, null);
+        Response response = Response.builder().status(200).request(request).body(AUDIO).build();
+        return new PooledFeignClient.PermitReleasingBody(response.body(), guard.acquire(CLIENT), response.status());
+    }
+
+    private void assertRejected() {
+        assertThatThrownBy(() -> guard.acquire(CLIENT)).isInstanceOf(ExternalApiRejectedException.class);
+    }
+
+    /**
+     * 슬롯이 정확히 하나 돌아왔으면 한 번은 획득되고 그다음은 거절됨
+     */
+    private void assertReleasedOnce() {
+        guard.acquire(CLIENT);
+        assertRejected();
+    }
+}
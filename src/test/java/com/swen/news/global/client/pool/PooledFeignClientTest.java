@@ -0,0 +1,161 @@
+package com.swen.news.global.client.pool;
+
+import com.sun.net.httpserver.HttpServer;
+import com.swen.news.global.resilience.ExternalApiGuard;
+import com.swen.news.global.resilience.ResilienceProperties;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 클라이언트별 풀 설정(기본값/개별 설정), 클라이언트 이름별 풀 생성, keep-alive 연결 재사용, 본문 없는 응답/연결 실패 시 허가 반환 검증
+ *
+ * <p>루프백의 JDK HttpServer로 실제 연결을 맺습니다. 응답 본문은 서버가 본 클라이언트 포트이므로 같으면 같은 연결입니다.
+ */
+@Timeout(10)
+class PooledFeignClientTest {
+
+    private static final String NEWS_CLIENT = "naver-news-client";
+    private static final String VOICE_CLIENT = "clova-voice-client";
+    private static final Request.Options OPTIONS = new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpServer server;
+    private String baseUrl;
+    private PooledFeignClient pooledFeignClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/port", exchange -> {
+            byte[] body = String.valueOf(exchange.getRemoteAddress().getPort()).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/empty", exchange -> {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        FeignPoolProperties.Pool newsPool = new FeignPoolProperties.Pool();
+        newsPool.setMaxConnections(30);
+        FeignPoolProperties properties = new FeignPoolProperties();
+        properties.getClients().put(NEWS_CLIENT, newsPool);
+
+        // 동시 호출 한도 1이므로 허가가 반환되지 않으면 다음 호출이 거절됨
+        ResilienceProperties.Policy policy = new ResilienceProperties.Policy();
+        policy.setMaxConcurrentCalls(1);
+        ResilienceProperties resilienceProperties = new ResilienceProperties();
+        resilienceProperties.getClients().put(NEWS_CLIENT, policy);
+        resilienceProperties.getClients().put(VOICE_CLIENT, policy);
+
+        pooledFeignClient = new PooledFeignClient(properties, meterRegistry,
+            new ExternalApiGuard(resilienceProperties, meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pooledFeignClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void unconfiguredClientUsesDefaultPool() {
+        FeignPoolProperties.Pool configured = new FeignPoolProperties.Pool();
+        configured.setMaxConnections(30);
+        configured.setKeepAliveSeconds(15);
+        FeignPoolProperties properties = new FeignPoolProperties();
+        properties.getClients().put(NEWS_CLIENT, configured);
+
+        assertThat(properties.poolFor(NEWS_CLIENT)).isSameAs(configured);
+
+        FeignPoolProperties.Pool defaults = properties.poolFor(VOICE_CLIENT);
+        assertThat(defaults.getMaxConnections()).isEqualTo(20);
+        assertThat(defaults.getKeepAliveSeconds()).isEqualTo(30L);
+        assertThat(defaults.getTimeToLiveSeconds()).isEqualTo(300L);
+        assertThat(defaults.getIdleEvictSeconds()).isEqualTo(60L);
+        assertThat(defaults.getValidateAfterInactivityMs()).isEqualTo(2000L);
+    }
+
+    @Test
+    void eachClientGetsItsOwnSizedPool() throws IOException {
+        read(NEWS_CLIENT, "/port");
+        read(NEWS_CLIENT, "/port");
+        read(VOICE_CLIENT, "/port");
+
+        assertThat(maxConnections(NEWS_CLIENT)).isEqualTo(30.0);
+        assertThat(maxConnections(VOICE_CLIENT)).isEqualTo(20.0);
+        assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.max").gauges()).hasSize(2);
+    }
+
+    @Test
+    void sequentialCallsReuseKeepAliveConnection() throws IOException {
+        String first = read(NEWS_CLIENT, "/port");
+        String second = read(NEWS_CLIENT, "/port");
+        String otherClient = read(VOICE_CLIENT, "/port");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(otherClient).isNotEqualTo(first);
+    }
+
+    @Test
+    void responseWithoutBodyReleasesPermitImmediately() throws IOException {
+        Response response = pooledFeignClient.execute(request(NEWS_CLIENT, baseUrl + "/empty"), OPTIONS);
+        assertThat(response.status()).isEqualTo(204);
+
+        assertThat(read(NEWS_CLIENT, "/port")).isNotBlank();
+    }
+
+    @Test
+    void connectionFailureReleasesPermitAndPropagates() throws IOException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = socket.getLocalPort();
+        }
+
+        assertThatThrownBy(() -> pooledFeignClient.execute(request(NEWS_CLIENT, "http://127.0.0.1:" + closedPort + "/port"), OPTIONS))
+            .isInstanceOf(IOException.class);
+
+        assertThat(read(NEWS_CLIENT, "/port")).isNotBlank();
+    }
+
+    private String read(String clientName, String path) throws IOException {
+        Response response = pooledFeignClient.execute(request(clientName, baseUrl + path), OPTIONS);
+        try (InputStream body = response.body().asInputStream()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private double maxConnections(String clientName) {
+        return meterRegistry.get("httpcomponents.httpclient.pool.total.max").tag("client", clientName).gauge().value();
+    }
+
+    private static Request request(String clientName, String url) {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(Object.class, clientName, url));
+        return Request.create(Request.HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, template);
+    }
+}
@@ -0,0 +1,110 @@
+package com.swen.news.global.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스케줄 락 동작 검증 (H2 인메모리 DB, MySQL 호환 모드)
+ */
+class SchedulerLockTest {
+
+    private static final String LOCK_NAME = "news-embedding-batch";
+
+    private JdbcTemplate jdbcTemplate;
+    private SchedulerLock replicaA;
+    private SchedulerLock replicaB;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:scheduler-lock;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS scheduler_locks");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V7__Create_scheduler_locks_table.sql"))
+            .execute(dataSource);
+
+        replicaA = new SchedulerLock(jdbcTemplate, "replica-a");
+        replicaB = new SchedulerLock(jdbcTemplate, "replica-b");
+    }
+
+    @Test
+    void executesTaskWhenLockIsFree() {
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        boolean result = replicaA.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO, () -> executed.set(true));
+
+        assertThat(result).isTrue();
+        assertThat(executed).isTrue();
+    }
+
+    @Test
+    void skipsWhileAnotherReplicaHoldsLock() {
+        AtomicBoolean nestedResult = new AtomicBoolean(true);
+        AtomicInteger executions = new AtomicInteger();
+
+        replicaA.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO, () -> {
+            executions.incrementAndGet();
+            nestedResult.set(replicaB.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO,
+                executions::incrementAndGet));
+        });
+
+        assertThat(nestedResult).isFalse();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void keepsLockForAtLeastDurationAfterTaskEnds() {
+        replicaA.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ofMinutes(5), () -> { });
+
+        boolean result = replicaB.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO, () -> { });
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void releasesLockImmediatelyWithoutMinimumDuration() {
+        replicaA.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO, () -> { });
+
+        boolean result = replicaB.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO, () -> { });
+
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void takesOverExpiredLockOfCrashedReplica() {
+        Instant past = Instant.now().minus(Duration.ofHours(2));
+        jdbcTemplate.update("INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by) VALUES (?, ?, ?, ?)",
+            LOCK_NAME, Timestamp.from(past.plus(Duration.ofHours(1))), Timestamp.from(past), "crashed-replica");
+
+        boolean result = replicaB.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO, () -> { });
+
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void releasesLockWhenTaskFails() {
+        try {
+            replicaA.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO, () -> {
+                throw new IllegalStateException("배치 실패");
+            });
+        } catch (IllegalStateException ignored) {
+            // 작업 예외는 호출 측으로 전달됨
+        }
+
+        boolean result = replicaB.executeWithLock(LOCK_NAME, Duration.ofMinutes(10), Duration.ZERO, () -> { });
+
+        assertThat(result).isTrue();
+    }
+}
@@ -0,0 +1,102 @@
+package com.swen.news.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 버킷의 버스트, 배치 예약분, 우선순위 대기열 검증
+ */
+@Timeout(10)
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void allowsBurstThenDenies() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0.1, 3, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(RequestPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(limiter.waiters()).isEqualTo(0);
+    }
+
+    @Test
+    void batchLeavesReserveForInteractive() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0.1, 3, 1);
+
+        assertThat(limiter.tryAcquire(RequestPriority.BATCH, 0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.BATCH, 0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.BATCH, 0, TimeUnit.MILLISECONDS)).isFalse();
+
+        assertThat(limiter.tryAcquire(RequestPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    void interactiveWaiterIsServedBeforeEarlierBatchWaiter() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 1, 0);
+        assertThat(limiter.tryAcquire(RequestPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS)).isTrue();
+
+        CompletableFuture<Boolean> batch = limiter.acquireAsync(RequestPriority.BATCH, 5, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> interactive = limiter.acquireAsync(RequestPriority.INTERACTIVE, 5, TimeUnit.SECONDS);
+        assertThat(limiter.waiters()).isEqualTo(2);
+
+        // 다음 토큰(약 200ms 후)은 나중에 온 사용자 요청이 받고, 배치는 그 다음 토큰을 받음
+        assertThat(interactive.get(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(batch.isDone()).isFalse();
+        assertThat(batch.get(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.waiters()).isEqualTo(0);
+    }
+
+    @Test
+    void asyncWaiterTimesOutWithFalse() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0.1, 1, 0);
+        assertThat(limiter.tryAcquire(RequestPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS)).isTrue();
+
+        CompletableFuture<Boolean> result = limiter.acquireAsync(RequestPriority.INTERACTIVE, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(result.get(2, TimeUnit.SECONDS)).isFalse();
+        assertThat(limiter.waiters()).isEqualTo(0);
+    }
+
+    @Test
+    void asyncWithoutTimeoutCompletesImmediately() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0.1, 1, 0);
+
+        assertThat(limiter.acquireAsync(RequestPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS).join()).isTrue();
+        assertThat(limiter.acquireAsync(RequestPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS).join()).isFalse();
+        assertThat(limiter.waiters()).isEqualTo(0);
+    }
+
+    @Test
+    void blockingWaiterIsWokenByRefill() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(20, 1, 0);
+        assertThat(limiter.tryAcquire(RequestPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        boolean acquired = limiter.tryAcquire(RequestPriority.INTERACTIVE, 1, TimeUnit.SECONDS);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(acquired).isTrue();
+        assertThat(waitedMillis).isBetween(20L, 900L);
+    }
+
+    @Test
+    void expiredWaitersLeaveBothQueues() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0.1, 2, 0);
+        assertThat(limiter.tryAcquire(RequestPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.INTERACTIVE, 0, TimeUnit.MILLISECONDS)).isTrue();
+
+        CompletableFuture<Boolean> interactive = limiter.acquireAsync(RequestPriority.INTERACTIVE, 50, TimeUnit.MILLISECONDS);
+        CompletableFuture<Boolean> batch = limiter.acquireAsync(RequestPriority.BATCH, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(interactive.get(2, TimeUnit.SECONDS)).isFalse();
+        assertThat(batch.get(2, TimeUnit.SECONDS)).isFalse();
+        assertThat(limiter.waiters()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,115 @@
+package com.swen.news.global.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 실패 응답 집계와 서킷 열림, 벌크헤드 즉시 거절, 비활성화 시 허가 생략 검증
+ */
+@Timeout(10)
+class ExternalApiGuardTest {
+
+    private static final String CLIENT = "naver-news";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ResilienceProperties properties;
+    private ExternalApiGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        // 최근 4건 중 절반 이상 실패하면 서킷 열림, 동시 호출 2건
+        ResilienceProperties.Policy policy = new ResilienceProperties.Policy();
+        policy.setSlidingWindowSize(4);
+        policy.setMinimumNumberOfCalls(4);
+        policy.setWaitInOpenStateMs(60000);
+        policy.setMaxConcurrentCalls(2);
+
+        properties = new ResilienceProperties();
+        properties.getClients().put(CLIENT, policy);
+        guard = new ExternalApiGuard(properties, meterRegistry);
+    }
+
+    @Test
+    void serverErrorsAndTooManyRequestsOpenCircuit() {
+        respond(503);
+        respond(429);
+        respond(200);
+        respond(200);
+
+        assertThatThrownBy(() -> guard.acquire(CLIENT))
+            .isInstanceOf(ExternalApiRejectedException.class)
+            .extracting("clientName").isEqualTo(CLIENT);
+    }
+
+    @Test
+    void ioErrorsCountAsFailures() {
+        guard.acquire(CLIENT).onError(new IOException("연결 끊김"));
+        guard.acquire(CLIENT).onError(new IOException("읽기 타임아웃"));
+        respond(200);
+        respond(200);
+
+        assertThatThrownBy(() -> guard.acquire(CLIENT)).isInstanceOf(ExternalApiRejectedException.class);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        respond(400);
+        respond(404);
+        respond(401);
+        respond(200);
+
+        guard.acquire(CLIENT).onResponse(200);
+    }
+
+    @Test
+    void fullBulkheadRejectsWithoutWaiting() {
+        ExternalApiGuard.Permit first = guard.acquire(CLIENT);
+        guard.acquire(CLIENT);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> guard.acquire(CLIENT)).isInstanceOf(ExternalApiRejectedException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100L);
+
+        // 결과를 알리면 슬롯이 반환되어 다시 허가
+        first.onResponse(200);
+        guard.acquire(CLIENT);
+    }
+
+    @Test
+    void rejectionByOpenCircuitDoesNotHoldBulkheadSlot() {
+        for (int i = 0; i < 4; i++) {
+            respond(500);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> guard.acquire(CLIENT)).isInstanceOf(ExternalApiRejectedException.class);
+        }
+
+        // 서킷 거절마다 벌크헤드 슬롯을 돌려주므로 동시 호출 한도가 그대로 남아 있음
+        assertThat(meterRegistry.get("resilience4j.bulkhead.available.concurrent.calls")
+            .tag("name", CLIENT).gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void disabledGuardReturnsNoOpPermit() {
+        properties.setEnabled(false);
+
+        ExternalApiGuard.Permit permit = guard.acquire(CLIENT);
+        for (int i = 0; i < 10; i++) {
+            assertThat(guard.acquire(CLIENT)).isSameAs(permit);
+        }
+        permit.onResponse(503);
+        permit.onError(new IOException("연결 끊김"));
+    }
+
+    private void respond(int status) {
+        guard.acquire(CLIENT).onResponse(status);
+    }
+}
@@ -0,0 +1,195 @@
+package com.swen.news.global.service;
+
+import com.swen.news.domain.news.exception.NewsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 음성 스트림 업로드의 단일/멀티파트 분기, 파트 분할, 실패 시 멀티파트 중단 검증
+ */
+class ObjectStorageServiceTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final String UPLOAD_ID = "upload-1";
+
+    private final List<String> calls = new ArrayList<>();
+    private final List<byte[]> uploadedParts = new ArrayList<>();
+    private final List<CompletedPart> completedParts = new ArrayList<>();
+    private byte[] putBody;
+    private Long putContentLength;
+    private int failOnPart = -1;
+
+    private ObjectStorageService objectStorageService;
+
+    @BeforeEach
+    void setUp() {
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            calls.add("put");
+            putContentLength = invocation.<PutObjectRequest>getArgument(0).contentLength();
+            putBody = read(invocation.getArgument(1));
+            return PutObjectResponse.builder().build();
+        });
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            calls.add("create");
+            return CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build();
+        });
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            calls.add("part-" + request.partNumber());
+            if (request.partNumber() == failOnPart) {
+                throw S3Exception.builder().message("파트 업로드 실패").statusCode(500).build();
+            }
+            byte[] part = read(invocation.getArgument(1));
+            assertThat(request.contentLength()).isEqualTo((long) part.length);
+            uploadedParts.add(part);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            calls.add("complete");
+            completedParts.addAll(invocation.<CompleteMultipartUploadRequest>getArgument(0).multipartUpload().parts());
+            return CompleteMultipartUploadResponse.builder().build();
+        });
+        when(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            calls.add("abort:" + invocation.<AbortMultipartUploadRequest>getArgument(0).uploadId());
+            return AbortMultipartUploadResponse.builder().build();
+        });
+
+        objectStorageService = new ObjectStorageService(s3Client);
+        ReflectionTestUtils.setField(objectStorageService, "bucketName", "swen-audio");
+        ReflectionTestUtils.setField(objectStorageService, "endpoint", "https://kr.object.ncloudstorage.com");
+        ReflectionTestUtils.setField(objectStorageService, "partSizeMb", 5);
+    }
+
+    @Test
+    void streamLongerThanContentLengthIsUploadedWhole() {
+        byte[] audio = randomBytes(100_000);
+
+        String url = objectStorageService.uploadAudioStream(new ByteArrayInputStream(audio), 1_000L);
+
+        assertThat(calls).containsExactly("put");
+        assertThat(putContentLength).isEqualTo((long) audio.length);
+        assertThat(putBody).isEqualTo(audio);
+        assertThat(url).startsWith("https://kr.object.ncloudstorage.com/swen-audio/audio/").endsWith(".mp3");
+    }
+
+    @Test
+    void exactlyOnePartIsUploadedAsSinglePartMultipart() {
+        byte[] audio = randomBytes(PART_SIZE);
+
+        objectStorageService.uploadAudioStream(new ByteArrayInputStream(audio), (long) PART_SIZE);
+
+        assertThat(calls).containsExactly("create", "part-1", "complete");
+        assertThat(uploadedParts).hasSize(1);
+        assertThat(uploadedParts.get(0)).isEqualTo(audio);
+        assertThat(completedParts).hasSize(1);
+    }
+
+    @Test
+    void longStreamIsSplitIntoPartsInOrder() {
+        byte[] audio = randomBytes(PART_SIZE * 2 + 123);
+
+        // 길이를 모르고 조금씩 읽히는 스트림
+        objectStorageService.uploadAudioStream(new TrickleInputStream(audio), null);
+
+        assertThat(calls).containsExactly("create", "part-1", "part-2", "part-3", "complete");
+        assertThat(uploadedParts.stream().map(part -> part.length).toList())
+            .containsExactly(PART_SIZE, PART_SIZE, 123);
+        assertThat(concat(uploadedParts)).isEqualTo(audio);
+        assertThat(completedParts.stream().map(part -> part.partNumber() + ":" + part.eTag()).toList())
+            .containsExactly("1:etag-1", "2:etag-2", "3:etag-3");
+    }
+
+    @Test
+    void failedPartAbortsMultipartUpload() {
+        failOnPart = 2;
+
+        assertThatThrownBy(() -> objectStorageService.uploadAudioStream(
+            new ByteArrayInputStream(randomBytes(PART_SIZE * 2 + 1)), null))
+            .isInstanceOf(NewsException.class);
+
+        assertThat(calls).containsExactly("create", "part-1", "part-2", "abort:" + UPLOAD_ID);
+    }
+
+    @Test
+    void streamErrorAfterFirstPartAbortsMultipartUpload() {
+        InputStream broken = new InputStream() {
+            private int remaining = PART_SIZE;
+
+            @Override
+            public int read() throws IOException {
+                if (remaining-- > 0) {
+                    return 1;
+                }
+                throw new IOException("TTS 응답 끊김");
+            }
+        };
+
+        assertThatThrownBy(() -> objectStorageService.uploadAudioStream(broken, null))
+            .isInstanceOf(NewsException.class);
+
+        assertThat(calls).containsExactly("create", "part-1", "abort:" + UPLOAD_ID);
+    }
+
+    private static byte[] read(RequestBody body) throws IOException {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] concat(List<byte[]> parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parts.forEach(out::writeBytes);
+        return out.toByteArray();
+    }
+
+    /**
+     * 한 번에 최대 8KB씩만 돌려주는 스트림 (네트워크 응답 본문처럼)
+     */
+    private static final class TrickleInputStream extends ByteArrayInputStream {
+
+        private TrickleInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 8192));
+        }
+    }
+}